@@ -0,0 +1,126 @@
+package dev.tomislavmiksik.phoenixbe.benchmark;
+
+import dev.tomislavmiksik.phoenixbe.audit.ApiKeyAuditEvent;
+import dev.tomislavmiksik.phoenixbe.audit.ApiKeyAuditRecorder;
+import dev.tomislavmiksik.phoenixbe.audit.AuditOverflowPolicy;
+import dev.tomislavmiksik.phoenixbe.audit.MpscRingBuffer;
+import dev.tomislavmiksik.phoenixbe.entity.ApiKey;
+import dev.tomislavmiksik.phoenixbe.ratelimit.ApiKeyRateLimiter;
+import dev.tomislavmiksik.phoenixbe.security.ApiKeyAuthenticationFilter;
+import dev.tomislavmiksik.phoenixbe.util.ApiKeyGenerator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import jakarta.servlet.ServletException;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * API key hashing and the full {@link ApiKeyAuthenticationFilter} pass, with the repository
+ * replaced by a map so the lookup cost is the hash and the filter's own work.
+ * <p>
+ * The filter benchmarks include allocating the mock request and response, which
+ * {@code createRequestOnly} measures on its own for subtraction. Audit events for valid keys go to
+ * the real ring buffer, which is drained after every call the way the background writer would.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ApiKeyAuthenticationBenchmark {
+
+    private static final String HEADER = "X-API-KEY";
+    private static final String PATH = "/api/measurements";
+
+    @Param({"1000"})
+    private int storedKeys;
+
+    private ApiKeyAuthenticationFilter filter;
+    private MpscRingBuffer<ApiKeyAuditEvent> auditBuffer;
+    private String validKey;
+    private String unknownKey;
+
+    @Setup
+    public void setUp() {
+        Map<String, ApiKey> keysByHash = new HashMap<>();
+        for (int i = 0; i < storedKeys; i++) {
+            String rawKey = ApiKeyGenerator.generateKey();
+            String keyHash = DigestUtils.sha256Hex(rawKey);
+            keysByHash.put(keyHash, ApiKey.builder()
+                    .id((long) i + 1)
+                    .keyHash(keyHash)
+                    .label("key-" + i)
+                    .createdAt(Instant.now())
+                    .active(true)
+                    .build());
+            validKey = rawKey;
+        }
+        unknownKey = ApiKeyGenerator.generateKey();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        auditBuffer = new MpscRingBuffer<>(1024);
+        ApiKeyAuditRecorder auditRecorder = new ApiKeyAuditRecorder(
+                auditBuffer, AuditOverflowPolicy.DROP, Duration.ZERO, meterRegistry);
+        // A rate high enough never to reject, so the check's own cost is included
+        ApiKeyRateLimiter rateLimiter = new ApiKeyRateLimiter(1_000_000_000, 1_000_000_000, null, meterRegistry);
+        filter = new ApiKeyAuthenticationFilter(BenchmarkFixtures.apiKeyRepository(keysByHash),
+                auditRecorder, rateLimiter, meterRegistry, ObservationRegistry.NOOP);
+    }
+
+    @Benchmark
+    public String hashKey() {
+        return DigestUtils.sha256Hex(validKey);
+    }
+
+    @Benchmark
+    public MockHttpServletRequest createRequestOnly() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", PATH);
+        request.addHeader(HEADER, validKey);
+        return request;
+    }
+
+    @Benchmark
+    public int filterValidKey() throws ServletException, IOException {
+        return authenticate(validKey);
+    }
+
+    @Benchmark
+    public int filterUnknownKey() throws ServletException, IOException {
+        return authenticate(unknownKey);
+    }
+
+    private int authenticate(String key) throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", PATH);
+        request.addHeader(HEADER, key);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        try {
+            filter.doFilter(request, response, new MockFilterChain());
+            return response.getStatus();
+        } finally {
+            SecurityContextHolder.clearContext();
+            auditBuffer.drain(event -> { }, Integer.MAX_VALUE);
+        }
+    }
+}
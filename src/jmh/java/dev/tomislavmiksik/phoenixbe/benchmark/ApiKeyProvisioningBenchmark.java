@@ -0,0 +1,71 @@
+package dev.tomislavmiksik.phoenixbe.benchmark;
+
+import dev.tomislavmiksik.phoenixbe.service.AdminServiceImpl;
+import dev.tomislavmiksik.phoenixbe.util.ApiKeyGenerator;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Generating and hashing a bulk provisioning batch the way {@link AdminServiceImpl#provisionApiKeys}
+ * does (striped DRBGs, parallel streams), compared with one shared DRBG and a sequential loop. The
+ * batched insert isn't included; it needs a database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ApiKeyProvisioningBenchmark {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    @Param({"10000"})
+    private int count;
+
+    private SecureRandom sharedRandom;
+
+    @Setup
+    public void setUp() throws NoSuchAlgorithmException {
+        sharedRandom = SecureRandom.getInstance("DRBG");
+    }
+
+    @Benchmark
+    public List<String> sharedSequential() {
+        List<String> keyHashes = new ArrayList<>(count);
+        byte[] buffer = new byte[32];
+        for (int i = 0; i < count; i++) {
+            sharedRandom.nextBytes(buffer);
+            keyHashes.add(DigestUtils.sha256Hex(ENCODER.encodeToString(buffer)));
+        }
+        return keyHashes;
+    }
+
+    @Benchmark
+    public List<String> stripedParallel() {
+        List<String> rawKeys = IntStream.range(0, count).parallel()
+                .mapToObj(i -> ApiKeyGenerator.generateKey())
+                .toList();
+        return rawKeys.parallelStream()
+                .map(DigestUtils::sha256Hex)
+                .toList();
+    }
+}
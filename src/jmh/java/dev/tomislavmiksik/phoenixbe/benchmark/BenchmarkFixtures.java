@@ -0,0 +1,136 @@
+package dev.tomislavmiksik.phoenixbe.benchmark;
+
+import dev.tomislavmiksik.phoenixbe.entity.ApiKey;
+import dev.tomislavmiksik.phoenixbe.entity.Measurement;
+import dev.tomislavmiksik.phoenixbe.entity.User;
+import dev.tomislavmiksik.phoenixbe.repository.ApiKeyRepository;
+import dev.tomislavmiksik.phoenixbe.repository.MeasurementRepository;
+import dev.tomislavmiksik.phoenixbe.repository.UserRepository;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * In-memory stand-ins for the repositories and sample data shared by the benchmarks.
+ * <p>
+ * The repositories are dynamic proxies that implement only the methods the benchmarked code calls,
+ * so the numbers measure application code rather than JPA and the database.
+ */
+final class BenchmarkFixtures {
+
+    static final String JWT_SECRET = "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970";
+    static final long JWT_EXPIRATION_MS = 3600000;
+    static final String USERNAME = "benchmark-user";
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * Api key repository backed by a map of key hash to key.
+     *
+     * @param keysByHash the keys by hash
+     * @return the api key repository
+     */
+    static ApiKeyRepository apiKeyRepository(Map<String, ApiKey> keysByHash) {
+        return repository(ApiKeyRepository.class, (method, args) -> switch (method) {
+            case "findByKeyHashAndActiveTrue" -> Optional.ofNullable(keysByHash.get((String) args[0]))
+                    .filter(ApiKey::isActive);
+            case "recordUse" -> null;
+            default -> throw new UnsupportedOperationException(method);
+        });
+    }
+
+    /**
+     * Measurement repository that returns the same list for every user.
+     *
+     * @param measurements the measurements
+     * @return the measurement repository
+     */
+    static MeasurementRepository measurementRepository(List<Measurement> measurements) {
+        return repository(MeasurementRepository.class, (method, args) -> switch (method) {
+            case "findByUserIdOrderByMeasurementDateDesc" -> measurements;
+            case "findTop10ByUserIdOrderByMeasurementDateDesc" -> measurements.subList(0, Math.min(10, measurements.size()));
+            default -> throw new UnsupportedOperationException(method);
+        });
+    }
+
+    /**
+     * User repository that knows a single user.
+     *
+     * @param user the user
+     * @return the user repository
+     */
+    static UserRepository userRepository(User user) {
+        return repository(UserRepository.class, (method, args) -> switch (method) {
+            case "findByUsername" -> Optional.of(user).filter(u -> u.getUsername().equals(args[0]));
+            default -> throw new UnsupportedOperationException(method);
+        });
+    }
+
+    /**
+     * Build a user with the benchmark username.
+     *
+     * @return the user
+     */
+    static User user() {
+        return User.builder()
+                .id(1L)
+                .username(USERNAME)
+                .email(USERNAME + "@example.com")
+                .password("not-used")
+                .build();
+    }
+
+    /**
+     * Build measurements with every optional field populated, newest first.
+     *
+     * @param user  the owner
+     * @param count the count
+     * @return the measurements
+     */
+    static List<Measurement> measurements(User user, int count) {
+        LocalDateTime start = LocalDateTime.of(2025, 1, 1, 8, 0);
+        List<Measurement> measurements = new ArrayList<>(count);
+        for (int i = count - 1; i >= 0; i--) {
+            LocalDateTime date = start.plusDays(i);
+            measurements.add(Measurement.builder()
+                    .id((long) i + 1)
+                    .user(user)
+                    .weight(BigDecimal.valueOf(8000 + i % 500, 2))
+                    .height(new BigDecimal("180.50"))
+                    .chestCircumference(BigDecimal.valueOf(10000 + i % 300, 2))
+                    .armCircumference(BigDecimal.valueOf(3500 + i % 100, 2))
+                    .legCircumference(BigDecimal.valueOf(5800 + i % 200, 2))
+                    .waistCircumference(BigDecimal.valueOf(8500 + i % 400, 2))
+                    .measurementDate(date)
+                    .createdAt(date)
+                    .updatedAt(date)
+                    .build());
+        }
+        return measurements;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T repository(Class<T> type, RepositoryMethod handler) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            if (method.getDeclaringClass() == Object.class) {
+                return switch (method.getName()) {
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> "InMemory" + type.getSimpleName();
+                };
+            }
+            return handler.invoke(method.getName(), args);
+        });
+    }
+
+    @FunctionalInterface
+    private interface RepositoryMethod {
+        Object invoke(String method, Object[] args);
+    }
+}
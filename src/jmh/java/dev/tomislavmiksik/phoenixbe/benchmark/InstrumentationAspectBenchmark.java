@@ -0,0 +1,88 @@
+package dev.tomislavmiksik.phoenixbe.benchmark;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import dev.tomislavmiksik.phoenixbe.aspect.InstrumentationAspect;
+import dev.tomislavmiksik.phoenixbe.dto.measurements.MeasurementResponse;
+import dev.tomislavmiksik.phoenixbe.entity.User;
+import dev.tomislavmiksik.phoenixbe.service.MeasurementService;
+import dev.tomislavmiksik.phoenixbe.service.MeasurementServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-call overhead of {@link InstrumentationAspect} on a service method, advised the same way the
+ * application context advises it, compared with calling the target directly.
+ * <p>
+ * {@code tracing} selects the aspect's state: {@code off} leaves DEBUG disabled (the production
+ * default), {@code sampled} enables DEBUG with a 1% sample rate and {@code all} traces every call.
+ * Log output goes to a no-op appender (see {@code logback.xml} in this source set), so the numbers
+ * include rendering and building log events but not I/O. Compare {@code gc.alloc.rate.norm} of
+ * {@code advised} and {@code direct} for the allocation cost.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InstrumentationAspectBenchmark {
+
+    @Param({"off", "sampled", "all"})
+    private String tracing;
+
+    private MeasurementService direct;
+    private MeasurementService advised;
+
+    @Setup
+    public void setUp() {
+        User user = BenchmarkFixtures.user();
+        direct = new MeasurementServiceImpl(
+                BenchmarkFixtures.measurementRepository(BenchmarkFixtures.measurements(user, 10)),
+                BenchmarkFixtures.userRepository(user));
+
+        double sampleRate = tracing.equals("all") ? 1.0 : 0.01;
+        ((Logger) LoggerFactory.getLogger(InstrumentationAspect.class))
+                .setLevel(tracing.equals("off") ? Level.INFO : Level.DEBUG);
+
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(direct);
+        proxyFactory.addAspect(new InstrumentationAspect(sampleRate, List.of("password", "secret", "token", "key")));
+        advised = proxyFactory.getProxy();
+
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(BenchmarkFixtures.USERNAME, null, Collections.emptyList()));
+    }
+
+    @TearDown
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public List<MeasurementResponse> direct() {
+        return direct.getRecentMeasurements(10);
+    }
+
+    @Benchmark
+    public List<MeasurementResponse> advised() {
+        return advised.getRecentMeasurements(10);
+    }
+}
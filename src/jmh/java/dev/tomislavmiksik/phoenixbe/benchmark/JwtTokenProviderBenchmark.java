@@ -0,0 +1,64 @@
+package dev.tomislavmiksik.phoenixbe.benchmark;
+
+import dev.tomislavmiksik.phoenixbe.security.JwtTokenProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token generation and verification, as done on every login and every admin request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtTokenProviderBenchmark {
+
+    private JwtTokenProvider jwtTokenProvider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtTokenProvider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(jwtTokenProvider, "jwtSecret", BenchmarkFixtures.JWT_SECRET);
+        ReflectionTestUtils.setField(jwtTokenProvider, "jwtExpirationMs", BenchmarkFixtures.JWT_EXPIRATION_MS);
+        token = jwtTokenProvider.generateToken(BenchmarkFixtures.USERNAME);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtTokenProvider.generateToken(BenchmarkFixtures.USERNAME);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtTokenProvider.validateToken(token);
+    }
+
+    @Benchmark
+    public String getUsernameFromToken() {
+        return jwtTokenProvider.getUsernameFromToken(token);
+    }
+
+    /**
+     * What {@code JwtAuthenticationFilter} does per request: validate, then parse again for the subject.
+     *
+     * @return the username
+     */
+    @Benchmark
+    public String authenticateRequest() {
+        return jwtTokenProvider.validateToken(token) ? jwtTokenProvider.getUsernameFromToken(token) : null;
+    }
+}
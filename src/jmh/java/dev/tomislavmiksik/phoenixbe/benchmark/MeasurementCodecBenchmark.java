@@ -0,0 +1,137 @@
+package dev.tomislavmiksik.phoenixbe.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.google.protobuf.InvalidProtocolBufferException;
+import dev.tomislavmiksik.phoenixbe.converter.MeasurementProtobufHttpMessageConverter;
+import dev.tomislavmiksik.phoenixbe.dto.measurements.MeasurementResponse;
+import dev.tomislavmiksik.phoenixbe.entity.User;
+import dev.tomislavmiksik.phoenixbe.proto.MeasurementList;
+import dev.tomislavmiksik.phoenixbe.service.MeasurementServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encode and decode cost of a measurement list in each negotiable format.
+ * <p>
+ * Payload sizes don't vary between iterations, so they are printed once per trial
+ * rather than measured. Protobuf decoding stops at the generated message, since the
+ * converter only maps request messages back to DTOs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MeasurementCodecBenchmark {
+
+    private static final TypeReference<List<MeasurementResponse>> RESPONSE_LIST = new TypeReference<>() {
+    };
+
+    @Param({"10", "100", "1000"})
+    private int size;
+
+    private List<MeasurementResponse> responses;
+    private ObjectMapper json;
+    private ObjectMapper cbor;
+    private ObjectMapper smile;
+
+    private byte[] jsonBytes;
+    private byte[] cborBytes;
+    private byte[] smileBytes;
+    private byte[] protobufBytes;
+
+    @Setup
+    public void setUp() throws IOException {
+        User user = BenchmarkFixtures.user();
+        MeasurementServiceImpl measurementService = new MeasurementServiceImpl(
+                BenchmarkFixtures.measurementRepository(BenchmarkFixtures.measurements(user, size)),
+                BenchmarkFixtures.userRepository(user));
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(BenchmarkFixtures.USERNAME, null, Collections.emptyList()));
+        try {
+            responses = measurementService.getAllMeasurements();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+
+        // Built the way ContentNegotiationConfig builds the MVC converters
+        json = mapperBuilder().build();
+        cbor = mapperBuilder().factory(new CBORFactory()).build();
+        smile = mapperBuilder().factory(new SmileFactory()).build();
+
+        jsonBytes = json.writeValueAsBytes(responses);
+        cborBytes = cbor.writeValueAsBytes(responses);
+        smileBytes = smile.writeValueAsBytes(responses);
+        protobufBytes = MeasurementProtobufHttpMessageConverter.toMessage(responses).toByteArray();
+
+        System.out.printf("%nPayload bytes for %d measurements: json=%d cbor=%d smile=%d protobuf=%d%n",
+                size, jsonBytes.length, cborBytes.length, smileBytes.length, protobufBytes.length);
+    }
+
+    @Benchmark
+    public byte[] encodeJson() throws IOException {
+        return json.writeValueAsBytes(responses);
+    }
+
+    @Benchmark
+    public byte[] encodeCbor() throws IOException {
+        return cbor.writeValueAsBytes(responses);
+    }
+
+    @Benchmark
+    public byte[] encodeSmile() throws IOException {
+        return smile.writeValueAsBytes(responses);
+    }
+
+    @Benchmark
+    public byte[] encodeProtobuf() {
+        return MeasurementProtobufHttpMessageConverter.toMessage(responses).toByteArray();
+    }
+
+    @Benchmark
+    public List<MeasurementResponse> decodeJson() throws IOException {
+        return json.readValue(jsonBytes, RESPONSE_LIST);
+    }
+
+    @Benchmark
+    public List<MeasurementResponse> decodeCbor() throws IOException {
+        return cbor.readValue(cborBytes, RESPONSE_LIST);
+    }
+
+    @Benchmark
+    public List<MeasurementResponse> decodeSmile() throws IOException {
+        return smile.readValue(smileBytes, RESPONSE_LIST);
+    }
+
+    @Benchmark
+    public MeasurementList decodeProtobuf() throws InvalidProtocolBufferException {
+        return MeasurementList.parseFrom(protobufBytes);
+    }
+
+    private static Jackson2ObjectMapperBuilder mapperBuilder() {
+        return Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+}
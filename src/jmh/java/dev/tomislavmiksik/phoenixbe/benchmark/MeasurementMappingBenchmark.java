@@ -0,0 +1,84 @@
+package dev.tomislavmiksik.phoenixbe.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import dev.tomislavmiksik.phoenixbe.dto.measurements.MeasurementResponse;
+import dev.tomislavmiksik.phoenixbe.entity.User;
+import dev.tomislavmiksik.phoenixbe.service.MeasurementService;
+import dev.tomislavmiksik.phoenixbe.service.MeasurementServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to DTO mapping in {@link MeasurementServiceImpl} and JSON serialization of the result,
+ * which together are the CPU cost of {@code GET /api/measurements} once the rows are loaded.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MeasurementMappingBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int size;
+
+    private MeasurementService measurementService;
+    private ObjectMapper objectMapper;
+    private List<MeasurementResponse> responses;
+
+    @Setup
+    public void setUp() {
+        User user = BenchmarkFixtures.user();
+        measurementService = new MeasurementServiceImpl(
+                BenchmarkFixtures.measurementRepository(BenchmarkFixtures.measurements(user, size)),
+                BenchmarkFixtures.userRepository(user));
+        // Same settings Boot applies to the MVC converter
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(BenchmarkFixtures.USERNAME, null, Collections.emptyList()));
+        responses = measurementService.getAllMeasurements();
+    }
+
+    @TearDown
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public List<MeasurementResponse> mapToResponses() {
+        return measurementService.getAllMeasurements();
+    }
+
+    @Benchmark
+    public byte[] serializeJson() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(responses);
+    }
+
+    @Benchmark
+    public byte[] mapAndSerializeJson() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(measurementService.getAllMeasurements());
+    }
+}
@@ -0,0 +1,157 @@
+package dev.tomislavmiksik.phoenixbe.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model load generator: requests are issued on a fixed schedule whether or not earlier
+ * ones have completed, and latency is measured from the scheduled send time. A slow server
+ * therefore shows up as queueing in the percentiles instead of silently lowering the rate.
+ */
+class LoadGenerator {
+
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient httpClient;
+    private final List<Scenario> scenarios;
+    private final int[] cumulativeWeights;
+
+    LoadGenerator(HttpClient httpClient, List<Scenario> scenarios) {
+        this.httpClient = httpClient;
+        this.scenarios = scenarios;
+        this.cumulativeWeights = new int[scenarios.size()];
+
+        int total = 0;
+        for (int i = 0; i < scenarios.size(); i++) {
+            total += scenarios.get(i).weight();
+            cumulativeWeights[i] = total;
+        }
+    }
+
+    /**
+     * Issue requests at the given rate for the given duration, then wait for the stragglers.
+     *
+     * @param rate the requests per second
+     * @param duration the duration
+     * @return the results by scenario name, in mix order
+     */
+    Map<String, ScenarioResult> run(int rate, Duration duration) {
+        Map<String, Recorder> recorders = new LinkedHashMap<>();
+        Map<String, Map<Integer, LongAdder>> statuses = new LinkedHashMap<>();
+        Map<String, LongAdder> failures = new LinkedHashMap<>();
+        for (Scenario scenario : scenarios) {
+            recorders.put(scenario.name(), new Recorder(3));
+            statuses.put(scenario.name(), new ConcurrentHashMap<>());
+            failures.put(scenario.name(), new LongAdder());
+        }
+
+        LongAdder outstanding = new LongAdder();
+        // Only the scheduling thread draws from it
+        Random random = new Random();
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+
+        for (long i = 0; ; i++) {
+            long intendedStart = start + i * intervalNanos;
+            if (intendedStart >= end) {
+                break;
+            }
+            long wait = intendedStart - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            Scenario scenario = pick(random);
+            Recorder recorder = recorders.get(scenario.name());
+            Map<Integer, LongAdder> statusCounts = statuses.get(scenario.name());
+            LongAdder failureCount = failures.get(scenario.name());
+
+            outstanding.increment();
+            httpClient.sendAsync(scenario.request().apply(random), HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        recorder.recordValue(System.nanoTime() - intendedStart);
+                        if (error != null) {
+                            failureCount.increment();
+                        } else {
+                            statusCounts.computeIfAbsent(response.statusCode(), status -> new LongAdder()).increment();
+                        }
+                        outstanding.decrement();
+                    });
+        }
+        long issuedUntil = System.nanoTime();
+
+        long drainDeadline = issuedUntil + DRAIN_TIMEOUT.toNanos();
+        while (outstanding.sum() > 0 && System.nanoTime() < drainDeadline) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+        }
+
+        Duration elapsed = Duration.ofNanos(issuedUntil - start);
+        Map<String, ScenarioResult> results = new LinkedHashMap<>();
+        for (Scenario scenario : scenarios) {
+            Map<Integer, Long> statusCounts = new TreeMap<>();
+            statuses.get(scenario.name()).forEach((status, count) -> statusCounts.put(status, count.sum()));
+            results.put(scenario.name(), new ScenarioResult(
+                    scenario.name(),
+                    recorders.get(scenario.name()).getIntervalHistogram(),
+                    statusCounts,
+                    failures.get(scenario.name()).sum(),
+                    elapsed));
+        }
+        return results;
+    }
+
+    private Scenario pick(Random random) {
+        int ticket = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (ticket < cumulativeWeights[i]) {
+                return scenarios.get(i);
+            }
+        }
+        throw new IllegalStateException("Weights exhausted");
+    }
+
+    /**
+     * Latency and outcome of one scenario over a run.
+     *
+     * @param name the scenario name
+     * @param latencies the latencies in nanoseconds, measured from the scheduled send time
+     * @param statuses the response count by HTTP status
+     * @param failures the requests that got no response (connect errors, timeouts)
+     * @param elapsed the time over which requests were issued
+     */
+    record ScenarioResult(String name,
+                          Histogram latencies,
+                          Map<Integer, Long> statuses,
+                          long failures,
+                          Duration elapsed) {
+
+        long requests() {
+            return latencies.getTotalCount();
+        }
+
+        long errors() {
+            return failures + statuses.entrySet().stream()
+                    .filter(entry -> entry.getKey() >= 400)
+                    .mapToLong(Map.Entry::getValue)
+                    .sum();
+        }
+
+        double throughput() {
+            return requests() / (elapsed.toNanos() / 1e9);
+        }
+    }
+}
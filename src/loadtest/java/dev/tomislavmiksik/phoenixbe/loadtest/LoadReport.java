@@ -0,0 +1,77 @@
+package dev.tomislavmiksik.phoenixbe.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Formats load test results as a plain-text table, one row per scenario plus a total.
+ */
+final class LoadReport {
+
+    private static final String ROW = "%-10s %9s %7s %9s %9s %9s %9s %9s%n";
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private LoadReport() {
+    }
+
+    /**
+     * Format the results.
+     *
+     * @param options the options the run used
+     * @param results the results by scenario
+     * @return the report
+     */
+    static String format(LoadTestOptions options, Map<String, LoadGenerator.ScenarioResult> results) {
+        StringBuilder report = new StringBuilder();
+        report.append("Target rate %d req/s for %ds after %ds warmup; %d users, %d API keys, %d measurements seeded%n"
+                .formatted(options.rate(), options.duration().toSeconds(), options.warmup().toSeconds(),
+                        options.users(), options.apiKeys(), options.history()));
+        report.append("Latency is measured from the scheduled send time, in milliseconds.%n%n".formatted());
+        report.append(ROW.formatted("scenario", "requests", "errors", "req/s", "p50", "p99", "p99.9", "max"));
+
+        Histogram total = null;
+        long totalErrors = 0;
+        double totalThroughput = 0;
+        Map<Integer, Long> totalStatuses = new TreeMap<>();
+        for (LoadGenerator.ScenarioResult result : results.values()) {
+            report.append(row(result.name(), result.latencies(), result.errors(), result.throughput()));
+
+            if (total == null) {
+                total = result.latencies().copy();
+            } else {
+                total.add(result.latencies());
+            }
+            totalErrors += result.errors();
+            totalThroughput += result.throughput();
+            result.statuses().forEach((status, count) -> totalStatuses.merge(status, count, Long::sum));
+        }
+        if (total != null) {
+            report.append(row("total", total, totalErrors, totalThroughput));
+        }
+
+        report.append("%nResponses by status: %s%n".formatted(totalStatuses));
+        long failures = results.values().stream().mapToLong(LoadGenerator.ScenarioResult::failures).sum();
+        if (failures > 0) {
+            report.append("Requests without a response: %d%n".formatted(failures));
+        }
+        return report.toString();
+    }
+
+    private static String row(String name, Histogram latencies, long errors, double throughput) {
+        return ROW.formatted(
+                name,
+                latencies.getTotalCount(),
+                errors,
+                "%.1f".formatted(throughput),
+                millis(latencies.getValueAtPercentile(50)),
+                millis(latencies.getValueAtPercentile(99)),
+                millis(latencies.getValueAtPercentile(99.9)),
+                millis(latencies.getMaxValue()));
+    }
+
+    private static String millis(long nanos) {
+        return "%.2f".formatted(nanos / NANOS_PER_MILLI);
+    }
+}
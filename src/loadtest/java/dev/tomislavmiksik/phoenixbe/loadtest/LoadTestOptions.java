@@ -0,0 +1,75 @@
+package dev.tomislavmiksik.phoenixbe.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Load test settings, read from {@code load.*} system properties (the Gradle task forwards
+ * {@code -Pload.*} project properties).
+ *
+ * @param rate the target request rate per second, across all scenarios
+ * @param warmup the warmup duration, whose results are discarded
+ * @param duration the measured duration
+ * @param users the number of seeded users that log in
+ * @param apiKeys the number of seeded API keys
+ * @param history the number of measurements seeded for the API key user
+ * @param mix the scenario weights, by scenario name
+ * @param report where the report is written
+ */
+record LoadTestOptions(int rate,
+                       Duration warmup,
+                       Duration duration,
+                       int users,
+                       int apiKeys,
+                       int history,
+                       Map<String, Integer> mix,
+                       Path report) {
+
+    static final String DEFAULT_MIX = "login=5,create=15,list=20,recent=40,range=10,summary=10";
+
+    /**
+     * Read the options from system properties, falling back to the defaults.
+     *
+     * @return the options
+     */
+    static LoadTestOptions fromSystemProperties() {
+        LoadTestOptions options = new LoadTestOptions(
+                Integer.getInteger("load.rate", 100),
+                Duration.ofSeconds(Integer.getInteger("load.warmup", 10)),
+                Duration.ofSeconds(Integer.getInteger("load.duration", 30)),
+                Integer.getInteger("load.users", 50),
+                Integer.getInteger("load.api-keys", 20),
+                Integer.getInteger("load.history", 200),
+                parseMix(System.getProperty("load.mix", DEFAULT_MIX)),
+                Path.of(System.getProperty("load.report", "build/reports/loadtest/report.txt")));
+
+        if (options.rate() <= 0 || options.users() <= 0 || options.apiKeys() <= 0 || options.history() < 0) {
+            throw new IllegalArgumentException("load.rate, load.users and load.api-keys must be positive, " +
+                    "load.history must not be negative");
+        }
+        return options;
+    }
+
+    private static Map<String, Integer> parseMix(String mix) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid load.mix entry '" + entry + "', expected name=weight");
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Scenario weight must not be negative: " + entry);
+            }
+            if (weight > 0) {
+                weights.put(parts[0].trim(), weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("load.mix must give at least one scenario a positive weight");
+        }
+        return weights;
+    }
+}
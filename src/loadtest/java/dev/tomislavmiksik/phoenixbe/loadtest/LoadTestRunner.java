@@ -0,0 +1,84 @@
+package dev.tomislavmiksik.phoenixbe.loadtest;
+
+import dev.tomislavmiksik.phoenixbe.PhoenixBeApplication;
+import dev.tomislavmiksik.phoenixbe.repository.ApiKeyRepository;
+import dev.tomislavmiksik.phoenixbe.repository.MeasurementRepository;
+import dev.tomislavmiksik.phoenixbe.repository.UserRepository;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+/**
+ * Boots the application on the {@code test} profile (H2, schema from the entities) on a random port,
+ * seeds it, and replays the configured scenario mix against it over HTTP.
+ * <p>
+ * Program arguments are passed to Spring, so application properties can be overridden per run,
+ * e.g. {@code ./gradlew loadTest --args='--spring.profiles.include=virtual'}.
+ */
+public class LoadTestRunner {
+
+    /**
+     * Run the load test.
+     *
+     * @param args the Spring application arguments
+     * @throws IOException if the report can't be written
+     */
+    public static void main(String[] args) throws IOException {
+        LoadTestOptions options = LoadTestOptions.fromSystemProperties();
+
+        // Passed as arguments so they win over application.properties, which activates dev on port 8080
+        String[] applicationArgs = Stream.concat(
+                        Stream.of("--spring.profiles.active=test", "--server.port=0", "--server.address=127.0.0.1"),
+                        Arrays.stream(args))
+                .toArray(String[]::new);
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(PhoenixBeApplication.class)
+                .run(applicationArgs);
+             ExecutorService clientExecutor = Executors.newVirtualThreadPerTaskExecutor()) {
+
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            System.out.printf("Application started on port %d, seeding%n", port);
+
+            LoadTestSeeder.SeedData seed = new LoadTestSeeder(
+                    context.getBean(UserRepository.class),
+                    context.getBean(ApiKeyRepository.class),
+                    context.getBean(MeasurementRepository.class),
+                    context.getBean(PasswordEncoder.class)).seed(options);
+
+            HttpClient httpClient = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .executor(clientExecutor)
+                    .build();
+            List<Scenario> scenarios = Scenario.forMix(URI.create("http://127.0.0.1:" + port), seed, options.mix());
+            LoadGenerator generator = new LoadGenerator(httpClient, scenarios);
+
+            System.out.printf("Warming up for %ds at %d req/s%n", options.warmup().toSeconds(), options.rate());
+            generator.run(options.rate(), options.warmup());
+
+            System.out.printf("Measuring for %ds at %d req/s%n", options.duration().toSeconds(), options.rate());
+            Map<String, LoadGenerator.ScenarioResult> results = generator.run(options.rate(), options.duration());
+
+            String report = LoadReport.format(options, results);
+            System.out.println();
+            System.out.print(report);
+
+            Files.createDirectories(options.report().toAbsolutePath().getParent());
+            Files.writeString(options.report(), report);
+            System.out.printf("%nReport written to %s%n", options.report().toAbsolutePath());
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package dev.tomislavmiksik.phoenixbe.loadtest;
+
+import dev.tomislavmiksik.phoenixbe.entity.ApiKey;
+import dev.tomislavmiksik.phoenixbe.entity.Measurement;
+import dev.tomislavmiksik.phoenixbe.entity.User;
+import dev.tomislavmiksik.phoenixbe.repository.ApiKeyRepository;
+import dev.tomislavmiksik.phoenixbe.repository.MeasurementRepository;
+import dev.tomislavmiksik.phoenixbe.repository.UserRepository;
+import dev.tomislavmiksik.phoenixbe.util.ApiKeyGenerator;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Seeds the database through the application's own repositories.
+ * <p>
+ * API key requests authenticate as {@value #API_KEY_USERNAME}, so that is the user whose
+ * measurement history the read scenarios see and the create scenario grows.
+ */
+@RequiredArgsConstructor
+class LoadTestSeeder {
+
+    static final String API_KEY_USERNAME = "api-key-user";
+    static final String PASSWORD = "LoadTest123!";
+
+    private final UserRepository userRepository;
+    private final ApiKeyRepository apiKeyRepository;
+    private final MeasurementRepository measurementRepository;
+    private final PasswordEncoder passwordEncoder;
+
+    /**
+     * Seed users, API keys and the API key user's measurement history.
+     *
+     * @param options the options
+     * @return the credentials the scenarios use
+     */
+    SeedData seed(LoadTestOptions options) {
+        // Hash once: every user shares the password, and BCrypt per user would dominate seeding
+        String passwordHash = passwordEncoder.encode(PASSWORD);
+
+        List<User> users = new ArrayList<>(options.users());
+        for (int i = 0; i < options.users(); i++) {
+            users.add(user("loadtest-user-" + i, passwordHash));
+        }
+        userRepository.saveAll(users);
+        User apiKeyUser = userRepository.save(user(API_KEY_USERNAME, passwordHash));
+
+        List<String> rawKeys = new ArrayList<>(options.apiKeys());
+        List<ApiKey> apiKeys = new ArrayList<>(options.apiKeys());
+        for (int i = 0; i < options.apiKeys(); i++) {
+            String rawKey = ApiKeyGenerator.generateKey();
+            rawKeys.add(rawKey);
+            apiKeys.add(ApiKey.builder()
+                    .keyHash(DigestUtils.sha256Hex(rawKey))
+                    .label("loadtest-key-" + i)
+                    .createdAt(Instant.now())
+                    .active(true)
+                    .build());
+        }
+        apiKeyRepository.saveAll(apiKeys);
+
+        measurementRepository.saveAll(history(apiKeyUser, options.history()));
+
+        return new SeedData(users.stream().map(User::getUsername).toList(), PASSWORD, rawKeys);
+    }
+
+    private static User user(String username, String passwordHash) {
+        return User.builder()
+                .username(username)
+                .email(username + "@loadtest.local")
+                .password(passwordHash)
+                .build();
+    }
+
+    private static List<Measurement> history(User user, int size) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        LocalDateTime now = LocalDateTime.now();
+        List<Measurement> measurements = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            measurements.add(Measurement.builder()
+                    .user(user)
+                    .weight(BigDecimal.valueOf(random.nextInt(6000, 11000), 2))
+                    .height(BigDecimal.valueOf(random.nextInt(16000, 20000), 2))
+                    .chestCircumference(BigDecimal.valueOf(random.nextInt(8000, 12000), 2))
+                    .waistCircumference(BigDecimal.valueOf(random.nextInt(7000, 11000), 2))
+                    .measurementDate(now.minusDays(i))
+                    .build());
+        }
+        return measurements;
+    }
+
+    /**
+     * Credentials handed to the scenarios.
+     *
+     * @param usernames the usernames that can log in
+     * @param password  the shared password
+     * @param apiKeys   the raw API keys
+     */
+    record SeedData(List<String> usernames, String password, List<String> apiKeys) {
+    }
+}
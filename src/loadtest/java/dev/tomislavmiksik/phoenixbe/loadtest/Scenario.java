@@ -0,0 +1,83 @@
+package dev.tomislavmiksik.phoenixbe.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Function;
+
+/**
+ * A named request shape with its share of the traffic.
+ *
+ * @param name    the name
+ * @param weight  the weight relative to the other scenarios
+ * @param request builds a request, randomizing credentials and payload
+ */
+record Scenario(String name, int weight, Function<Random, HttpRequest> request) {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    /**
+     * Build the scenarios named in the mix.
+     *
+     * @param baseUri the application base URI
+     * @param seed    the seeded credentials
+     * @param mix     the weights by scenario name
+     * @return the scenarios
+     */
+    static List<Scenario> forMix(URI baseUri, LoadTestSeeder.SeedData seed, Map<String, Integer> mix) {
+        List<Scenario> scenarios = new ArrayList<>(mix.size());
+        mix.forEach((name, weight) -> scenarios.add(new Scenario(name, weight, requestFor(name, baseUri, seed))));
+        return scenarios;
+    }
+
+    private static Function<Random, HttpRequest> requestFor(String name, URI baseUri, LoadTestSeeder.SeedData seed) {
+        return switch (name) {
+            case "login" -> random -> json(baseUri, "/api/auth/login")
+                    .POST(HttpRequest.BodyPublishers.ofString("{\"username\":\"%s\",\"password\":\"%s\"}"
+                            .formatted(pick(seed.usernames(), random), seed.password())))
+                    .build();
+            case "create" -> random -> withApiKey(json(baseUri, "/api/measurements"), seed, random)
+                    .POST(HttpRequest.BodyPublishers.ofString("{\"weight\":%d.%02d,\"height\":%d.%02d}"
+                            .formatted(60 + random.nextInt(50), random.nextInt(100),
+                                    160 + random.nextInt(40), random.nextInt(100))))
+                    .build();
+            case "list" -> random -> withApiKey(get(baseUri, "/api/measurements"), seed, random).build();
+            case "recent" -> random -> withApiKey(get(baseUri, "/api/measurements/recent?limit=5"), seed, random).build();
+            case "range" -> random -> {
+                LocalDateTime to = LocalDateTime.now().minusDays(random.nextInt(60));
+                return withApiKey(get(baseUri, "/api/measurements/range?from=%s&to=%s"
+                        .formatted(to.minusDays(30).withNano(0), to.withNano(0))), seed, random).build();
+            };
+            case "summary" -> random -> withApiKey(get(baseUri, "/api/measurements/summary"), seed, random).build();
+            default -> throw new IllegalArgumentException("Unknown scenario '" + name +
+                    "', expected one of login, create, list, recent, range, summary");
+        };
+    }
+
+    private static HttpRequest.Builder json(URI baseUri, String path) {
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json");
+    }
+
+    private static HttpRequest.Builder get(URI baseUri, String path) {
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Accept", "application/json")
+                .GET();
+    }
+
+    private static HttpRequest.Builder withApiKey(HttpRequest.Builder builder, LoadTestSeeder.SeedData seed, Random random) {
+        return builder.header("X-API-KEY", pick(seed.apiKeys(), random));
+    }
+
+    private static String pick(List<String> values, Random random) {
+        return values.get(random.nextInt(values.size()));
+    }
+}
@@ -0,0 +1,194 @@
+package dev.tomislavmiksik.phoenixbe.loadtest;
+
+import dev.tomislavmiksik.phoenixbe.PhoenixBeApplication;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpConnectTimeoutException;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToLongFunction;
+
+/**
+ * Starts the application in separate JVMs and compares the current configuration with the fast
+ * startup modes: the same jar with the {@code fast} profile (selective lazy initialization), and the
+ * extracted AOT jar with its CDS archive.
+ * <p>
+ * For each start it records when {@code /actuator/health} first answers, when the first real request
+ * (a failed login, which goes through security, the service layer and JPA) completes, and the resident
+ * set size after that request. Modes are interleaved so drift on the machine affects all of them.
+ */
+public class StartupBenchmark {
+
+    private static final String ROW = "%-10s %14s %14s %14s %14s%n";
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(10);
+
+    private final StartupOptions options;
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(1))
+            .build();
+
+    private StartupBenchmark(StartupOptions options) {
+        this.options = options;
+    }
+
+    /**
+     * Run the startup benchmark.
+     *
+     * @param args unused
+     * @throws Exception if a start fails or the report can't be written
+     */
+    public static void main(String[] args) throws Exception {
+        StartupOptions options = StartupOptions.fromSystemProperties();
+        Map<String, List<String>> modes = modes(options);
+        Map<String, List<Sample>> samples = new LinkedHashMap<>();
+        modes.keySet().forEach(mode -> samples.put(mode, new ArrayList<>()));
+
+        StartupBenchmark benchmark = new StartupBenchmark(options);
+        for (int run = 1; run <= options.runs(); run++) {
+            for (Map.Entry<String, List<String>> mode : modes.entrySet()) {
+                Sample sample = benchmark.start(mode.getKey(), mode.getValue());
+                System.out.printf("Run %d %-10s ready %5d ms, first request %5d ms, RSS %4d MB%n",
+                        run, mode.getKey(), sample.readyMillis(), sample.firstRequestMillis(), sample.rssMegabytes());
+                samples.get(mode.getKey()).add(sample);
+            }
+        }
+
+        String report = format(options, samples);
+        System.out.println();
+        System.out.print(report);
+
+        Files.createDirectories(options.report().toAbsolutePath().getParent());
+        Files.writeString(options.report(), report);
+        System.out.printf("%nReport written to %s%n", options.report().toAbsolutePath());
+    }
+
+    private static Map<String, List<String>> modes(StartupOptions options) {
+        String java = ProcessHandle.current().info().command().orElse("java");
+        String lazyProfiles = options.profiles().isBlank() ? "fast" : options.profiles() + ",fast";
+
+        Map<String, List<String>> modes = new LinkedHashMap<>();
+        modes.put("baseline", List.of(java, "-jar", options.jar().toString(),
+                "--spring.profiles.active=" + options.profiles()));
+        modes.put("lazy", List.of(java, "-jar", options.jar().toString(),
+                "--spring.profiles.active=" + lazyProfiles));
+        modes.put("aot+cds", List.of(java,
+                "-XX:SharedArchiveFile=" + options.cdsDir().resolve("application.jsa"),
+                "-Dspring.aot.enabled=true",
+                "-cp", options.cdsDir().resolve("phoenix-be.jar").toString(),
+                PhoenixBeApplication.class.getName(),
+                "--spring.profiles.active=" + options.fastProfiles()));
+        return modes;
+    }
+
+    private Sample start(String mode, List<String> command) throws IOException, InterruptedException {
+        int port = freePort();
+        List<String> arguments = new ArrayList<>(command);
+        arguments.add("--server.port=" + port);
+        arguments.add("--server.address=127.0.0.1");
+
+        Path log = options.report().toAbsolutePath().resolveSibling(mode.replace('+', '-') + ".log");
+        Files.createDirectories(log.getParent());
+        URI baseUri = URI.create("http://127.0.0.1:" + port);
+
+        long launchedAt = System.nanoTime();
+        Process process = new ProcessBuilder(arguments)
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+        try {
+            awaitResponse(process, HttpRequest.newBuilder(baseUri.resolve("/actuator/health")).GET().build(), log);
+            long readyAt = System.nanoTime();
+
+            httpClient.send(HttpRequest.newBuilder(baseUri.resolve("/api/auth/login"))
+                            .header("Content-Type", "application/json")
+                            .POST(HttpRequest.BodyPublishers.ofString(
+                                    "{\"username\":\"startup-probe\",\"password\":\"startup-probe\"}"))
+                            .build(),
+                    HttpResponse.BodyHandlers.discarding());
+            long firstRequestAt = System.nanoTime();
+
+            return new Sample(
+                    TimeUnit.NANOSECONDS.toMillis(readyAt - launchedAt),
+                    TimeUnit.NANOSECONDS.toMillis(firstRequestAt - launchedAt),
+                    residentSetMegabytes(process.pid()));
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    private void awaitResponse(Process process, HttpRequest request, Path log)
+            throws IOException, InterruptedException {
+        long deadline = System.nanoTime() + options.timeout().toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("Application exited with code " + process.exitValue() + ", see " + log);
+            }
+            try {
+                httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                return;
+            } catch (ConnectException | HttpConnectTimeoutException e) {
+                Thread.sleep(POLL_INTERVAL.toMillis());
+            }
+        }
+        throw new IllegalStateException("Application did not answer within " + options.timeout() + ", see " + log);
+    }
+
+    private static long residentSetMegabytes(long pid) throws IOException {
+        Path status = Path.of("/proc", Long.toString(pid), "status");
+        if (!Files.exists(status)) {
+            return -1;
+        }
+        for (String line : Files.readAllLines(status)) {
+            if (line.startsWith("VmRSS:")) {
+                long kilobytes = Long.parseLong(line.replaceAll("\\D", ""));
+                return kilobytes / 1024;
+            }
+        }
+        return -1;
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static String format(StartupOptions options, Map<String, List<Sample>> samples) {
+        StringBuilder report = new StringBuilder();
+        report.append("%d starts per mode; baseline and lazy with profiles '%s' (lazy adds 'fast'), aot+cds with '%s'%n"
+                .formatted(options.runs(), options.profiles(), options.fastProfiles()));
+        report.append("Times are from process launch, in milliseconds; RSS after the first request (-1 if unavailable).%n%n"
+                .formatted());
+        report.append(ROW.formatted("mode", "ready p50", "first req p50", "first req min", "RSS MB p50"));
+        samples.forEach((mode, results) -> report.append(ROW.formatted(mode,
+                median(results, Sample::readyMillis),
+                median(results, Sample::firstRequestMillis),
+                results.stream().mapToLong(Sample::firstRequestMillis).min().orElse(0),
+                median(results, Sample::rssMegabytes))));
+        return report.toString();
+    }
+
+    private static long median(List<Sample> samples, ToLongFunction<Sample> value) {
+        long[] values = samples.stream().mapToLong(value).sorted().toArray();
+        return values[values.length / 2];
+    }
+
+    private record Sample(long readyMillis, long firstRequestMillis, long rssMegabytes) {
+    }
+}
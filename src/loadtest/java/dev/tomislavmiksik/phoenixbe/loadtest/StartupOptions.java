@@ -0,0 +1,54 @@
+package dev.tomislavmiksik.phoenixbe.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Startup benchmark settings, read from {@code startup.*} system properties (the Gradle task sets the
+ * paths and profiles and forwards {@code -Pstartup.*} project properties).
+ *
+ * @param jar the boot jar, started as-is for the baseline
+ * @param cdsDir the extracted AOT jar and its CDS archive
+ * @param profiles the profiles of the baseline run
+ * @param fastProfiles the profiles the AOT jar was processed with, including {@code fast}
+ * @param runs the number of starts per mode
+ * @param timeout how long one start may take before the run fails
+ * @param report where the report is written
+ */
+record StartupOptions(Path jar,
+                      Path cdsDir,
+                      String profiles,
+                      String fastProfiles,
+                      int runs,
+                      Duration timeout,
+                      Path report) {
+
+    /**
+     * Read the options from system properties, falling back to the defaults.
+     *
+     * @return the options
+     */
+    static StartupOptions fromSystemProperties() {
+        StartupOptions options = new StartupOptions(
+                Path.of(required("startup.jar")),
+                Path.of(required("startup.cds-dir")),
+                System.getProperty("startup.profiles", "prod"),
+                System.getProperty("startup.fast-profiles", "prod,fast"),
+                Integer.getInteger("startup.runs", 5),
+                Duration.ofSeconds(Integer.getInteger("startup.timeout", 180)),
+                Path.of(System.getProperty("startup.report", "build/reports/startup/report.txt")));
+
+        if (options.runs() <= 0) {
+            throw new IllegalArgumentException("startup.runs must be positive");
+        }
+        return options;
+    }
+
+    private static String required(String name) {
+        String value = System.getProperty(name);
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException(name + " is required, run through ./gradlew startupBenchmark");
+        }
+        return value;
+    }
+}
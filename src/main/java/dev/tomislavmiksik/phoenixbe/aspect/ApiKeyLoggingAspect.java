@@ -1,55 +0,0 @@
-package dev.tomislavmiksik.phoenixbe.aspect;
-
-import org.aspectj.lang.JoinPoint;
-import org.aspectj.lang.annotation.Aspect;
-import org.aspectj.lang.annotation.Before;
-import org.aspectj.lang.annotation.Pointcut;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-import org.springframework.stereotype.Component;
-
-import java.util.Arrays;
-
-/**
- * The type Api key logging aspect.
- */
-@Aspect
-@Component
-public class ApiKeyLoggingAspect {
-
-    private static final Logger logger = LoggerFactory.getLogger(LoggingAspect.class);
-
-    /**
-     * Pointcut that matches all repositories, services and controllers.
-     */
-    @Pointcut("within(@org.springframework.stereotype.Repository *)" +
-            " || within(@org.springframework.stereotype.Service *)" +
-            " || within(@org.springframework.web.bind.annotation.RestController *)")
-    public void springBeanPointcut() {
-        // Method is empty as this is just a Pointcut, the implementations are in the advices.
-    }
-
-    /**
-     * Pointcut that matches all Spring beans in the application's main packages.
-     */
-    @Pointcut("within(dev.tomislavmiksik.phoenixbe.service..*)" +
-            " || within(dev.tomislavmiksik.phoenixbe.repository..*)" +
-            " || (within(dev.tomislavmiksik.phoenixbe.controller..*) && !within(*..AuthController))")
-    public void applicationPackagePointcut() {
-        // Method is empty as this is just a Pointcut, the implementations are in the advices.
-    }
-
-
-    /**
-     * Log before.
-     *
-     * @param joinPoint the join point
-     */
-    @Before("applicationPackagePointcut() || springBeanPointcut()")
-    public void logBefore(JoinPoint joinPoint){
-        logger.debug("API Key used on: {}.{}() with argument[s] = {}",
-                joinPoint.getSignature().getDeclaringTypeName(),
-                joinPoint.getSignature().getName(),
-                Arrays.toString(joinPoint.getArgs()));
-    }
-}
@@ -0,0 +1,176 @@
+package dev.tomislavmiksik.phoenixbe.aspect;
+
+import jakarta.persistence.Entity;
+import org.hibernate.proxy.HibernateProxy;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.StringJoiner;
+import java.util.UUID;
+
+/**
+ * Renders method arguments and results for trace logs without side effects.
+ * <p>
+ * Entities are shown as type and id only, so lazy associations are never initialized, application
+ * objects are shown one level deep, and any value whose field or parameter name looks sensitive is masked.
+ */
+public class ArgumentRenderer {
+
+    private static final String MASK = "***";
+    private static final int MAX_STRING_LENGTH = 64;
+    private static final String APPLICATION_PACKAGE = "dev.tomislavmiksik.phoenixbe.";
+
+    private final List<String> sensitiveNames;
+
+    private final ClassValue<Field[]> renderedFields = new ClassValue<>() {
+        @Override
+        protected Field[] computeValue(Class<?> type) {
+            List<Field> fields = new ArrayList<>();
+            for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+                for (Field field : current.getDeclaredFields()) {
+                    if (!Modifier.isStatic(field.getModifiers()) && !field.isSynthetic()) {
+                        field.setAccessible(true);
+                        fields.add(field);
+                    }
+                }
+            }
+            return fields.toArray(Field[]::new);
+        }
+    };
+
+    /**
+     * Instantiates a new Argument renderer.
+     *
+     * @param sensitiveNames name fragments, matched case-insensitively, whose values are masked
+     */
+    public ArgumentRenderer(List<String> sensitiveNames) {
+        this.sensitiveNames = sensitiveNames.stream()
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .map(name -> name.toLowerCase(Locale.ROOT))
+                .toList();
+    }
+
+    /**
+     * Render method arguments as {@code [name=value, ...]}.
+     *
+     * @param names the parameter names, or null when they weren't compiled in
+     * @param args the arguments
+     * @return the rendered arguments
+     */
+    public String renderArguments(String[] names, Object[] args) {
+        StringJoiner joiner = new StringJoiner(", ", "[", "]");
+        for (int i = 0; i < args.length; i++) {
+            String name = names != null && i < names.length ? names[i] : null;
+            if (name == null) {
+                joiner.add(render(args[i]));
+            } else {
+                joiner.add(name + "=" + (isSensitive(name) ? MASK : render(args[i])));
+            }
+        }
+        return joiner.toString();
+    }
+
+    /**
+     * Render a single value.
+     *
+     * @param value the value
+     * @return the rendered value
+     */
+    public String render(Object value) {
+        return render(value, true);
+    }
+
+    /**
+     * Whether values with this field or parameter name are masked.
+     *
+     * @param name the name
+     * @return true if sensitive
+     */
+    public boolean isSensitive(String name) {
+        String lowerCase = name.toLowerCase(Locale.ROOT);
+        for (String sensitiveName : sensitiveNames) {
+            if (lowerCase.contains(sensitiveName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String render(Object value, boolean expand) {
+        if (value == null) {
+            return "null";
+        }
+        if (value instanceof CharSequence text) {
+            return text.length() > MAX_STRING_LENGTH
+                    ? "\"" + text.subSequence(0, MAX_STRING_LENGTH) + "...\"(" + text.length() + ")"
+                    : "\"" + text + "\"";
+        }
+        if (value instanceof Number || value instanceof Boolean || value instanceof Character
+                || value instanceof Enum<?> || value instanceof TemporalAccessor || value instanceof UUID) {
+            return value.toString();
+        }
+        if (value instanceof HibernateProxy proxy) {
+            return proxy.getHibernateLazyInitializer().getEntityName() + "#"
+                    + proxy.getHibernateLazyInitializer().getInternalIdentifier();
+        }
+        if (value.getClass().isAnnotationPresent(Entity.class)) {
+            return value.getClass().getSimpleName() + "#" + readId(value);
+        }
+        if (value instanceof Optional<?> optional) {
+            return optional.map(inner -> "Optional[" + render(inner, expand) + "]").orElse("Optional.empty");
+        }
+        if (value instanceof Collection<?> collection) {
+            return value.getClass().getSimpleName() + "[size=" + collection.size() + "]";
+        }
+        if (value instanceof Map<?, ?> map) {
+            return value.getClass().getSimpleName() + "[size=" + map.size() + "]";
+        }
+        if (value.getClass().isArray()) {
+            return value.getClass().getComponentType().getSimpleName() + "[" + Array.getLength(value) + "]";
+        }
+        if (expand && value.getClass().getName().startsWith(APPLICATION_PACKAGE)) {
+            return renderFields(value);
+        }
+        return value.getClass().getSimpleName();
+    }
+
+    private String renderFields(Object value) {
+        StringJoiner joiner = new StringJoiner(", ", value.getClass().getSimpleName() + "{", "}");
+        for (Field field : renderedFields.get(value.getClass())) {
+            String rendered;
+            if (isSensitive(field.getName())) {
+                rendered = MASK;
+            } else {
+                try {
+                    rendered = render(field.get(value), false);
+                } catch (IllegalAccessException e) {
+                    rendered = "?";
+                }
+            }
+            joiner.add(field.getName() + "=" + rendered);
+        }
+        return joiner.toString();
+    }
+
+    private Object readId(Object entity) {
+        for (Field field : renderedFields.get(entity.getClass())) {
+            if (field.getName().equals("id")) {
+                try {
+                    return field.get(entity);
+                } catch (IllegalAccessException e) {
+                    return "?";
+                }
+            }
+        }
+        return "?";
+    }
+}
@@ -0,0 +1,131 @@
+package dev.tomislavmiksik.phoenixbe.aspect;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.aspectj.lang.reflect.CodeSignature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Single instrumentation advice for repositories, services and controllers.
+ * <p>
+ * Exceptions are always logged. Enter/exit traces with arguments, result and {@code nanoTime}
+ * duration are written at DEBUG for a sampled fraction of calls, and nothing is rendered unless
+ * DEBUG is on and the call was sampled. Timing for dashboards comes from Micrometer, not from here.
+ */
+@Aspect
+@Component
+@ConditionalOnProperty(name = "instrumentation.enabled", havingValue = "true", matchIfMissing = true)
+public class InstrumentationAspect {
+
+    private static final Logger logger = LoggerFactory.getLogger(InstrumentationAspect.class);
+
+    private final double sampleRate;
+    private final ArgumentRenderer argumentRenderer;
+
+    /**
+     * Instantiates a new Instrumentation aspect.
+     *
+     * @param sampleRate the fraction of calls traced when DEBUG is enabled, 0.0 to 1.0
+     * @param redactedNames the field and parameter name fragments whose values are masked
+     */
+    public InstrumentationAspect(@Value("${instrumentation.sample-rate}") double sampleRate,
+                                 @Value("${instrumentation.redacted-names}") List<String> redactedNames) {
+        if (sampleRate < 0.0 || sampleRate > 1.0) {
+            throw new IllegalArgumentException("instrumentation.sample-rate must be between 0.0 and 1.0");
+        }
+        this.sampleRate = sampleRate;
+        this.argumentRenderer = new ArgumentRenderer(redactedNames);
+    }
+
+    /**
+     * Pointcut that matches all repositories, services and controllers.
+     */
+    @Pointcut("within(@org.springframework.stereotype.Repository *)" +
+            " || within(@org.springframework.stereotype.Service *)" +
+            " || within(@org.springframework.web.bind.annotation.RestController *)")
+    public void springBeanPointcut() {
+        // Method is empty as this is just a Pointcut, the implementations are in the advices.
+    }
+
+    /**
+     * Pointcut that matches all Spring beans in the application's main packages.
+     */
+    @Pointcut("within(dev.tomislavmiksik.phoenixbe.service..*)" +
+            " || within(dev.tomislavmiksik.phoenixbe.repository..*)" +
+            " || within(dev.tomislavmiksik.phoenixbe.controller..*)")
+    public void applicationPackagePointcut() {
+        // Method is empty as this is just a Pointcut, the implementations are in the advices.
+    }
+
+    /**
+     * Advice that logs failures and, for sampled calls, traces entry and exit.
+     *
+     * @param joinPoint join point for advice
+     * @return result
+     * @throws Throwable whatever the advised method throws
+     */
+    @Around("applicationPackagePointcut() && springBeanPointcut()")
+    public Object instrument(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!isTraced()) {
+            try {
+                return joinPoint.proceed();
+            } catch (Throwable e) {
+                logFailure(joinPoint.getSignature(), e);
+                throw e;
+            }
+        }
+
+        Signature signature = joinPoint.getSignature();
+        String[] parameterNames = signature instanceof CodeSignature codeSignature
+                ? codeSignature.getParameterNames() : null;
+        logger.debug("Enter: {}.{}() with argument[s] = {}",
+                signature.getDeclaringTypeName(),
+                signature.getName(),
+                argumentRenderer.renderArguments(parameterNames, joinPoint.getArgs()));
+
+        long start = System.nanoTime();
+        try {
+            Object result = joinPoint.proceed();
+            logger.debug("Exit: {}.{}() in {} ms with result = {}",
+                    signature.getDeclaringTypeName(),
+                    signature.getName(),
+                    elapsedMillis(start),
+                    argumentRenderer.render(result));
+            return result;
+        } catch (Throwable e) {
+            logger.debug("Exit: {}.{}() in {} ms with exception",
+                    signature.getDeclaringTypeName(),
+                    signature.getName(),
+                    elapsedMillis(start));
+            logFailure(signature, e);
+            throw e;
+        }
+    }
+
+    private boolean isTraced() {
+        return logger.isDebugEnabled()
+                && (sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate);
+    }
+
+    private static void logFailure(Signature signature, Throwable e) {
+        logger.error("Exception in {}.{}() with cause = '{}' and exception = '{}'",
+                signature.getDeclaringTypeName(),
+                signature.getName(),
+                e.getCause() != null ? e.getCause() : "NULL",
+                e.getMessage(), e);
+    }
+
+    private static String elapsedMillis(long startNanos) {
+        return String.format("%.3f", (System.nanoTime() - startNanos) / 1_000_000.0);
+    }
+}
@@ -1,113 +0,0 @@
-package dev.tomislavmiksik.phoenixbe.aspect;
-
-import org.aspectj.lang.JoinPoint;
-import org.aspectj.lang.ProceedingJoinPoint;
-import org.aspectj.lang.annotation.*;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-import org.springframework.stereotype.Component;
-
-import java.util.Arrays;
-
-/**
- * Aspect for logging execution of service and repository Spring components.
- * Demonstrates AOP capabilities for cross-cutting concerns like logging.
- */
-@Aspect
-@Component
-public class LoggingAspect {
-
-    private static final Logger logger = LoggerFactory.getLogger(LoggingAspect.class);
-
-    /**
-     * Pointcut that matches all repositories, services and controllers.
-     */
-    @Pointcut("within(@org.springframework.stereotype.Repository *)" +
-            " || within(@org.springframework.stereotype.Service *)" +
-            " || within(@org.springframework.web.bind.annotation.RestController *)")
-    public void springBeanPointcut() {
-        // Method is empty as this is just a Pointcut, the implementations are in the advices.
-    }
-
-    /**
-     * Pointcut that matches all Spring beans in the application's main packages.
-     */
-    @Pointcut("within(dev.tomislavmiksik.phoenixbe.service..*)" +
-            " || within(dev.tomislavmiksik.phoenixbe.repository..*)" +
-            " || within(dev.tomislavmiksik.phoenixbe.controller..*)")
-    public void applicationPackagePointcut() {
-        // Method is empty as this is just a Pointcut, the implementations are in the advices.
-    }
-
-    /**
-     * Advice that logs methods throwing exceptions.
-     *
-     * @param joinPoint join point for advice
-     * @param e exception
-     */
-    @AfterThrowing(pointcut = "applicationPackagePointcut() && springBeanPointcut()", throwing = "e")
-    public void logAfterThrowing(JoinPoint joinPoint, Throwable e) {
-        logger.error("Exception in {}.{}() with cause = '{}' and exception = '{}'",
-                joinPoint.getSignature().getDeclaringTypeName(),
-                joinPoint.getSignature().getName(),
-                e.getCause() != null ? e.getCause() : "NULL",
-                e.getMessage(), e);
-    }
-
-    /**
-     * Advice that logs when a method is entered.
-     *
-     * @param joinPoint join point for advice
-     */
-    @Before("applicationPackagePointcut() && springBeanPointcut()")
-    public void logBefore(JoinPoint joinPoint) {
-        logger.debug("Enter: {}.{}() with argument[s] = {}",
-                joinPoint.getSignature().getDeclaringTypeName(),
-                joinPoint.getSignature().getName(),
-                Arrays.toString(joinPoint.getArgs()));
-    }
-
-    /**
-     * Advice that logs when a method is exited.
-     *
-     * @param joinPoint join point for advice
-     * @param result return value
-     */
-    @AfterReturning(pointcut = "applicationPackagePointcut() && springBeanPointcut()", returning = "result")
-    public void logAfterReturning(JoinPoint joinPoint, Object result) {
-        logger.debug("Exit: {}.{}() with result = {}",
-                joinPoint.getSignature().getDeclaringTypeName(),
-                joinPoint.getSignature().getName(),
-                result);
-    }
-
-    /**
-     * Advice that logs methods execution time.
-     *
-     * @param joinPoint join point for advice
-     * @return result
-     * @throws Throwable throws IllegalArgumentException
-     */
-    @Around("applicationPackagePointcut() && springBeanPointcut()")
-    public Object logAround(ProceedingJoinPoint joinPoint) throws Throwable {
-        long start = System.currentTimeMillis();
-
-        try {
-            Object result = joinPoint.proceed();
-            long executionTime = System.currentTimeMillis() - start;
-
-            logger.info("Execution: {}.{}() - Execution time: {} ms",
-                    joinPoint.getSignature().getDeclaringTypeName(),
-                    joinPoint.getSignature().getName(),
-                    executionTime);
-
-            return result;
-        } catch (IllegalArgumentException e) {
-            logger.error("Illegal argument: {} in {}.{}()",
-                    Arrays.toString(joinPoint.getArgs()),
-                    joinPoint.getSignature().getDeclaringTypeName(),
-                    joinPoint.getSignature().getName());
-            throw e;
-        }
-    }
-}
@@ -0,0 +1,21 @@
+package dev.tomislavmiksik.phoenixbe.audit;
+
+import java.time.Instant;
+
+/**
+ * One request made with an API key, as recorded by the authentication filter.
+ *
+ * @param apiKeyId the api key id
+ * @param method the HTTP method
+ * @param path the request path
+ * @param status the response status
+ * @param latencyMicros the time spent in the filter chain, in microseconds
+ * @param occurredAt when the request completed
+ */
+public record ApiKeyAuditEvent(long apiKeyId,
+                               String method,
+                               String path,
+                               int status,
+                               long latencyMicros,
+                               Instant occurredAt) {
+}
@@ -0,0 +1,70 @@
+package dev.tomislavmiksik.phoenixbe.audit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Hands audit events from request threads to the background writer through a bounded buffer.
+ */
+public class ApiKeyAuditRecorder {
+
+    private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private final MpscRingBuffer<ApiKeyAuditEvent> buffer;
+    private final AuditOverflowPolicy overflowPolicy;
+    private final long offerTimeoutNanos;
+    private final Counter dropped;
+
+    /**
+     * Instantiates a new Api key audit recorder.
+     *
+     * @param buffer the buffer shared with the writer
+     * @param overflowPolicy what to do when the buffer is full
+     * @param offerTimeout how long {@link AuditOverflowPolicy#BLOCK} waits before dropping
+     * @param meterRegistry the meter registry
+     */
+    public ApiKeyAuditRecorder(MpscRingBuffer<ApiKeyAuditEvent> buffer,
+                               AuditOverflowPolicy overflowPolicy,
+                               Duration offerTimeout,
+                               MeterRegistry meterRegistry) {
+        this.buffer = buffer;
+        this.overflowPolicy = overflowPolicy;
+        this.offerTimeoutNanos = offerTimeout.toNanos();
+        this.dropped = Counter.builder("phoenix.audit.dropped")
+                .description("API key audit events dropped because the buffer was full")
+                .register(meterRegistry);
+        Gauge.builder("phoenix.audit.buffered", buffer, MpscRingBuffer::size)
+                .description("API key audit events waiting to be written")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Record an event without ever throwing; events that can't be buffered are counted as dropped.
+     *
+     * @param event the event
+     * @return true if the event was buffered
+     */
+    public boolean record(ApiKeyAuditEvent event) {
+        if (buffer.offer(event)) {
+            return true;
+        }
+
+        if (overflowPolicy == AuditOverflowPolicy.BLOCK) {
+            long deadline = System.nanoTime() + offerTimeoutNanos;
+            while (System.nanoTime() < deadline) {
+                LockSupport.parkNanos(BLOCK_PARK_NANOS);
+                if (buffer.offer(event)) {
+                    return true;
+                }
+            }
+        }
+
+        dropped.increment();
+        return false;
+    }
+}
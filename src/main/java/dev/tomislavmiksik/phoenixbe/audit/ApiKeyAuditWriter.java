@@ -0,0 +1,156 @@
+package dev.tomislavmiksik.phoenixbe.audit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Single background thread that drains the audit buffer and writes it with one JDBC batch per
+ * flush, so audit volume costs a round trip per batch rather than per request.
+ * <p>
+ * A batch is written as soon as it is full, or once its oldest event has waited for the flush
+ * interval. On shutdown the writer drains what is left once the web server has stopped, before the
+ * connection pool closes.
+ */
+public class ApiKeyAuditWriter implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(ApiKeyAuditWriter.class);
+
+    private static final String INSERT_SQL = "INSERT INTO api_key_audit " +
+            "(api_key_id, method, path, status, latency_micros, occurred_at) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final MpscRingBuffer<ApiKeyAuditEvent> buffer;
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final Counter written;
+    private final Counter failed;
+    private final Timer batchTimer;
+
+    private volatile boolean running;
+    private Thread thread;
+
+    /**
+     * Instantiates a new Api key audit writer.
+     *
+     * @param buffer the buffer shared with the recorder
+     * @param jdbcTemplate the jdbc template
+     * @param batchSize the maximum rows per batch
+     * @param flushInterval the longest an event waits for a batch to fill
+     * @param meterRegistry the meter registry
+     */
+    public ApiKeyAuditWriter(MpscRingBuffer<ApiKeyAuditEvent> buffer,
+                             JdbcTemplate jdbcTemplate,
+                             int batchSize,
+                             Duration flushInterval,
+                             MeterRegistry meterRegistry) {
+        this.buffer = buffer;
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = flushInterval.toNanos();
+        this.written = Counter.builder("phoenix.audit.written")
+                .description("API key audit events persisted")
+                .register(meterRegistry);
+        this.failed = Counter.builder("phoenix.audit.failed")
+                .description("API key audit events lost because their batch could not be written")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("phoenix.audit.batch")
+                .description("Time to write one audit batch")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        thread = new Thread(this::run, "api-key-audit-writer");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+            try {
+                thread.join(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        // Lower phases stop later: stop after the web server (DEFAULT_PHASE - 2048), so the final
+        // drain sees every request the server accepted. The DataSource only closes at bean destruction
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private void run() {
+        List<ApiKeyAuditEvent> batch = new ArrayList<>(batchSize);
+        long oldestEventAt = 0;
+
+        while (running) {
+            boolean wasEmpty = batch.isEmpty();
+            buffer.drain(batch::add, batchSize - batch.size());
+            if (wasEmpty && !batch.isEmpty()) {
+                oldestEventAt = System.nanoTime();
+            }
+
+            if (batch.size() >= batchSize
+                    || (!batch.isEmpty() && System.nanoTime() - oldestEventAt >= flushIntervalNanos)) {
+                write(batch);
+                batch.clear();
+            } else {
+                LockSupport.parkNanos(Math.max(flushIntervalNanos / 10, TimeUnit.MILLISECONDS.toNanos(1)));
+            }
+        }
+
+        // Shutdown: flush whatever is left
+        do {
+            buffer.drain(batch::add, batchSize - batch.size());
+            if (!batch.isEmpty()) {
+                write(batch);
+                batch.clear();
+            }
+        } while (buffer.size() > 0);
+    }
+
+    private void write(List<ApiKeyAuditEvent> batch) {
+        long start = System.nanoTime();
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (statement, event) -> {
+                statement.setLong(1, event.apiKeyId());
+                statement.setString(2, event.method());
+                statement.setString(3, event.path());
+                statement.setInt(4, event.status());
+                statement.setLong(5, event.latencyMicros());
+                statement.setTimestamp(6, Timestamp.from(event.occurredAt()));
+            });
+            written.increment(batch.size());
+        } catch (DataAccessException e) {
+            failed.increment(batch.size());
+            logger.error("Could not write {} API key audit events", batch.size(), e);
+        } finally {
+            batchTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+}
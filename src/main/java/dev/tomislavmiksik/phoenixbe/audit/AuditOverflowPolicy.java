@@ -0,0 +1,17 @@
+package dev.tomislavmiksik.phoenixbe.audit;
+
+/**
+ * What the request thread does when the audit buffer is full.
+ */
+public enum AuditOverflowPolicy {
+
+    /**
+     * Drop the event immediately and count it; request latency is never affected.
+     */
+    DROP,
+
+    /**
+     * Wait for the writer to free space, up to {@code audit.offer-timeout-ms}, then drop.
+     */
+    BLOCK
+}
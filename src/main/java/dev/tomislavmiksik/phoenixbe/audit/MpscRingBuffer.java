@@ -0,0 +1,113 @@
+package dev.tomislavmiksik.phoenixbe.audit;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * Bounded, lock-free ring buffer for many producers and a single consumer.
+ * <p>
+ * Each slot carries a sequence number: a producer claims a position with one CAS on the tail and
+ * publishes by advancing the slot's sequence, and the consumer frees the slot for the next lap the
+ * same way. Producers never block each other on a lock and a full buffer is reported, not waited on.
+ *
+ * @param <E> the element type
+ */
+public class MpscRingBuffer<E> {
+
+    private final int mask;
+    private final AtomicReferenceArray<E> slots;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong head = new AtomicLong();
+
+    /**
+     * Instantiates a new ring buffer.
+     *
+     * @param capacity the capacity, rounded up to a power of two
+     */
+    public MpscRingBuffer(int capacity) {
+        if (capacity < 2) {
+            throw new IllegalArgumentException("Capacity must be at least 2");
+        }
+        int size = Integer.highestOneBit(capacity - 1) << 1;
+        this.mask = size - 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Add an element if there is room. Safe to call from any thread.
+     *
+     * @param element the element
+     * @return false if the buffer is full
+     */
+    public boolean offer(E element) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    slots.set(index, element);
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Remove up to {@code limit} published elements in order. Must only be called by one thread.
+     *
+     * @param consumer receives each element
+     * @param limit the maximum number of elements
+     * @return the number of elements removed
+     */
+    public int drain(Consumer<? super E> consumer, int limit) {
+        long position = head.get();
+        int drained = 0;
+        while (drained < limit) {
+            int index = (int) (position & mask);
+            if (sequences.get(index) != position + 1) {
+                break;
+            }
+            E element = slots.get(index);
+            slots.set(index, null);
+            sequences.set(index, position + mask + 1);
+            position++;
+            drained++;
+            consumer.accept(element);
+        }
+        head.lazySet(position);
+        return drained;
+    }
+
+    /**
+     * Approximate number of elements, for monitoring.
+     *
+     * @return the size
+     */
+    public int size() {
+        long size = tail.get() - head.get();
+        return (int) Math.max(0, Math.min(size, capacity()));
+    }
+
+    /**
+     * The capacity.
+     *
+     * @return the capacity
+     */
+    public int capacity() {
+        return mask + 1;
+    }
+}
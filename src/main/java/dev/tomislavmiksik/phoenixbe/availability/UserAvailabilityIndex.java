@@ -0,0 +1,204 @@
+package dev.tomislavmiksik.phoenixbe.availability;
+
+import dev.tomislavmiksik.phoenixbe.bloom.BloomFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-memory Bloom filters over every username and email, so lookups for names that were never taken
+ * are answered without touching the {@code users} unique indexes. A "might be taken" answer still has
+ * to be confirmed against the database.
+ * <p>
+ * The filters are loaded at startup by streaming the table, updated on registration, and rebuilt
+ * periodically to drop deleted users and resize for growth. Until the first load succeeds every
+ * lookup reports "might be taken".
+ */
+public class UserAvailabilityIndex implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserAvailabilityIndex.class);
+
+    private static final int FETCH_SIZE = 1000;
+
+    private record Filters(BloomFilter usernames, BloomFilter emails) {
+
+        void add(String username, String email) {
+            usernames.add(username);
+            emails.add(email);
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final double falsePositiveRate;
+    private final long minExpectedUsers;
+    private final Duration rebuildInterval;
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private final Counter absent;
+    private final Counter maybePresent;
+    private final Timer rebuildTimer;
+
+    private volatile Filters current;
+    private volatile Filters building;
+    private volatile boolean running;
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * Instantiates a new User availability index.
+     *
+     * @param dataSource the data source
+     * @param transactionTemplate a read-only transaction template, so the load can stream with a cursor
+     * @param falsePositiveRate the false positive rate at the sized capacity
+     * @param minExpectedUsers the smallest capacity a filter is sized for
+     * @param rebuildInterval the time between rebuilds
+     * @param meterRegistry the meter registry
+     */
+    public UserAvailabilityIndex(DataSource dataSource,
+                                 TransactionTemplate transactionTemplate,
+                                 double falsePositiveRate,
+                                 long minExpectedUsers,
+                                 Duration rebuildInterval,
+                                 MeterRegistry meterRegistry) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(FETCH_SIZE);
+        this.transactionTemplate = transactionTemplate;
+        this.falsePositiveRate = falsePositiveRate;
+        this.minExpectedUsers = minExpectedUsers;
+        this.rebuildInterval = rebuildInterval;
+        this.absent = Counter.builder("phoenix.availability.lookups")
+                .description("Username and email lookups answered by the Bloom filters")
+                .tag("result", "absent")
+                .register(meterRegistry);
+        this.maybePresent = Counter.builder("phoenix.availability.lookups")
+                .description("Username and email lookups answered by the Bloom filters")
+                .tag("result", "maybe_present")
+                .register(meterRegistry);
+        this.rebuildTimer = Timer.builder("phoenix.availability.rebuild")
+                .description("Time to rebuild the username and email Bloom filters")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Whether a user with this username may exist. False means it definitely doesn't.
+     *
+     * @param username the username
+     * @return true if the database has to be asked
+     */
+    public boolean mightHaveUsername(String username) {
+        Filters filters = current;
+        return count(filters == null || filters.usernames().mightContain(username));
+    }
+
+    /**
+     * Whether a user with this email may exist. False means it definitely doesn't.
+     *
+     * @param email the email
+     * @return true if the database has to be asked
+     */
+    public boolean mightHaveEmail(String email) {
+        Filters filters = current;
+        return count(filters == null || filters.emails().mightContain(email));
+    }
+
+    /**
+     * Record a user that was just inserted.
+     *
+     * @param username the username
+     * @param email the email
+     */
+    public void add(String username, String email) {
+        // Also into a rebuild in progress, whose snapshot may predate this user. Read before current:
+        // a rebuild that finishes in between has published its filters by the time current is read,
+        // and one that hasn't started yet will see the committed user in its snapshot
+        Filters next = building;
+        if (next != null) {
+            next.add(username, email);
+        }
+        Filters filters = current;
+        if (filters != null && filters != next) {
+            filters.add(username, email);
+        }
+    }
+
+    /**
+     * Load every username and email into new filters and replace the current ones.
+     */
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            rebuildTimer.record(() -> {
+                Long users = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users", Long.class);
+                // Headroom for registrations until the next rebuild
+                long expected = Math.max(minExpectedUsers, 2 * (users != null ? users : 0));
+                Filters next = new Filters(
+                        BloomFilter.create(expected, falsePositiveRate),
+                        BloomFilter.create(expected, falsePositiveRate));
+
+                building = next;
+                transactionTemplate.executeWithoutResult(status -> jdbcTemplate.query(
+                        "SELECT username, email FROM users",
+                        (RowCallbackHandler) row -> next.add(row.getString(1), row.getString(2))));
+                current = next;
+                logger.debug("Loaded {} users into availability filters sized for {}", users, expected);
+            });
+        } finally {
+            building = null;
+            rebuildLock.unlock();
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "user-availability-rebuild");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // The first load runs during startup; later rebuilds run in the background
+        rebuildQuietly();
+        long interval = rebuildInterval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::rebuildQuietly, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void rebuildQuietly() {
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            // Not only DataAccessException: a pool timeout surfaces as CannotCreateTransactionException,
+            // and anything escaping here would cancel every later rebuild
+            logger.warn("Could not rebuild the user availability filters, keeping the previous ones", e);
+        }
+    }
+
+    private boolean count(boolean mightBePresent) {
+        (mightBePresent ? maybePresent : absent).increment();
+        return mightBePresent;
+    }
+}
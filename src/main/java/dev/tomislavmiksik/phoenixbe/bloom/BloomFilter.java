@@ -0,0 +1,112 @@
+package dev.tomislavmiksik.phoenixbe.bloom;
+
+import org.apache.commons.codec.digest.MurmurHash3;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free Bloom filter over strings: {@link #mightContain} never misses a value that was added, and
+ * reports a value that wasn't with roughly the configured false positive rate while the filter holds
+ * no more than its expected number of values.
+ * <p>
+ * Values are hashed once with 128-bit MurmurHash3 and the two halves are combined into the bit
+ * positions (Kirsch-Mitzenmacher). Bits are only ever set, so adds and lookups are safe from any thread.
+ */
+public class BloomFilter {
+
+    private static final double LN2 = Math.log(2);
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashFunctions;
+
+    private BloomFilter(long bitCount, int hashFunctions) {
+        long wordCount = (bitCount + 63) / 64;
+        if (wordCount > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Bloom filter of " + bitCount + " bits is too large");
+        }
+        this.words = new AtomicLongArray((int) wordCount);
+        this.bitCount = wordCount * 64;
+        this.hashFunctions = hashFunctions;
+    }
+
+    /**
+     * Create a filter sized for the expected number of values.
+     *
+     * @param expectedInsertions the number of values the filter should hold
+     * @param falsePositiveRate the false positive rate at that size, between 0 and 1
+     * @return the filter
+     */
+    public static BloomFilter create(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0) {
+            throw new IllegalArgumentException("Expected insertions must be positive");
+        }
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("False positive rate must be between 0 and 1");
+        }
+        long bits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (LN2 * LN2));
+        int hashes = (int) Math.max(1, Math.round((double) bits / expectedInsertions * LN2));
+        return new BloomFilter(Math.max(bits, 64), hashes);
+    }
+
+    /**
+     * Add a value.
+     *
+     * @param value the value
+     */
+    public void add(String value) {
+        long[] hash = hash(value);
+        for (int i = 0; i < hashFunctions; i++) {
+            long bit = bitIndex(hash, i);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            if ((words.get(word) & mask) == 0) {
+                words.getAndUpdate(word, current -> current | mask);
+            }
+        }
+    }
+
+    /**
+     * Whether the value may have been added. False means it definitely wasn't.
+     *
+     * @param value the value
+     * @return true if the value may be present
+     */
+    public boolean mightContain(String value) {
+        long[] hash = hash(value);
+        for (int i = 0; i < hashFunctions; i++) {
+            long bit = bitIndex(hash, i);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * The number of bits.
+     *
+     * @return the bit count
+     */
+    public long bitCount() {
+        return bitCount;
+    }
+
+    /**
+     * The number of bits set to one per value.
+     *
+     * @return the hash function count
+     */
+    public int hashFunctions() {
+        return hashFunctions;
+    }
+
+    private long bitIndex(long[] hash, int i) {
+        return Math.floorMod(hash[0] + i * hash[1], bitCount);
+    }
+
+    private static long[] hash(String value) {
+        return MurmurHash3.hash128x64(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
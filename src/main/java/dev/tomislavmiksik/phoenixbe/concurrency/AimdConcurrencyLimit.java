@@ -0,0 +1,100 @@
+package dev.tomislavmiksik.phoenixbe.concurrency;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Adaptive concurrency limit using additive-increase / multiplicative-decrease.
+ * <p>
+ * The limit grows by one for every request that completes under the latency threshold
+ * while the server is actually using at least half of the current limit, and shrinks by
+ * the backoff ratio whenever a request is slower than the threshold or fails.
+ * All state is held in atomics so acquiring and releasing never blocks.
+ */
+public class AimdConcurrencyLimit {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final long latencyThresholdNanos;
+
+    private final AtomicInteger limit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    /**
+     * Instantiates a new AIMD concurrency limit.
+     *
+     * @param initialLimit       the starting limit
+     * @param minLimit           the lowest the limit may shrink to
+     * @param maxLimit           the highest the limit may grow to
+     * @param backoffRatio       multiplier applied on a slow or failed request, between 0 and 1
+     * @param latencyThresholdMs latency above which a request counts as congestion
+     */
+    public AimdConcurrencyLimit(int initialLimit, int minLimit, int maxLimit,
+                                double backoffRatio, long latencyThresholdMs) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("Limit bounds must satisfy 1 <= min <= max");
+        }
+        if (backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("Backoff ratio must be between 0 and 1");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.latencyThresholdNanos = TimeUnit.MILLISECONDS.toNanos(latencyThresholdMs);
+        this.limit = new AtomicInteger(Math.max(minLimit, Math.min(maxLimit, initialLimit)));
+    }
+
+    /**
+     * Try to reserve a slot for a new request.
+     *
+     * @return the number of requests in flight including this one, or -1 if the limit is reached
+     */
+    public int tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit.get()) {
+                return -1;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return current + 1;
+            }
+        }
+    }
+
+    /**
+     * Release a slot and feed the observed latency back into the limit.
+     *
+     * @param latencyNanos    how long the request took
+     * @param inFlightAtStart the value returned by {@link #tryAcquire()}
+     * @param failed          whether the request ended with an exception
+     */
+    public void release(long latencyNanos, int inFlightAtStart, boolean failed) {
+        inFlight.decrementAndGet();
+
+        if (failed || latencyNanos > latencyThresholdNanos) {
+            limit.updateAndGet(current -> Math.max(minLimit, (int) (current * backoffRatio)));
+        } else if (inFlightAtStart * 2 >= limit.get()) {
+            // Only grow when the current limit is actually being exercised
+            limit.updateAndGet(current -> Math.min(maxLimit, current + 1));
+        }
+    }
+
+    /**
+     * Gets the current limit.
+     *
+     * @return the limit
+     */
+    public int getLimit() {
+        return limit.get();
+    }
+
+    /**
+     * Gets the number of requests currently in flight.
+     *
+     * @return the in flight count
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+}
@@ -0,0 +1,138 @@
+package dev.tomislavmiksik.phoenixbe.concurrency;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fixed concurrency permits for one {@link WorkloadCategory}, with a short bounded queue in front.
+ * <p>
+ * A request takes a free permit straight away; otherwise it waits in line if the queue has room,
+ * for at most the category's wait. Requests that find the queue full or time out are rejected, so
+ * a category can only ever hold its own permits plus its queue of worker threads.
+ */
+public class Bulkhead {
+
+    private final Semaphore permits;
+    private final int maxConcurrent;
+    private final int maxQueued;
+    private final long maxWaitNanos;
+    private final AtomicInteger queued = new AtomicInteger();
+    private final Counter rejectedQueueFull;
+    private final Counter rejectedTimeout;
+    private final Timer waitTimer;
+
+    /**
+     * Instantiates a new Bulkhead.
+     *
+     * @param category the category, used as the metrics tag
+     * @param maxConcurrent the requests allowed to run at once
+     * @param maxQueued the requests allowed to wait for a permit
+     * @param maxWait the longest a request waits for a permit
+     * @param meterRegistry the meter registry
+     */
+    public Bulkhead(WorkloadCategory category, int maxConcurrent, int maxQueued, Duration maxWait,
+                    MeterRegistry meterRegistry) {
+        if (maxConcurrent < 1 || maxQueued < 0) {
+            throw new IllegalArgumentException("Bulkhead needs at least one permit and a non-negative queue");
+        }
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.maxConcurrent = maxConcurrent;
+        this.maxQueued = maxQueued;
+        this.maxWaitNanos = maxWait.toNanos();
+        String tag = category.name().toLowerCase(Locale.ROOT);
+        this.rejectedQueueFull = Counter.builder("phoenix.bulkhead.rejected")
+                .description("Requests rejected by their category's bulkhead")
+                .tag("category", tag)
+                .tag("reason", "queue_full")
+                .register(meterRegistry);
+        this.rejectedTimeout = Counter.builder("phoenix.bulkhead.rejected")
+                .description("Requests rejected by their category's bulkhead")
+                .tag("category", tag)
+                .tag("reason", "timeout")
+                .register(meterRegistry);
+        this.waitTimer = Timer.builder("phoenix.bulkhead.wait")
+                .description("Time queued requests waited for a bulkhead permit")
+                .tag("category", tag)
+                .register(meterRegistry);
+        Gauge.builder("phoenix.bulkhead.active", this, Bulkhead::active)
+                .description("Requests holding a bulkhead permit")
+                .tag("category", tag)
+                .register(meterRegistry);
+        Gauge.builder("phoenix.bulkhead.queued", queued, AtomicInteger::get)
+                .description("Requests waiting for a bulkhead permit")
+                .tag("category", tag)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Take a permit, waiting in the queue if there is room. Every successful call must be paired
+     * with {@link #exit()}.
+     *
+     * @return false if the request was rejected
+     */
+    public boolean tryEnter() {
+        // The timed form honours fairness; plain tryAcquire() would barge ahead of queued requests
+        try {
+            if (permits.tryAcquire(0, TimeUnit.NANOSECONDS)) {
+                return true;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        if (queued.incrementAndGet() > maxQueued) {
+            queued.decrementAndGet();
+            rejectedQueueFull.increment();
+            return false;
+        }
+
+        long start = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        } finally {
+            queued.decrementAndGet();
+            waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        if (!acquired) {
+            rejectedTimeout.increment();
+        }
+        return acquired;
+    }
+
+    /**
+     * Release the permit taken by {@link #tryEnter()}.
+     */
+    public void exit() {
+        permits.release();
+    }
+
+    /**
+     * Requests currently holding a permit.
+     *
+     * @return the count
+     */
+    public int active() {
+        return maxConcurrent - permits.availablePermits();
+    }
+
+    /**
+     * Requests currently waiting for a permit.
+     *
+     * @return the count
+     */
+    public int queued() {
+        return queued.get();
+    }
+}
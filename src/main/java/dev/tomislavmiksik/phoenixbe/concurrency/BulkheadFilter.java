@@ -0,0 +1,71 @@
+package dev.tomislavmiksik.phoenixbe.concurrency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.tomislavmiksik.phoenixbe.exceptions.RestException;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Admits each request through its category's {@link Bulkhead} and marks the thread with the
+ * category for the rest of the request, so {@link WorkloadRoutingDataSource} can route it.
+ * <p>
+ * Runs ahead of the adaptive limiter: a login storm fills the auth bulkhead and is rejected there,
+ * without taking the global capacity that reads depend on.
+ */
+@RequiredArgsConstructor
+public class BulkheadFilter extends OncePerRequestFilter {
+
+    private final Map<WorkloadCategory, Bulkhead> bulkheads;
+    private final ObjectMapper objectMapper;
+    private final long retryAfterSeconds;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().startsWith("/actuator/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        WorkloadCategory category = WorkloadCategory.of(request);
+        Bulkhead bulkhead = category != null ? bulkheads.get(category) : null;
+        if (bulkhead == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        if (!bulkhead.tryEnter()) {
+            reject(response);
+            return;
+        }
+        WorkloadCategory.setCurrent(category);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            WorkloadCategory.clearCurrent();
+            bulkhead.exit();
+        }
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        RestException error = new RestException(
+                HttpStatus.SERVICE_UNAVAILABLE.toString(),
+                "Server is at capacity for this kind of request, retry later"
+        );
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), error);
+    }
+}
@@ -0,0 +1,70 @@
+package dev.tomislavmiksik.phoenixbe.concurrency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.tomislavmiksik.phoenixbe.exceptions.RestException;
+import io.micrometer.core.instrument.Counter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Sheds load in front of the controllers once the adaptive concurrency limit is reached.
+ * <p>
+ * Rejected requests get an immediate 503 with a {@code Retry-After} header instead of
+ * queueing on a Tomcat worker waiting for a pool connection.
+ */
+@RequiredArgsConstructor
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private final AimdConcurrencyLimit concurrencyLimit;
+    private final Counter rejectedCounter;
+    private final ObjectMapper objectMapper;
+    private final long retryAfterSeconds;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        // Health checks and scrapes must keep working while the node is shedding load
+        return request.getRequestURI().startsWith("/actuator/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        int inFlight = concurrencyLimit.tryAcquire();
+
+        if (inFlight < 0) {
+            rejectedCounter.increment();
+            reject(response);
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            filterChain.doFilter(request, response);
+            failed = false;
+        } finally {
+            concurrencyLimit.release(System.nanoTime() - start, inFlight, failed);
+        }
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        RestException error = new RestException(
+                HttpStatus.SERVICE_UNAVAILABLE.toString(),
+                "Server is at capacity, retry later"
+        );
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), error);
+    }
+}
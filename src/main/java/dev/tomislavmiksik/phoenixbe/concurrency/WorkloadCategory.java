@@ -0,0 +1,65 @@
+package dev.tomislavmiksik.phoenixbe.concurrency;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Endpoint categories that get their own bulkhead, so a spike in one can't take the threads and
+ * connections the others need.
+ */
+public enum WorkloadCategory {
+
+    /**
+     * Password logins and registrations, dominated by BCrypt.
+     */
+    AUTH,
+
+    /**
+     * Measurement writes and bulk key provisioning.
+     */
+    WRITE,
+
+    /**
+     * Measurement reads.
+     */
+    READ;
+
+    private static final ThreadLocal<WorkloadCategory> CURRENT = new ThreadLocal<>();
+
+    /**
+     * The category of a request.
+     *
+     * @param request the request
+     * @return the category, or null if the request isn't bulkheaded
+     */
+    public static WorkloadCategory of(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        boolean read = "GET".equals(request.getMethod()) || "HEAD".equals(request.getMethod());
+        if (path.equals("/api/auth/login") || path.equals("/api/auth/register")) {
+            return AUTH;
+        }
+        if (path.equals("/api/measurements") || path.startsWith("/api/measurements/")) {
+            return read ? READ : WRITE;
+        }
+        if (path.equals("/api/admin/keys/bulk")) {
+            return WRITE;
+        }
+        return null;
+    }
+
+    /**
+     * The category of the request running on this thread.
+     *
+     * @return the category, or null outside a bulkheaded request
+     */
+    public static WorkloadCategory current() {
+        return CURRENT.get();
+    }
+
+    static void setCurrent(WorkloadCategory category) {
+        CURRENT.set(category);
+    }
+
+    static void clearCurrent() {
+        CURRENT.remove();
+    }
+}
@@ -0,0 +1,49 @@
+package dev.tomislavmiksik.phoenixbe.concurrency;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Hands out connections from a dedicated pool to requests of the categories that have one, and
+ * from the main pool to everything else, including background threads. Write bursts then wait on
+ * their own connections instead of the ones reads need.
+ */
+public class WorkloadRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    private final DataSource mainPool;
+    private final Map<WorkloadCategory, DataSource> dedicatedPools;
+
+    /**
+     * Instantiates a new Workload routing data source.
+     *
+     * @param mainPool the pool for everything without a dedicated one
+     * @param dedicatedPools the pools by category
+     */
+    public WorkloadRoutingDataSource(DataSource mainPool, Map<WorkloadCategory, DataSource> dedicatedPools) {
+        this.mainPool = mainPool;
+        this.dedicatedPools = dedicatedPools;
+        setDefaultTargetDataSource(mainPool);
+        setTargetDataSources(new HashMap<>(dedicatedPools));
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return WorkloadCategory.current();
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (DataSource pool : dedicatedPools.values()) {
+            if (pool instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+        if (mainPool instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package dev.tomislavmiksik.phoenixbe.config;
+
+import dev.tomislavmiksik.phoenixbe.audit.ApiKeyAuditEvent;
+import dev.tomislavmiksik.phoenixbe.audit.ApiKeyAuditRecorder;
+import dev.tomislavmiksik.phoenixbe.audit.ApiKeyAuditWriter;
+import dev.tomislavmiksik.phoenixbe.audit.AuditOverflowPolicy;
+import dev.tomislavmiksik.phoenixbe.audit.MpscRingBuffer;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+
+/**
+ * Wires the API key audit pipeline: request threads record into a bounded ring buffer and a single
+ * background writer persists it in batches, keeping the insert off the request path.
+ */
+@Configuration
+public class AuditConfig {
+
+    @Bean
+    public MpscRingBuffer<ApiKeyAuditEvent> apiKeyAuditBuffer(
+            @Value("${audit.buffer-capacity}") int capacity) {
+        return new MpscRingBuffer<>(capacity);
+    }
+
+    @Bean
+    public ApiKeyAuditRecorder apiKeyAuditRecorder(
+            MpscRingBuffer<ApiKeyAuditEvent> apiKeyAuditBuffer,
+            @Value("${audit.overflow-policy}") AuditOverflowPolicy overflowPolicy,
+            @Value("${audit.offer-timeout-ms}") long offerTimeoutMs,
+            MeterRegistry meterRegistry) {
+        return new ApiKeyAuditRecorder(
+                apiKeyAuditBuffer, overflowPolicy, Duration.ofMillis(offerTimeoutMs), meterRegistry);
+    }
+
+    @Bean
+    public ApiKeyAuditWriter apiKeyAuditWriter(
+            MpscRingBuffer<ApiKeyAuditEvent> apiKeyAuditBuffer,
+            JdbcTemplate jdbcTemplate,
+            @Value("${audit.batch-size}") int batchSize,
+            @Value("${audit.flush-interval-ms}") long flushIntervalMs,
+            MeterRegistry meterRegistry) {
+        return new ApiKeyAuditWriter(
+                apiKeyAuditBuffer, jdbcTemplate, batchSize, Duration.ofMillis(flushIntervalMs), meterRegistry);
+    }
+}
@@ -0,0 +1,87 @@
+package dev.tomislavmiksik.phoenixbe.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import dev.tomislavmiksik.phoenixbe.concurrency.Bulkhead;
+import dev.tomislavmiksik.phoenixbe.concurrency.BulkheadFilter;
+import dev.tomislavmiksik.phoenixbe.concurrency.WorkloadCategory;
+import dev.tomislavmiksik.phoenixbe.concurrency.WorkloadRoutingDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Gives logins, writes and reads their own concurrency permits and queues, and optionally writes
+ * their own connection pool, so a spike in one category can't push the others past their latency
+ * targets.
+ */
+@Configuration
+@ConditionalOnProperty(name = "bulkhead.enabled", havingValue = "true", matchIfMissing = true)
+public class BulkheadConfig {
+
+    @Bean
+    public FilterRegistrationBean<BulkheadFilter> bulkheadFilter(
+            Environment environment,
+            @Value("${bulkhead.retry-after-seconds}") long retryAfterSeconds,
+            MeterRegistry meterRegistry,
+            ObjectMapper objectMapper) {
+        Map<WorkloadCategory, Bulkhead> bulkheads = new EnumMap<>(WorkloadCategory.class);
+        for (WorkloadCategory category : WorkloadCategory.values()) {
+            String prefix = "bulkhead." + category.name().toLowerCase(Locale.ROOT) + ".";
+            bulkheads.put(category, new Bulkhead(category,
+                    environment.getRequiredProperty(prefix + "max-concurrent", Integer.class),
+                    environment.getRequiredProperty(prefix + "max-queued", Integer.class),
+                    Duration.ofMillis(environment.getRequiredProperty(prefix + "max-wait-ms", Long.class)),
+                    meterRegistry));
+        }
+
+        FilterRegistrationBean<BulkheadFilter> registration = new FilterRegistrationBean<>(
+                new BulkheadFilter(bulkheads, objectMapper, retryAfterSeconds));
+        // Ahead of the adaptive limiter, so one category's spike is rejected before it takes global capacity
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 5);
+        return registration;
+    }
+
+    @Bean
+    @Primary
+    @ConditionalOnExpression("${bulkhead.write.pool-size:0} > 0")
+    public DataSource dataSource(
+            DataSourceProperties dataSourceProperties,
+            Environment environment,
+            @Value("${bulkhead.write.pool-size}") int writePoolSize,
+            MeterRegistry meterRegistry) {
+        HikariDataSource mainPool = pool(dataSourceProperties, environment, "main", meterRegistry);
+        HikariDataSource writePool = pool(dataSourceProperties, environment, "write", meterRegistry);
+        writePool.setMaximumPoolSize(writePoolSize);
+        return new WorkloadRoutingDataSource(mainPool, Map.of(WorkloadCategory.WRITE, writePool));
+    }
+
+    private static HikariDataSource pool(DataSourceProperties dataSourceProperties, Environment environment,
+                                         String name, MeterRegistry meterRegistry) {
+        HikariDataSource pool = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(pool));
+        pool.setPoolName("phoenix-" + name);
+        // Registered here because the hikaricp metrics auto-configuration only sees the routing DataSource
+        pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return pool;
+    }
+}
@@ -0,0 +1,83 @@
+package dev.tomislavmiksik.phoenixbe.config;
+
+import dev.tomislavmiksik.phoenixbe.invalidation.CacheInvalidationBus;
+import dev.tomislavmiksik.phoenixbe.invalidation.CacheInvalidationListener;
+import dev.tomislavmiksik.phoenixbe.invalidation.ChangeTableTransport;
+import dev.tomislavmiksik.phoenixbe.invalidation.InvalidationPublisher;
+import dev.tomislavmiksik.phoenixbe.invalidation.InvalidationTransport;
+import dev.tomislavmiksik.phoenixbe.invalidation.InvalidationTransportType;
+import dev.tomislavmiksik.phoenixbe.invalidation.PostgresNotifyTransport;
+import dev.tomislavmiksik.phoenixbe.invalidation.SecondLevelCacheInvalidationListener;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Cluster-wide invalidation of local caches: writes to API keys, users and measurements publish a
+ * message inside their transaction, and every node's listener evicts the affected entries.
+ */
+@Configuration
+public class CacheInvalidationConfig {
+
+    @Bean
+    public InvalidationTransport cacheInvalidationTransport(
+            @Value("${cache-invalidation.transport}") InvalidationTransportType transport,
+            @Value("${cache-invalidation.listen-timeout-ms}") long listenTimeoutMs,
+            @Value("${cache-invalidation.poll-interval-ms}") long pollIntervalMs,
+            @Value("${cache-invalidation.retention-minutes}") long retentionMinutes,
+            DataSourceProperties dataSourceProperties,
+            JdbcTemplate jdbcTemplate) {
+        boolean notify = transport == InvalidationTransportType.NOTIFY
+                || (transport == InvalidationTransportType.AUTO
+                && dataSourceProperties.determineUrl().startsWith("jdbc:postgresql:"));
+        if (notify) {
+            // Outside the pool: the LISTEN connection is held for the node's lifetime
+            SimpleDriverDataSource listenerDataSource = dataSourceProperties.initializeDataSourceBuilder()
+                    .type(SimpleDriverDataSource.class)
+                    .build();
+            return new PostgresNotifyTransport(listenerDataSource, Duration.ofMillis(listenTimeoutMs));
+        }
+        return new ChangeTableTransport(
+                jdbcTemplate, Duration.ofMillis(pollIntervalMs), Duration.ofMinutes(retentionMinutes));
+    }
+
+    @Bean
+    public SecondLevelCacheInvalidationListener secondLevelCacheInvalidationListener(
+            EntityManagerFactory entityManagerFactory) {
+        return new SecondLevelCacheInvalidationListener(
+                entityManagerFactory.unwrap(SessionFactoryImplementor.class).getCache());
+    }
+
+    @Bean
+    public CacheInvalidationBus cacheInvalidationBus(
+            InvalidationTransport cacheInvalidationTransport,
+            List<CacheInvalidationListener> listeners,
+            EntityManagerFactory entityManagerFactory,
+            @Value("${cache-invalidation.retry-backoff-ms}") long retryBackoffMs,
+            MeterRegistry meterRegistry) {
+        String origin = UUID.randomUUID().toString();
+
+        InvalidationPublisher publisher = new InvalidationPublisher(cacheInvalidationTransport, origin, meterRegistry);
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .requireService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_INSERT, publisher);
+        registry.appendListeners(EventType.POST_UPDATE, publisher);
+        registry.appendListeners(EventType.POST_DELETE, publisher);
+
+        return new CacheInvalidationBus(cacheInvalidationTransport, origin, listeners,
+                Duration.ofMillis(retryBackoffMs), meterRegistry);
+    }
+}
@@ -0,0 +1,60 @@
+package dev.tomislavmiksik.phoenixbe.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.tomislavmiksik.phoenixbe.concurrency.AimdConcurrencyLimit;
+import dev.tomislavmiksik.phoenixbe.concurrency.ConcurrencyLimitFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Registers the adaptive concurrency limiter ahead of the security filter chain,
+ * so shed requests never reach API key or JWT lookups.
+ */
+@Configuration
+@ConditionalOnProperty(name = "concurrency.limit.enabled", havingValue = "true", matchIfMissing = true)
+public class ConcurrencyLimitConfig {
+
+    @Bean
+    public AimdConcurrencyLimit aimdConcurrencyLimit(
+            @Value("${concurrency.limit.initial}") int initialLimit,
+            @Value("${concurrency.limit.min}") int minLimit,
+            @Value("${concurrency.limit.max}") int maxLimit,
+            @Value("${concurrency.limit.backoff-ratio}") double backoffRatio,
+            @Value("${concurrency.limit.latency-threshold-ms}") long latencyThresholdMs,
+            MeterRegistry meterRegistry) {
+        AimdConcurrencyLimit limit = new AimdConcurrencyLimit(
+                initialLimit, minLimit, maxLimit, backoffRatio, latencyThresholdMs);
+
+        Gauge.builder("phoenix.concurrency.limit", limit, AimdConcurrencyLimit::getLimit)
+                .description("Current adaptive concurrency limit")
+                .register(meterRegistry);
+        Gauge.builder("phoenix.concurrency.inflight", limit, AimdConcurrencyLimit::getInFlight)
+                .description("Requests currently admitted by the concurrency limiter")
+                .register(meterRegistry);
+
+        return limit;
+    }
+
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(
+            AimdConcurrencyLimit aimdConcurrencyLimit,
+            @Value("${concurrency.limit.retry-after-seconds}") long retryAfterSeconds,
+            MeterRegistry meterRegistry,
+            ObjectMapper objectMapper) {
+        Counter rejected = Counter.builder("phoenix.concurrency.rejected")
+                .description("Requests rejected with 503 because the concurrency limit was reached")
+                .register(meterRegistry);
+
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(
+                new ConcurrencyLimitFilter(aimdConcurrencyLimit, rejected, objectMapper, retryAfterSeconds));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+}
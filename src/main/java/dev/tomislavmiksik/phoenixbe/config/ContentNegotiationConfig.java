@@ -0,0 +1,43 @@
+package dev.tomislavmiksik.phoenixbe.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import dev.tomislavmiksik.phoenixbe.converter.MeasurementProtobufHttpMessageConverter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Binary alternatives to JSON for clients that ask for them via {@code Accept} / {@code Content-Type}:
+ * {@code application/cbor}, {@code application/x-jackson-smile} and {@code application/x-protobuf}.
+ * <p>
+ * The CBOR and Smile converters are built from Boot's Jackson builder so they serialize exactly like
+ * the JSON one, and they replace Spring's defaults in place, after JSON, so JSON stays the default
+ * for {@code Accept: *}{@code /*}.
+ */
+@Configuration
+public class ContentNegotiationConfig implements WebMvcConfigurer {
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        // Appended rather than declared as a bean: Boot puts extra converter beans first,
+        // which would make Protobuf the default representation
+        converters.add(new MeasurementProtobufHttpMessageConverter());
+    }
+}
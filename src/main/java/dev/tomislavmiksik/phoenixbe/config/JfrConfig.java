@@ -0,0 +1,46 @@
+package dev.tomislavmiksik.phoenixbe.config;
+
+import dev.tomislavmiksik.phoenixbe.jfr.JfrObservationHandler;
+import dev.tomislavmiksik.phoenixbe.jfr.JfrRecordingManager;
+import dev.tomislavmiksik.phoenixbe.jfr.RepositoryEventAspect;
+import dev.tomislavmiksik.phoenixbe.jfr.ResponseBodyEventFilter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Registers the application's JDK Flight Recorder events and the manager behind
+ * {@code /api/admin/jfr}. The events cost next to nothing until a recording enables them.
+ */
+@Configuration
+public class JfrConfig {
+
+    @Bean
+    public JfrRecordingManager jfrRecordingManager() {
+        return new JfrRecordingManager();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "jfr.events.enabled", havingValue = "true", matchIfMissing = true)
+    public JfrObservationHandler jfrObservationHandler() {
+        return new JfrObservationHandler();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "jfr.events.enabled", havingValue = "true", matchIfMissing = true)
+    public RepositoryEventAspect repositoryEventAspect() {
+        return new RepositoryEventAspect();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "jfr.events.enabled", havingValue = "true", matchIfMissing = true)
+    public FilterRegistrationBean<ResponseBodyEventFilter> responseBodyEventFilter() {
+        FilterRegistrationBean<ResponseBodyEventFilter> registration =
+                new FilterRegistrationBean<>(new ResponseBodyEventFilter());
+        registration.addUrlPatterns("/api/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 20);
+        return registration;
+    }
+}
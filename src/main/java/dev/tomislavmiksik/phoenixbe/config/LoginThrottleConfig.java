@@ -0,0 +1,43 @@
+package dev.tomislavmiksik.phoenixbe.config;
+
+import dev.tomislavmiksik.phoenixbe.login.LoginFailureTracker;
+import dev.tomislavmiksik.phoenixbe.login.LoginThrottle;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Wires login brute-force protection, so repeated failures and login bursts can't keep every core
+ * busy with BCrypt.
+ */
+@Configuration
+public class LoginThrottleConfig {
+
+    @Bean
+    public LoginThrottle loginThrottle(
+            @Value("${login.username-failure-threshold}") int usernameFailureThreshold,
+            @Value("${login.address-failure-threshold}") int addressFailureThreshold,
+            @Value("${login.base-backoff-ms}") long baseBackoffMs,
+            @Value("${login.max-backoff-ms}") long maxBackoffMs,
+            @Value("${login.failure-window-minutes}") long failureWindowMinutes,
+            @Value("${login.max-tracked-keys}") int maxTrackedKeys,
+            @Value("${login.max-concurrent-verifications}") int maxConcurrentVerifications,
+            @Value("${login.verification-wait-ms}") long verificationWaitMs,
+            MeterRegistry meterRegistry) {
+        long baseBackoff = TimeUnit.MILLISECONDS.toNanos(baseBackoffMs);
+        long maxBackoff = TimeUnit.MILLISECONDS.toNanos(maxBackoffMs);
+        long window = TimeUnit.MINUTES.toNanos(failureWindowMinutes);
+        return new LoginThrottle(
+                new LoginFailureTracker(maxTrackedKeys, usernameFailureThreshold, baseBackoff, maxBackoff, window),
+                new LoginFailureTracker(maxTrackedKeys, addressFailureThreshold, baseBackoff, maxBackoff, window),
+                maxConcurrentVerifications > 0
+                        ? maxConcurrentVerifications
+                        : Runtime.getRuntime().availableProcessors(),
+                Duration.ofMillis(verificationWaitMs),
+                meterRegistry);
+    }
+}
@@ -0,0 +1,53 @@
+package dev.tomislavmiksik.phoenixbe.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.aop.ObservedAspect;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Enables {@link io.micrometer.observation.annotation.Observed} on service classes, so each service
+ * call produces both a timer and a trace span. Controller endpoints are observed by Spring MVC's
+ * {@code http.server.requests} observation and Hikari by Boot's pool metrics.
+ */
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * Name of the observation recorded for every service method, tagged with class and method.
+     */
+    public static final String SERVICE_OBSERVATION = "phoenix.service";
+
+    /**
+     * Name of the observation covering the work of an authentication filter, tagged with method and outcome.
+     */
+    public static final String AUTH_OBSERVATION = "phoenix.auth";
+
+    /**
+     * Name of the counter recorded for every authentication attempt, tagged with method and outcome.
+     */
+    public static final String AUTH_ATTEMPTS = "phoenix.auth.attempts";
+
+    @Bean
+    public ObservedAspect observedAspect(ObservationRegistry observationRegistry) {
+        return new ObservedAspect(observationRegistry);
+    }
+
+    /**
+     * Register the authentication attempt counter for one method and outcome.
+     *
+     * @param meterRegistry the meter registry
+     * @param method the authentication method
+     * @param outcome the outcome
+     * @return the counter
+     */
+    public static Counter authAttempts(MeterRegistry meterRegistry, String method, String outcome) {
+        return Counter.builder(AUTH_ATTEMPTS)
+                .description("Authentication attempts by method and outcome")
+                .tag("method", method)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,33 @@
+package dev.tomislavmiksik.phoenixbe.config;
+
+import dev.tomislavmiksik.phoenixbe.security.CalibratedPasswordEncoder;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Picks the BCrypt cost for this hardware at startup, so login latency follows
+ * {@code password.hash-budget-ms} instead of whatever the library default costs here.
+ */
+@Configuration
+public class PasswordHashingConfig {
+
+    @Bean
+    public CalibratedPasswordEncoder passwordEncoder(
+            @Value("${password.cost}") int cost,
+            @Value("${password.hash-budget-ms}") long hashBudgetMs,
+            @Value("${password.min-cost}") int minCost,
+            @Value("${password.max-cost}") int maxCost,
+            @Value("${password.hash-threads}") int hashThreads,
+            @Value("${password.hash-queue-capacity}") int hashQueueCapacity,
+            MeterRegistry meterRegistry) {
+        return new CalibratedPasswordEncoder(
+                cost > 0 ? cost : CalibratedPasswordEncoder.calibrate(Duration.ofMillis(hashBudgetMs), minCost, maxCost),
+                hashThreads > 0 ? hashThreads : Runtime.getRuntime().availableProcessors(),
+                hashQueueCapacity,
+                meterRegistry);
+    }
+}
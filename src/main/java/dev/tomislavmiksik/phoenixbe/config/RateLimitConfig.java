@@ -0,0 +1,45 @@
+package dev.tomislavmiksik.phoenixbe.config;
+
+import dev.tomislavmiksik.phoenixbe.ratelimit.ApiKeyRateLimiter;
+import dev.tomislavmiksik.phoenixbe.ratelimit.ApiKeyUsageReconciler;
+import dev.tomislavmiksik.phoenixbe.ratelimit.ApiKeyUsageStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+
+/**
+ * Wires per-API-key rate limits: checks run in memory on the request thread and a background
+ * reconciler keeps daily quota counts in the database, so one integration can't take the whole
+ * connection pool.
+ */
+@Configuration
+public class RateLimitConfig {
+
+    @Bean
+    public ApiKeyUsageStore apiKeyUsageStore(JdbcTemplate jdbcTemplate) {
+        return new ApiKeyUsageStore(jdbcTemplate);
+    }
+
+    @Bean
+    public ApiKeyRateLimiter apiKeyRateLimiter(
+            ApiKeyUsageStore apiKeyUsageStore,
+            @Value("${rate-limit.default-requests-per-second}") int defaultRequestsPerSecond,
+            @Value("${rate-limit.default-burst}") int defaultBurst,
+            MeterRegistry meterRegistry) {
+        return new ApiKeyRateLimiter(defaultRequestsPerSecond, defaultBurst, apiKeyUsageStore, meterRegistry);
+    }
+
+    @Bean
+    public ApiKeyUsageReconciler apiKeyUsageReconciler(
+            ApiKeyRateLimiter apiKeyRateLimiter,
+            ApiKeyUsageStore apiKeyUsageStore,
+            @Value("${rate-limit.reconcile-interval-ms}") long reconcileIntervalMs,
+            MeterRegistry meterRegistry) {
+        return new ApiKeyUsageReconciler(
+                apiKeyRateLimiter, apiKeyUsageStore, Duration.ofMillis(reconcileIntervalMs), meterRegistry);
+    }
+}
@@ -0,0 +1,90 @@
+package dev.tomislavmiksik.phoenixbe.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.tomislavmiksik.phoenixbe.audit.ApiKeyAuditRecorder;
+import dev.tomislavmiksik.phoenixbe.ratelimit.ApiKeyRateLimiter;
+import dev.tomislavmiksik.phoenixbe.reactive.MeasurementReadHandler;
+import dev.tomislavmiksik.phoenixbe.reactive.ReactiveApiKeyRepository;
+import dev.tomislavmiksik.phoenixbe.reactive.ReactiveAuditFilter;
+import dev.tomislavmiksik.phoenixbe.reactive.ReactiveAuthenticationFilter;
+import dev.tomislavmiksik.phoenixbe.reactive.ReactiveDatabase;
+import dev.tomislavmiksik.phoenixbe.reactive.ReactiveMeasurementRepository;
+import dev.tomislavmiksik.phoenixbe.reactive.ReactiveReadServer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+/**
+ * Wires the non-blocking measurement read path: WebFlux functional endpoints backed by R2DBC,
+ * served on a separate port so it can be A/B tested against the servlet stack per deployment.
+ */
+@Configuration
+@ConditionalOnProperty(name = "reactive.enabled", havingValue = "true")
+public class ReactiveReadConfig {
+
+    @Bean(destroyMethod = "destroy")
+    public ReactiveDatabase reactiveDatabase(
+            @Value("${reactive.r2dbc.url}") String url,
+            @Value("${reactive.r2dbc.username}") String username,
+            @Value("${reactive.r2dbc.password}") String password,
+            @Value("${reactive.r2dbc.pool-size}") int poolSize) {
+        return new ReactiveDatabase(url, username, password, poolSize);
+    }
+
+    @Bean
+    public ReactiveMeasurementRepository reactiveMeasurementRepository(ReactiveDatabase reactiveDatabase) {
+        return new ReactiveMeasurementRepository(reactiveDatabase.getDatabaseClient());
+    }
+
+    @Bean
+    public ReactiveApiKeyRepository reactiveApiKeyRepository(ReactiveDatabase reactiveDatabase) {
+        return new ReactiveApiKeyRepository(reactiveDatabase.getDatabaseClient());
+    }
+
+    @Bean
+    public RouterFunction<ServerResponse> measurementReadRoutes(
+            ReactiveMeasurementRepository reactiveMeasurementRepository,
+            ReactiveApiKeyRepository reactiveApiKeyRepository,
+            ApiKeyRateLimiter apiKeyRateLimiter) {
+        MeasurementReadHandler handler = new MeasurementReadHandler(reactiveMeasurementRepository);
+
+        return RouterFunctions.route()
+                .path("/api/measurements", builder -> builder
+                        .GET("", handler::getAllMeasurements)
+                        .GET("/recent", handler::getRecentMeasurements)
+                        .GET("/range", handler::getMeasurementsInRange)
+                        .GET("/summary", handler::getMeasurementSummary))
+                .filter(new ReactiveAuthenticationFilter(reactiveApiKeyRepository, apiKeyRateLimiter))
+                .build();
+    }
+
+    @Bean
+    public ReactiveReadServer reactiveReadServer(
+            RouterFunction<ServerResponse> measurementReadRoutes,
+            ObjectMapper objectMapper,
+            ApiKeyAuditRecorder apiKeyAuditRecorder,
+            @Value("${server.address:0.0.0.0}") String address,
+            @Value("${reactive.port}") int port,
+            @Value("${reactive.event-loop-threads}") int eventLoopThreads) {
+        HandlerStrategies strategies = HandlerStrategies.builder()
+                .codecs(codecs -> {
+                    codecs.defaultCodecs().jackson2JsonEncoder(
+                            new Jackson2JsonEncoder(objectMapper, MediaType.APPLICATION_JSON));
+                    codecs.defaultCodecs().jackson2JsonDecoder(
+                            new Jackson2JsonDecoder(objectMapper, MediaType.APPLICATION_JSON));
+                })
+                .webFilter(new ReactiveAuditFilter(apiKeyAuditRecorder))
+                .build();
+
+        return new ReactiveReadServer(
+                RouterFunctions.toHttpHandler(measurementReadRoutes, strategies), address, port, eventLoopThreads);
+    }
+}
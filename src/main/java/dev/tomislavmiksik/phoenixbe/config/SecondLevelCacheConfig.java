@@ -0,0 +1,57 @@
+package dev.tomislavmiksik.phoenixbe.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import dev.tomislavmiksik.phoenixbe.entity.ApiKey;
+import dev.tomislavmiksik.phoenixbe.entity.User;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded, expiring JCache (Caffeine) regions for Hibernate's second-level cache. Only the entities
+ * read on every authenticated request are cached: users and API keys, each with a natural-id region
+ * so username and key hash lookups resolve without a query.
+ * <p>
+ * Updates made through Hibernate keep the regions consistent, and other nodes' updates are evicted by
+ * {@link CacheInvalidationConfig}; writes that bypass Hibernate are only picked up once an entry expires.
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    private static final List<String> REGIONS = List.of(
+            User.CACHE_REGION, User.NATURAL_ID_CACHE_REGION,
+            ApiKey.CACHE_REGION, ApiKey.NATURAL_ID_CACHE_REGION);
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(
+            @Value("${second-level-cache.max-entries}") long maxEntries,
+            @Value("${second-level-cache.ttl-seconds}") long ttlSeconds) {
+        // A URI per context, so test contexts don't share regions through the provider's registry
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("phoenix-l2-" + UUID.randomUUID()), getClass().getClassLoader());
+
+        for (String region : REGIONS) {
+            CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            configuration.setMaximumSize(OptionalLong.of(maxEntries));
+            configuration.setExpireAfterWrite(OptionalLong.of(TimeUnit.SECONDS.toNanos(ttlSeconds)));
+            cacheManager.createCache(region, configuration);
+        }
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+}
@@ -0,0 +1,31 @@
+package dev.tomislavmiksik.phoenixbe.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.servlet.Filter;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.web.SecurityFilterChain;
+
+import javax.sql.DataSource;
+
+/**
+ * Selective lazy initialization for the {@code fast} profile. With
+ * {@code spring.main.lazy-initialization=true} beans are created on first use, except the ones
+ * excluded here: the connection pool, JPA and the security filter chain stay eager so the first
+ * request doesn't pay for them, and lifecycle beans such as the audit writer still start.
+ */
+@Configuration
+public class StartupConfig {
+
+    @Bean
+    static LazyInitializationExcludeFilter eagerRequestPath() {
+        return LazyInitializationExcludeFilter.forBeanTypes(
+                DataSource.class,
+                EntityManagerFactory.class,
+                SecurityFilterChain.class,
+                Filter.class,
+                SmartLifecycle.class);
+    }
+}
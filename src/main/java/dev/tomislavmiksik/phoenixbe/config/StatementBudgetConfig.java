@@ -0,0 +1,41 @@
+package dev.tomislavmiksik.phoenixbe.config;
+
+import dev.tomislavmiksik.phoenixbe.jdbc.StatementBudgetFilter;
+import dev.tomislavmiksik.phoenixbe.jdbc.StatementCounter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Counts JDBC statements per thread through the datasource-proxy wrapper installed for tracing, and
+ * optionally warns about requests over {@code statement-budget.max-statements}.
+ */
+@Configuration
+public class StatementBudgetConfig {
+
+    @Bean
+    public StatementCounter statementCounter() {
+        return new StatementCounter();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "statement-budget.enabled", havingValue = "true")
+    public FilterRegistrationBean<StatementBudgetFilter> statementBudgetFilter(
+            @Value("${statement-budget.max-statements}") int maxStatements,
+            MeterRegistry meterRegistry) {
+        Counter exceeded = Counter.builder("phoenix.statement.budget.exceeded")
+                .description("Requests that executed more JDBC statements than the budget")
+                .register(meterRegistry);
+
+        FilterRegistrationBean<StatementBudgetFilter> registration =
+                new FilterRegistrationBean<>(new StatementBudgetFilter(maxStatements, exceeded));
+        registration.addUrlPatterns("/api/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 30);
+        return registration;
+    }
+}
@@ -0,0 +1,34 @@
+package dev.tomislavmiksik.phoenixbe.config;
+
+import dev.tomislavmiksik.phoenixbe.revocation.TokenDenyList;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+
+import java.time.Duration;
+
+/**
+ * Keeps revoked JWTs in time-bucketed Bloom filters, so the JWT filters reject logged-out tokens
+ * without querying {@code revoked_token} for every request.
+ */
+@Configuration
+public class TokenRevocationConfig {
+
+    @Bean
+    public TokenDenyList tokenDenyList(
+            DataSource dataSource,
+            @Value("${jwt.expiration}") long jwtExpirationMs,
+            @Value("${jwt.revocation.bucket-hours}") long bucketHours,
+            @Value("${jwt.revocation.expected-per-bucket}") long expectedPerBucket,
+            @Value("${jwt.revocation.false-positive-rate}") double falsePositiveRate,
+            @Value("${jwt.revocation.purge-interval-minutes}") long purgeIntervalMinutes,
+            MeterRegistry meterRegistry) {
+        return new TokenDenyList(new JdbcTemplate(dataSource), Duration.ofHours(bucketHours), expectedPerBucket,
+                falsePositiveRate, Duration.ofMillis(jwtExpirationMs), Duration.ofMinutes(purgeIntervalMinutes),
+                meterRegistry);
+    }
+}
@@ -0,0 +1,28 @@
+package dev.tomislavmiksik.phoenixbe.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.tomislavmiksik.phoenixbe.tracing.JsonLinesSpanExporter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Registers the local span exporter. Boot's OpenTelemetry auto-configuration picks up every
+ * {@link io.opentelemetry.sdk.trace.export.SpanExporter} bean, so an OTLP exporter can be added
+ * alongside this one without code changes.
+ */
+@Configuration
+public class TracingConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "tracing.export.file")
+    public JsonLinesSpanExporter jsonLinesSpanExporter(
+            @Value("${tracing.export.file}") String file,
+            ObjectMapper objectMapper) throws IOException {
+        return new JsonLinesSpanExporter(Path.of(file), objectMapper);
+    }
+}
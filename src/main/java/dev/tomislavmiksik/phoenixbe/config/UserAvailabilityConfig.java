@@ -0,0 +1,34 @@
+package dev.tomislavmiksik.phoenixbe.config;
+
+import dev.tomislavmiksik.phoenixbe.availability.UserAvailabilityIndex;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Keeps Bloom filters of taken usernames and emails in memory, so availability checks and
+ * registrations for new names don't query the {@code users} unique indexes.
+ */
+@Configuration
+public class UserAvailabilityConfig {
+
+    @Bean
+    public UserAvailabilityIndex userAvailabilityIndex(
+            DataSource dataSource,
+            PlatformTransactionManager transactionManager,
+            @Value("${user-availability.false-positive-rate}") double falsePositiveRate,
+            @Value("${user-availability.min-expected-users}") long minExpectedUsers,
+            @Value("${user-availability.rebuild-interval-minutes}") long rebuildIntervalMinutes,
+            MeterRegistry meterRegistry) {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        return new UserAvailabilityIndex(dataSource, readOnly, falsePositiveRate, minExpectedUsers,
+                Duration.ofMinutes(rebuildIntervalMinutes), meterRegistry);
+    }
+}
@@ -1,19 +1,37 @@
 package dev.tomislavmiksik.phoenixbe.controller;
 
+import dev.tomislavmiksik.phoenixbe.dto.audit.ApiKeyAuditResponse;
 import dev.tomislavmiksik.phoenixbe.dto.keygen.ApiKeyRequest;
+import dev.tomislavmiksik.phoenixbe.dto.keygen.ApiKeyPage;
 import dev.tomislavmiksik.phoenixbe.dto.keygen.ApiKeyResponse;
-import dev.tomislavmiksik.phoenixbe.entity.ApiKey;
+import dev.tomislavmiksik.phoenixbe.dto.keygen.ApiKeyStatus;
+import dev.tomislavmiksik.phoenixbe.dto.keygen.ApiKeySummary;
+import dev.tomislavmiksik.phoenixbe.dto.keygen.BulkApiKeyRequest;
+import dev.tomislavmiksik.phoenixbe.security.ApiKeyScopes;
 import dev.tomislavmiksik.phoenixbe.service.AdminService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.net.URI;
+import java.io.BufferedWriter;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
 
 @RestController()
 @RequestMapping("/api/admin")
@@ -24,12 +42,69 @@ public class AdminController {
 
     @PostMapping("/keygen")
     public ResponseEntity<?> createApiKey(@Valid @RequestBody ApiKeyRequest body){
+        ApiKeyScopes scopes = scopes(body.getScopes());
         try {
-            ApiKeyResponse response = adminService.createApiKey(body.getLabel());
+            ApiKeyResponse response = adminService.createApiKey(body.getLabel(), scopes);
 
             return ResponseEntity.ok(response);
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Invalid credentials");
         }
     }
+
+    @GetMapping("/audit")
+    public ResponseEntity<List<ApiKeyAuditResponse>> getApiKeyAudit(
+            @RequestParam(required = false) Long apiKeyId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "100") int size) {
+        Instant end = to != null ? to : Instant.now();
+        Instant start = from != null ? from : end.minus(Duration.ofDays(1));
+        return ResponseEntity.ok(adminService.getApiKeyAudit(apiKeyId, start, end, page, size));
+    }
+
+    @GetMapping("/keys")
+    public ResponseEntity<ApiKeyPage> listApiKeys(
+            @RequestParam(required = false) String label,
+            @RequestParam(required = false) ApiKeyStatus status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant usedSince,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant unusedSince,
+            @RequestParam(required = false) Long before,
+            @RequestParam(defaultValue = "100") int size) {
+        return ResponseEntity.ok(adminService.listApiKeys(label, status, usedSince, unusedSince, before, size));
+    }
+
+    @PostMapping("/keys/{id}/revoke")
+    public ResponseEntity<ApiKeySummary> revokeApiKey(@PathVariable Long id) {
+        return ResponseEntity.ok(adminService.revokeApiKey(id));
+    }
+
+    @PostMapping("/keys/{id}/rotate")
+    public ResponseEntity<ApiKeyResponse> rotateApiKey(@PathVariable Long id) {
+        return ResponseEntity.ok(adminService.rotateApiKey(id));
+    }
+
+    @PostMapping("/keys/bulk")
+    public ResponseEntity<StreamingResponseBody> provisionApiKeys(@Valid @RequestBody BulkApiKeyRequest body) {
+        List<String> rawKeys = adminService.provisionApiKeys(body.getLabel(), body.getCount(), scopes(body.getScopes()));
+
+        // One raw key per line, written as it goes rather than rendered into a single JSON document
+        StreamingResponseBody stream = outputStream -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            for (String rawKey : rawKeys) {
+                writer.write(rawKey);
+                writer.write('\n');
+            }
+            writer.flush();
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.TEXT_PLAIN)
+                .cacheControl(CacheControl.noStore())
+                .body(stream);
+    }
+
+    private static ApiKeyScopes scopes(List<String> values) {
+        return values != null ? ApiKeyScopes.parse(values) : ApiKeyScopes.DEFAULT;
+    }
 }
@@ -0,0 +1,67 @@
+package dev.tomislavmiksik.phoenixbe.controller;
+
+import dev.tomislavmiksik.phoenixbe.dto.jfr.JfrRecordingResponse;
+import dev.tomislavmiksik.phoenixbe.jfr.JfrRecordingManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+
+@RestController
+@RequestMapping("/api/admin/jfr")
+@RequiredArgsConstructor
+public class JfrController {
+
+    private final JfrRecordingManager recordingManager;
+
+    @Value("${jfr.default-max-age-minutes}")
+    private long defaultMaxAgeMinutes;
+
+    @GetMapping
+    public ResponseEntity<JfrRecordingResponse> getRecording() {
+        return ResponseEntity.of(recordingManager.status());
+    }
+
+    @PostMapping("/start")
+    public ResponseEntity<JfrRecordingResponse> startRecording(
+            @RequestParam(defaultValue = "profile") String settings,
+            @RequestParam(required = false) Long maxAgeMinutes) {
+        long minutes = maxAgeMinutes != null ? maxAgeMinutes : defaultMaxAgeMinutes;
+        return ResponseEntity.ok(recordingManager.start(settings, Duration.ofMinutes(minutes)));
+    }
+
+    @PostMapping("/stop")
+    public ResponseEntity<JfrRecordingResponse> stopRecording() {
+        return ResponseEntity.ok(recordingManager.stop());
+    }
+
+    @GetMapping("/dump")
+    public ResponseEntity<Resource> dumpRecording() throws IOException {
+        Path file = recordingManager.dump();
+        long size = Files.size(file);
+
+        // The temporary file is removed once the response has been streamed
+        Resource body = new InputStreamResource(Files.newInputStream(file, StandardOpenOption.DELETE_ON_CLOSE));
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .contentLength(size)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(file.getFileName().toString()).build().toString())
+                .body(body);
+    }
+}
@@ -1,14 +1,18 @@
 package dev.tomislavmiksik.phoenixbe.controller;
 
+import dev.tomislavmiksik.phoenixbe.dto.measurements.MeasurementBatchRequest;
 import dev.tomislavmiksik.phoenixbe.dto.measurements.MeasurementRequest;
 import dev.tomislavmiksik.phoenixbe.dto.measurements.MeasurementResponse;
+import dev.tomislavmiksik.phoenixbe.dto.measurements.MeasurementSummaryResponse;
 import dev.tomislavmiksik.phoenixbe.service.MeasurementService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -28,6 +32,16 @@ public class MeasurementController {
         }
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<?> createMeasurements(@Valid @RequestBody MeasurementBatchRequest request) {
+        try {
+            List<MeasurementResponse> response = measurementService.createMeasurements(request.getMeasurements());
+            return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
     @GetMapping
     public ResponseEntity<List<MeasurementResponse>> getAllMeasurements() {
         List<MeasurementResponse> measurements = measurementService.getAllMeasurements();
@@ -41,6 +55,24 @@ public class MeasurementController {
         return ResponseEntity.ok(measurements);
     }
 
+    @GetMapping("/range")
+    public ResponseEntity<?> getMeasurementsInRange(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        try {
+            List<MeasurementResponse> measurements = measurementService.getMeasurementsInRange(from, to);
+            return ResponseEntity.ok(measurements);
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    @GetMapping("/summary")
+    public ResponseEntity<MeasurementSummaryResponse> getMeasurementSummary() {
+        MeasurementSummaryResponse summary = measurementService.getMeasurementSummary();
+        return ResponseEntity.ok(summary);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<?> getMeasurementById(@PathVariable Long id) {
         try {
@@ -0,0 +1,197 @@
+package dev.tomislavmiksik.phoenixbe.converter;
+
+import dev.tomislavmiksik.phoenixbe.dto.measurements.MeasurementBatchRequest;
+import dev.tomislavmiksik.phoenixbe.dto.measurements.MeasurementRequest;
+import dev.tomislavmiksik.phoenixbe.dto.measurements.MeasurementResponse;
+import dev.tomislavmiksik.phoenixbe.proto.Measurement;
+import dev.tomislavmiksik.phoenixbe.proto.MeasurementInput;
+import dev.tomislavmiksik.phoenixbe.proto.MeasurementInputList;
+import dev.tomislavmiksik.phoenixbe.proto.MeasurementList;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Converts measurement DTOs to and from the Protobuf schema in {@code measurement.proto}.
+ * <p>
+ * Only the measurement payloads are supported, so the DTOs stay the single source of truth
+ * and controllers don't need to know which format was negotiated.
+ */
+public class MeasurementProtobufHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    public static final MediaType PROTOBUF = new MediaType("application", "x-protobuf");
+
+    public MeasurementProtobufHttpMessageConverter() {
+        super(PROTOBUF);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return MeasurementResponse.class == clazz
+                || MeasurementRequest.class == clazz
+                || MeasurementBatchRequest.class == clazz
+                || Collection.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        Class<?> clazz = ResolvableType.forType(type).resolve(Object.class);
+        return (MeasurementRequest.class == clazz || MeasurementBatchRequest.class == clazz)
+                && canRead(mediaType);
+    }
+
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        if (!canWrite(mediaType)) {
+            return false;
+        }
+        if (MeasurementResponse.class == clazz) {
+            return true;
+        }
+        if (!Collection.class.isAssignableFrom(clazz)) {
+            return false;
+        }
+        // Element type is unknown for ResponseEntity<?>; writeInternal checks each element then
+        Class<?> element = type != null ? ResolvableType.forType(type).asCollection().resolveGeneric(0) : null;
+        return element == null || element == MeasurementResponse.class;
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage)
+            throws IOException, HttpMessageNotReadableException {
+        return readInternal(ResolvableType.forType(type).resolve(Object.class), inputMessage);
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage)
+            throws IOException, HttpMessageNotReadableException {
+        if (MeasurementBatchRequest.class == clazz) {
+            MeasurementInputList inputs = MeasurementInputList.parseFrom(inputMessage.getBody());
+            return MeasurementBatchRequest.builder()
+                    .measurements(inputs.getMeasurementsList().stream()
+                            .map(MeasurementProtobufHttpMessageConverter::toRequest)
+                            .toList())
+                    .build();
+        }
+        if (MeasurementRequest.class == clazz) {
+            return toRequest(MeasurementInput.parseFrom(inputMessage.getBody()));
+        }
+        throw new HttpMessageNotReadableException("Cannot read " + clazz.getName() + " as Protobuf", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(Object body, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        if (body instanceof MeasurementResponse response) {
+            toMessage(response).writeTo(outputMessage.getBody());
+            return;
+        }
+
+        MeasurementList.Builder list = MeasurementList.newBuilder();
+        for (Object element : (Collection<?>) body) {
+            if (!(element instanceof MeasurementResponse response)) {
+                throw new HttpMessageNotWritableException("Cannot write " +
+                        (element != null ? element.getClass().getName() : "null") + " as Protobuf");
+            }
+            list.addMeasurements(toMessage(response));
+        }
+        list.build().writeTo(outputMessage.getBody());
+    }
+
+    /**
+     * Map a response DTO to its Protobuf message.
+     *
+     * @param response the response
+     * @return the message
+     */
+    public static Measurement toMessage(MeasurementResponse response) {
+        Measurement.Builder builder = Measurement.newBuilder()
+                .setWeightHundredths(toHundredths(response.getWeight()))
+                .setHeightHundredths(toHundredths(response.getHeight()));
+
+        if (response.getId() != null) {
+            builder.setId(response.getId());
+        }
+        if (response.getUserId() != null) {
+            builder.setUserId(response.getUserId());
+        }
+        if (response.getChestCircumference() != null) {
+            builder.setChestCircumferenceHundredths(toHundredths(response.getChestCircumference()));
+        }
+        if (response.getArmCircumference() != null) {
+            builder.setArmCircumferenceHundredths(toHundredths(response.getArmCircumference()));
+        }
+        if (response.getLegCircumference() != null) {
+            builder.setLegCircumferenceHundredths(toHundredths(response.getLegCircumference()));
+        }
+        if (response.getWaistCircumference() != null) {
+            builder.setWaistCircumferenceHundredths(toHundredths(response.getWaistCircumference()));
+        }
+        if (response.getMeasurementDate() != null) {
+            builder.setMeasurementDate(toEpochMillis(response.getMeasurementDate()));
+        }
+        if (response.getCreatedAt() != null) {
+            builder.setCreatedAt(toEpochMillis(response.getCreatedAt()));
+        }
+        if (response.getUpdatedAt() != null) {
+            builder.setUpdatedAt(toEpochMillis(response.getUpdatedAt()));
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Map a list of response DTOs to a Protobuf list message.
+     *
+     * @param responses the responses
+     * @return the message
+     */
+    public static MeasurementList toMessage(List<MeasurementResponse> responses) {
+        MeasurementList.Builder list = MeasurementList.newBuilder();
+        responses.forEach(response -> list.addMeasurements(toMessage(response)));
+        return list.build();
+    }
+
+    private static MeasurementRequest toRequest(MeasurementInput input) {
+        return MeasurementRequest.builder()
+                .weight(fromHundredths(input.getWeightHundredths()))
+                .height(fromHundredths(input.getHeightHundredths()))
+                .chestCircumference(input.hasChestCircumferenceHundredths() ?
+                        fromHundredths(input.getChestCircumferenceHundredths()) : null)
+                .armCircumference(input.hasArmCircumferenceHundredths() ?
+                        fromHundredths(input.getArmCircumferenceHundredths()) : null)
+                .legCircumference(input.hasLegCircumferenceHundredths() ?
+                        fromHundredths(input.getLegCircumferenceHundredths()) : null)
+                .waistCircumference(input.hasWaistCircumferenceHundredths() ?
+                        fromHundredths(input.getWaistCircumferenceHundredths()) : null)
+                .measurementDate(input.hasMeasurementDate() ?
+                        LocalDateTime.ofInstant(Instant.ofEpochMilli(input.getMeasurementDate()), ZoneOffset.UTC) : null)
+                .build();
+    }
+
+    private static int toHundredths(BigDecimal value) {
+        return value != null ? value.movePointRight(2).setScale(0, RoundingMode.HALF_UP).intValueExact() : 0;
+    }
+
+    private static BigDecimal fromHundredths(int hundredths) {
+        return BigDecimal.valueOf(hundredths, 2);
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+}
@@ -0,0 +1,23 @@
+package dev.tomislavmiksik.phoenixbe.dto.audit;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ApiKeyAuditResponse {
+
+    private Long id;
+    private Long apiKeyId;
+    private String method;
+    private String path;
+    private int status;
+    private long latencyMicros;
+    private Instant occurredAt;
+}
@@ -0,0 +1,18 @@
+package dev.tomislavmiksik.phoenixbe.dto.auth;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class AvailabilityResponse {
+
+    private Boolean usernameAvailable;
+    private Boolean emailAvailable;
+}
@@ -0,0 +1,24 @@
+package dev.tomislavmiksik.phoenixbe.dto.jfr;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class JfrRecordingResponse {
+
+    private Long id;
+    private String name;
+    private String state;
+    private String settings;
+    private Instant startTime;
+    private Instant stopTime;
+    private Long maxAgeSeconds;
+    private long sizeBytes;
+}
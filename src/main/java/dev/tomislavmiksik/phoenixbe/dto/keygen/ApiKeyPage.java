@@ -0,0 +1,24 @@
+package dev.tomislavmiksik.phoenixbe.dto.keygen;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One page of API keys, newest first. Pass {@code nextCursor} as {@code before} to get the next page;
+ * it is absent on the last page.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ApiKeyPage {
+
+    private List<ApiKeySummary> keys;
+    private Long nextCursor;
+}
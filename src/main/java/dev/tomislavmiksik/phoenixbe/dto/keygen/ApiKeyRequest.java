@@ -7,6 +7,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.Duration;
+import java.util.List;
 
 /**
  * The type Api key request.
@@ -21,4 +22,7 @@ public class ApiKeyRequest {
     private String label;
 
     private Duration validFor;
+
+    // Scope values such as measurements:read; read and write when absent
+    private List<String> scopes;
 }
@@ -12,5 +12,6 @@ import lombok.NoArgsConstructor;
 @Builder
 public class ApiKeyResponse {
 
+    private Long id;
     private String apiKey;
 }
@@ -0,0 +1,10 @@
+package dev.tomislavmiksik.phoenixbe.dto.keygen;
+
+/**
+ * The state of an API key as seen by the authentication filter.
+ */
+public enum ApiKeyStatus {
+    ACTIVE,
+    EXPIRED,
+    REVOKED
+}
@@ -0,0 +1,30 @@
+package dev.tomislavmiksik.phoenixbe.dto.keygen;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * An API key without its hash, as listed to admins.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ApiKeySummary {
+
+    private Long id;
+    private String label;
+    private ApiKeyStatus status;
+    private Instant createdAt;
+    private Instant expiresAt;
+    private Instant lastUsedAt;
+    private Integer requestsPerSecond;
+    private Integer burst;
+    private Long dailyQuota;
+    private List<String> scopes;
+}
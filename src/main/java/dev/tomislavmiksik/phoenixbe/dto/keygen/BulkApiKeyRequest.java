@@ -0,0 +1,27 @@
+package dev.tomislavmiksik.phoenixbe.dto.keygen;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * The type Bulk api key request.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkApiKeyRequest {
+
+    @NotBlank(message = "Label is required")
+    private String label;
+
+    private int count;
+
+    // Scope values such as measurements:read; read and write when absent
+    private List<String> scopes;
+}
@@ -0,0 +1,22 @@
+package dev.tomislavmiksik.phoenixbe.dto.measurements;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MeasurementBatchRequest {
+
+    @NotEmpty(message = "At least one measurement is required")
+    @Size(max = 500, message = "A batch may contain at most 500 measurements")
+    private List<@Valid MeasurementRequest> measurements;
+}
@@ -0,0 +1,26 @@
+package dev.tomislavmiksik.phoenixbe.dto.measurements;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Aggregate view over all measurements of a user.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MeasurementSummaryResponse {
+
+    private Long count;
+    private BigDecimal minWeight;
+    private BigDecimal maxWeight;
+    private Double averageWeight;
+    private LocalDateTime firstMeasurementDate;
+    private LocalDateTime lastMeasurementDate;
+}
@@ -1,19 +1,32 @@
 package dev.tomislavmiksik.phoenixbe.entity;
 
+import dev.tomislavmiksik.phoenixbe.security.ApiKeyScopes;
+import dev.tomislavmiksik.phoenixbe.security.ApiKeyScopesConverter;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 import java.time.Instant;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = ApiKey.CACHE_REGION)
+@NaturalIdCache(region = ApiKey.NATURAL_ID_CACHE_REGION)
 @Data
 @Builder
 @AllArgsConstructor
 public class ApiKey {
+    public static final String CACHE_REGION = "api-keys";
+    public static final String NATURAL_ID_CACHE_REGION = "api-keys-by-hash";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    @NaturalId
     @Column(name = "key_hash", nullable = false, length = 64, unique = true)
     private String keyHash;
 
@@ -23,6 +36,16 @@ public class ApiKey {
     private boolean active = true;
     private Instant lastUsedAt;
 
+    // Limits enforced by ApiKeyRateLimiter; null means the configured default rate and no daily quota
+    private Integer requestsPerSecond;
+    private Integer burst;
+    private Long dailyQuota;
+
+    // Compiled once per load; the second-level cache holds the compiled value
+    @Convert(converter = ApiKeyScopesConverter.class)
+    @Column(nullable = false)
+    private ApiKeyScopes scopes;
+
     public ApiKey() {
 
     }
@@ -0,0 +1,43 @@
+package dev.tomislavmiksik.phoenixbe.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * One request authenticated with an API key. Rows are inserted in batches by
+ * {@link dev.tomislavmiksik.phoenixbe.audit.ApiKeyAuditWriter}; the entity is only read.
+ */
+@Entity
+@Table(name = "api_key_audit", indexes = {
+        @Index(name = "idx_api_key_audit_key_occurred", columnList = "api_key_id, occurred_at"),
+        @Index(name = "idx_api_key_audit_occurred", columnList = "occurred_at")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApiKeyAudit {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "api_key_id", nullable = false)
+    private Long apiKeyId;
+
+    @Column(nullable = false, length = 10)
+    private String method;
+
+    @Column(nullable = false)
+    private String path;
+
+    @Column(nullable = false)
+    private int status;
+
+    @Column(name = "latency_micros", nullable = false)
+    private long latencyMicros;
+
+    @Column(name = "occurred_at", nullable = false)
+    private Instant occurredAt;
+}
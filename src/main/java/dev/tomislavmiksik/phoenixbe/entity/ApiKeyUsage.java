@@ -0,0 +1,40 @@
+package dev.tomislavmiksik.phoenixbe.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * Requests served for one API key on one UTC day, summed over all nodes. Rows are written and read
+ * over JDBC by {@link dev.tomislavmiksik.phoenixbe.ratelimit.ApiKeyUsageStore}; the entity only
+ * describes the table.
+ */
+@Entity
+@Table(name = "api_key_usage")
+@IdClass(ApiKeyUsage.Key.class)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApiKeyUsage {
+    @Id
+    @Column(name = "api_key_id")
+    private long apiKeyId;
+
+    @Id
+    @Column(name = "usage_date")
+    private LocalDate usageDate;
+
+    @Column(nullable = false)
+    private long requests;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private long apiKeyId;
+        private LocalDate usageDate;
+    }
+}
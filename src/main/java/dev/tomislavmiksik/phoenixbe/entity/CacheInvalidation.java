@@ -0,0 +1,37 @@
+package dev.tomislavmiksik.phoenixbe.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * One cache invalidation for nodes polling instead of using LISTEN/NOTIFY. Rows are written and read
+ * over JDBC by {@link dev.tomislavmiksik.phoenixbe.invalidation.ChangeTableTransport}; the entity
+ * only describes the table.
+ */
+@Entity
+@Table(name = "cache_invalidation", indexes = {
+        @Index(name = "idx_cache_invalidation_created", columnList = "created_at")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheInvalidation {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "table_name", nullable = false, length = 30)
+    private String tableName;
+
+    @Column(name = "entity_key", nullable = false)
+    private long entityKey;
+
+    @Column(nullable = false, length = 36)
+    private String origin;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+}
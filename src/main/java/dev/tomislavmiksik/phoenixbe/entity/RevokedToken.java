@@ -0,0 +1,27 @@
+package dev.tomislavmiksik.phoenixbe.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * A JWT revoked before it expired, identified by its {@code jti}. Rows are only needed until the
+ * token would have expired anyway and are purged after that by
+ * {@link dev.tomislavmiksik.phoenixbe.revocation.TokenDenyList}.
+ */
+@Entity
+@Table(name = "revoked_token", indexes = {
+        @Index(name = "idx_revoked_token_expires_at", columnList = "expires_at")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RevokedToken {
+    @Id
+    private Long jti;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+}
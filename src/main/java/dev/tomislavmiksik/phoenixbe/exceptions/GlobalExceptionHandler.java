@@ -1,5 +1,6 @@
 package dev.tomislavmiksik.phoenixbe.exceptions;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -18,6 +19,17 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
     }
 
+    @ExceptionHandler(LoginThrottledException.class)
+    public ResponseEntity<RestException> handleLoginThrottled(LoginThrottledException ex) {
+        RestException error = new RestException(
+            "429 TOO_MANY_REQUESTS",
+            ex.getMessage()
+        );
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+            .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+            .body(error);
+    }
+
     @ExceptionHandler(RuntimeException.class)
     public ResponseEntity<RestException> handleRuntimeException(RuntimeException ex) {
         RestException error = new RestException(
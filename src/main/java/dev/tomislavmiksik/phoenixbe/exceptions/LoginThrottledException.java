@@ -0,0 +1,21 @@
+package dev.tomislavmiksik.phoenixbe.exceptions;
+
+import lombok.Getter;
+
+/**
+ * Thrown when a login attempt, or any password hash, is turned away before BCrypt runs.
+ */
+@Getter
+public class LoginThrottledException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public LoginThrottledException(long retryAfterSeconds) {
+        this("Too many login attempts, try again later", retryAfterSeconds);
+    }
+
+    public LoginThrottledException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
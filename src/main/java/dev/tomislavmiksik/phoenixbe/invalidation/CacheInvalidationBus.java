@@ -0,0 +1,123 @@
+package dev.tomislavmiksik.phoenixbe.invalidation;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Receives invalidation messages on a single background thread and hands the ones from other nodes to
+ * every {@link CacheInvalidationListener}. When the transport loses its connection, the bus reconnects
+ * with a fixed backoff and clears all local caches once it is back, since messages sent in between are lost.
+ */
+public class CacheInvalidationBus implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheInvalidationBus.class);
+
+    private final InvalidationTransport transport;
+    private final String origin;
+    private final List<CacheInvalidationListener> listeners;
+    private final long retryBackoffNanos;
+    private final MeterRegistry meterRegistry;
+    private final Counter reconnects;
+
+    private volatile boolean running;
+    private Thread thread;
+
+    /**
+     * Instantiates a new Cache invalidation bus.
+     *
+     * @param transport the transport
+     * @param origin this node's id, whose own messages are skipped
+     * @param listeners the local caches
+     * @param retryBackoff the wait before reconnecting
+     * @param meterRegistry the meter registry
+     */
+    public CacheInvalidationBus(InvalidationTransport transport,
+                                String origin,
+                                List<CacheInvalidationListener> listeners,
+                                Duration retryBackoff,
+                                MeterRegistry meterRegistry) {
+        this.transport = transport;
+        this.origin = origin;
+        this.listeners = listeners;
+        this.retryBackoffNanos = retryBackoff.toNanos();
+        this.meterRegistry = meterRegistry;
+        this.reconnects = Counter.builder("phoenix.cache.invalidation.reconnects")
+                .description("Times the invalidation listener lost its connection and cleared local caches")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        thread = new Thread(this::run, "cache-invalidation-listener");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (thread != null) {
+            try {
+                thread.join(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        transport.close();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void run() {
+        boolean resync = false;
+        while (running) {
+            try {
+                List<InvalidationMessage> messages = transport.receive();
+                if (resync) {
+                    listeners.forEach(CacheInvalidationListener::invalidateAll);
+                    resync = false;
+                }
+                for (InvalidationMessage message : messages) {
+                    if (!origin.equals(message.origin())) {
+                        dispatch(message);
+                    }
+                }
+            } catch (SQLException | RuntimeException e) {
+                // Anything else that escapes, e.g. a failed resync, gets the same treatment so the
+                // thread never dies and the caches are dropped on the next pass
+                if (!running) {
+                    break;
+                }
+                logger.warn("Cache invalidation listener failed, reconnecting", e);
+                transport.close();
+                reconnects.increment();
+                resync = true;
+                LockSupport.parkNanos(retryBackoffNanos);
+            }
+        }
+    }
+
+    private void dispatch(InvalidationMessage message) {
+        meterRegistry.counter("phoenix.cache.invalidation.received", "table", message.table()).increment();
+        for (CacheInvalidationListener listener : listeners) {
+            try {
+                listener.invalidate(message);
+            } catch (RuntimeException e) {
+                logger.error("Cache invalidation listener {} failed for {}", listener, message, e);
+            }
+        }
+    }
+}
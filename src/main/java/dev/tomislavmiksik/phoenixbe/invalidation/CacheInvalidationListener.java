@@ -0,0 +1,20 @@
+package dev.tomislavmiksik.phoenixbe.invalidation;
+
+/**
+ * A local cache that drops entries when another node changes the rows behind them. Beans of this
+ * type are called from the invalidation listener thread.
+ */
+public interface CacheInvalidationListener {
+
+    /**
+     * Drop what is cached for the message's table and key.
+     *
+     * @param message the message
+     */
+    void invalidate(InvalidationMessage message);
+
+    /**
+     * Drop everything, because messages may have been missed while the listener was disconnected.
+     */
+    void invalidateAll();
+}
@@ -0,0 +1,121 @@
+package dev.tomislavmiksik.phoenixbe.invalidation;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Fallback for databases without NOTIFY (H2 in tests): messages are rows in {@code cache_invalidation}
+ * and every node polls for rows newer than the last one it saw. Rows older than the retention are
+ * purged by whichever node gets to them.
+ * <p>
+ * Identity values are assigned at insert but become visible at commit, so a row can appear after a
+ * higher id was already read. Ids skipped over are remembered for {@link #GAP_TIMEOUT} and picked up
+ * if they show up late; ids from rolled back transactions simply expire.
+ */
+public class ChangeTableTransport implements InvalidationTransport {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO cache_invalidation (table_name, entity_key, origin, created_at) VALUES (?, ?, ?, ?)";
+
+    private static final Duration PURGE_INTERVAL = Duration.ofMinutes(1);
+    private static final Duration GAP_TIMEOUT = Duration.ofMinutes(1);
+    private static final int MAX_TRACKED_GAP = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long pollIntervalNanos;
+    private final Duration retention;
+
+    private final Map<Long, Long> gaps = new HashMap<>();
+    private long lastSeenId = -1;
+    private long nextPurgeAt = System.nanoTime();
+
+    /**
+     * Instantiates a new Change table transport.
+     *
+     * @param jdbcTemplate the jdbc template
+     * @param pollInterval the time between polls
+     * @param retention how long rows are kept for nodes that fell behind
+     */
+    public ChangeTableTransport(JdbcTemplate jdbcTemplate, Duration pollInterval, Duration retention) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.pollIntervalNanos = pollInterval.toNanos();
+        this.retention = retention;
+    }
+
+    @Override
+    public void publish(Connection connection, Collection<InvalidationMessage> messages) throws SQLException {
+        Timestamp now = Timestamp.from(Instant.now());
+        try (PreparedStatement statement = connection.prepareStatement(INSERT_SQL)) {
+            for (InvalidationMessage message : messages) {
+                statement.setString(1, message.table());
+                statement.setLong(2, message.key());
+                statement.setString(3, message.origin());
+                statement.setTimestamp(4, now);
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+    }
+
+    @Override
+    public List<InvalidationMessage> receive() {
+        if (lastSeenId < 0) {
+            // Start from the current end; anything earlier predates this node's caches
+            Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM cache_invalidation", Long.class);
+            lastSeenId = maxId != null ? maxId : 0;
+        }
+        LockSupport.parkNanos(pollIntervalNanos);
+
+        long now = System.nanoTime();
+        if (now - nextPurgeAt >= 0) {
+            jdbcTemplate.update("DELETE FROM cache_invalidation WHERE created_at < ?",
+                    Timestamp.from(Instant.now().minus(retention)));
+            nextPurgeAt = now + PURGE_INTERVAL.toNanos();
+        }
+
+        long from = gaps.isEmpty() ? lastSeenId : Math.min(lastSeenId, Collections.min(gaps.keySet()) - 1);
+        List<InvalidationRow> rows = jdbcTemplate.query(
+                "SELECT id, table_name, entity_key, origin FROM cache_invalidation WHERE id > ? ORDER BY id",
+                (row, rowNum) -> new InvalidationRow(row.getLong(1),
+                        new InvalidationMessage(row.getString(2), row.getLong(3), row.getString(4))),
+                from);
+
+        List<InvalidationMessage> messages = new ArrayList<>(rows.size());
+        for (InvalidationRow row : rows) {
+            if (row.id() > lastSeenId) {
+                if (row.id() - lastSeenId <= MAX_TRACKED_GAP) {
+                    for (long missing = lastSeenId + 1; missing < row.id(); missing++) {
+                        gaps.put(missing, now);
+                    }
+                }
+                lastSeenId = row.id();
+                messages.add(row.message());
+            } else if (gaps.remove(row.id()) != null) {
+                messages.add(row.message());
+            }
+        }
+        gaps.values().removeIf(noticedAt -> now - noticedAt > GAP_TIMEOUT.toNanos());
+        return messages;
+    }
+
+    @Override
+    public void close() {
+        // Pooled connections only; nothing held between polls
+    }
+
+    private record InvalidationRow(long id, InvalidationMessage message) {
+    }
+}
@@ -0,0 +1,42 @@
+package dev.tomislavmiksik.phoenixbe.invalidation;
+
+/**
+ * A compact cache invalidation, encoded as {@code table:key:origin} so it stays far below the
+ * 8000-byte NOTIFY payload limit.
+ *
+ * @param table the changed table, one of the constants below
+ * @param key the row id for {@code api_key}, {@code users} and {@code revoked_token}, the owning user's id
+ *            for {@code measurements}
+ * @param origin the node that made the change, so it can skip its own messages
+ */
+public record InvalidationMessage(String table, long key, String origin) {
+
+    public static final String API_KEYS = "api_key";
+    public static final String USERS = "users";
+    public static final String MEASUREMENTS = "measurements";
+    public static final String REVOKED_TOKENS = "revoked_token";
+
+    /**
+     * Encode as a payload.
+     *
+     * @return the payload
+     */
+    public String encode() {
+        return table + ":" + key + ":" + origin;
+    }
+
+    /**
+     * Decode a payload.
+     *
+     * @param payload the payload
+     * @return the message
+     * @throws IllegalArgumentException if the payload is malformed
+     */
+    public static InvalidationMessage decode(String payload) {
+        String[] parts = payload.split(":", 3);
+        if (parts.length != 3) {
+            throw new IllegalArgumentException("Malformed invalidation message: " + payload);
+        }
+        return new InvalidationMessage(parts[0], Long.parseLong(parts[1]), parts[2]);
+    }
+}
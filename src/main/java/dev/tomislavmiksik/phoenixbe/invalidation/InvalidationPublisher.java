@@ -0,0 +1,133 @@
+package dev.tomislavmiksik.phoenixbe.invalidation;
+
+import dev.tomislavmiksik.phoenixbe.entity.ApiKey;
+import dev.tomislavmiksik.phoenixbe.entity.Measurement;
+import dev.tomislavmiksik.phoenixbe.entity.RevokedToken;
+import dev.tomislavmiksik.phoenixbe.entity.User;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.action.spi.AfterTransactionCompletionProcess;
+import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Hibernate listener that turns writes to API keys, users, measurements and revoked tokens into
+ * invalidation messages. Messages are collected per transaction, de-duplicated, and published on the
+ * transaction's own connection right before it commits, so a rolled back write publishes nothing.
+ * <p>
+ * Inserts of keys and users are skipped (nothing can have cached a row that didn't exist), and so are
+ * updates that only touch an API key's {@code lastUsedAt}, which happen on every API key request.
+ */
+public class InvalidationPublisher implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+
+    private static final Set<String> UNTRACKED_API_KEY_PROPERTIES = Set.of("lastUsedAt");
+
+    private final InvalidationTransport transport;
+    private final String origin;
+    private final Counter published;
+    private final Map<SharedSessionContractImplementor, PendingInvalidations> pending = new ConcurrentHashMap<>();
+
+    /**
+     * Instantiates a new Invalidation publisher.
+     *
+     * @param transport the transport
+     * @param origin this node's id
+     * @param meterRegistry the meter registry
+     */
+    public InvalidationPublisher(InvalidationTransport transport, String origin, MeterRegistry meterRegistry) {
+        this.transport = transport;
+        this.origin = origin;
+        this.published = Counter.builder("phoenix.cache.invalidation.published")
+                .description("Cache invalidation messages published by this node")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (event.getEntity() instanceof Measurement measurement) {
+            queue(event.getSession(), InvalidationMessage.MEASUREMENTS, measurement.getUser().getId());
+        } else if (event.getEntity() instanceof RevokedToken revokedToken) {
+            queue(event.getSession(), InvalidationMessage.REVOKED_TOKENS, revokedToken.getJti());
+        }
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        Object entity = event.getEntity();
+        if (entity instanceof ApiKey apiKey && !onlyUntrackedChanges(event)) {
+            queue(event.getSession(), InvalidationMessage.API_KEYS, apiKey.getId());
+        } else if (entity instanceof User user) {
+            queue(event.getSession(), InvalidationMessage.USERS, user.getId());
+        } else if (entity instanceof Measurement measurement) {
+            queue(event.getSession(), InvalidationMessage.MEASUREMENTS, measurement.getUser().getId());
+        }
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        Object entity = event.getEntity();
+        if (entity instanceof ApiKey apiKey) {
+            queue(event.getSession(), InvalidationMessage.API_KEYS, apiKey.getId());
+        } else if (entity instanceof User user) {
+            queue(event.getSession(), InvalidationMessage.USERS, user.getId());
+        } else if (entity instanceof Measurement measurement) {
+            queue(event.getSession(), InvalidationMessage.MEASUREMENTS, measurement.getUser().getId());
+        }
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    private boolean onlyUntrackedChanges(PostUpdateEvent event) {
+        int[] dirty = event.getDirtyProperties();
+        if (dirty == null || dirty.length == 0) {
+            return false;
+        }
+        String[] names = event.getPersister().getPropertyNames();
+        return Arrays.stream(dirty).allMatch(index -> UNTRACKED_API_KEY_PROPERTIES.contains(names[index]));
+    }
+
+    private void queue(EventSource session, String table, Long key) {
+        pending.computeIfAbsent(session, newSession -> {
+            PendingInvalidations invalidations = new PendingInvalidations();
+            session.getActionQueue().registerProcess((BeforeTransactionCompletionProcess) invalidations);
+            session.getActionQueue().registerProcess((AfterTransactionCompletionProcess) invalidations);
+            return invalidations;
+        }).messages.add(new InvalidationMessage(table, key, origin));
+    }
+
+    private final class PendingInvalidations implements BeforeTransactionCompletionProcess, AfterTransactionCompletionProcess {
+
+        private final Set<InvalidationMessage> messages = new LinkedHashSet<>();
+
+        @Override
+        public void doBeforeTransactionCompletion(SessionImplementor session) {
+            pending.remove(session);
+            session.doWork(connection -> transport.publish(connection, messages));
+            published.increment(messages.size());
+        }
+
+        @Override
+        public void doAfterTransactionCompletion(boolean success, SharedSessionContractImplementor session) {
+            // Rolled back transactions skip the before-completion step
+            pending.remove(session);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package dev.tomislavmiksik.phoenixbe.invalidation;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Carries invalidation messages from the writing transaction to every node.
+ */
+public interface InvalidationTransport {
+
+    /**
+     * Publish on the writing transaction's connection, so other nodes only see the messages once it commits.
+     *
+     * @param connection the transaction's connection
+     * @param messages the messages
+     * @throws SQLException if the messages can't be published
+     */
+    void publish(Connection connection, Collection<InvalidationMessage> messages) throws SQLException;
+
+    /**
+     * Wait a bounded time for messages from any node, including this one. Only called from one thread.
+     *
+     * @return the messages, empty if none arrived
+     * @throws SQLException if the connection was lost; the next call reconnects
+     */
+    List<InvalidationMessage> receive() throws SQLException;
+
+    /**
+     * Release the receiving side's resources.
+     */
+    void close();
+}
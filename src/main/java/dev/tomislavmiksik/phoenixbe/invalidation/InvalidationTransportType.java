@@ -0,0 +1,22 @@
+package dev.tomislavmiksik.phoenixbe.invalidation;
+
+/**
+ * How invalidation messages travel between nodes.
+ */
+public enum InvalidationTransportType {
+
+    /**
+     * {@link #NOTIFY} on PostgreSQL, {@link #POLL} on any other database.
+     */
+    AUTO,
+
+    /**
+     * PostgreSQL NOTIFY, received on one dedicated LISTEN connection per node.
+     */
+    NOTIFY,
+
+    /**
+     * Rows in the {@code cache_invalidation} change table, polled by every node.
+     */
+    POLL
+}
@@ -0,0 +1,94 @@
+package dev.tomislavmiksik.phoenixbe.invalidation;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Publishes with {@code pg_notify} and receives on one dedicated LISTEN connection, opened outside
+ * the pool so it never competes with requests for a pooled connection.
+ */
+public class PostgresNotifyTransport implements InvalidationTransport {
+
+    private static final Logger logger = LoggerFactory.getLogger(PostgresNotifyTransport.class);
+
+    /**
+     * The NOTIFY channel.
+     */
+    public static final String CHANNEL = "phoenix_cache_invalidation";
+
+    private final DataSource listenerDataSource;
+    private final int listenTimeoutMillis;
+
+    private Connection connection;
+
+    /**
+     * Instantiates a new Postgres notify transport.
+     *
+     * @param listenerDataSource an unpooled data source for the LISTEN connection
+     * @param listenTimeout how long one receive waits for notifications
+     */
+    public PostgresNotifyTransport(DataSource listenerDataSource, Duration listenTimeout) {
+        this.listenerDataSource = listenerDataSource;
+        this.listenTimeoutMillis = (int) listenTimeout.toMillis();
+    }
+
+    @Override
+    public void publish(Connection connection, Collection<InvalidationMessage> messages) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT pg_notify(?, ?)")) {
+            for (InvalidationMessage message : messages) {
+                statement.setString(1, CHANNEL);
+                statement.setString(2, message.encode());
+                statement.executeQuery().close();
+            }
+        }
+    }
+
+    @Override
+    public List<InvalidationMessage> receive() throws SQLException {
+        if (connection == null) {
+            connection = listenerDataSource.getConnection();
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("LISTEN " + CHANNEL);
+            }
+            logger.info("Listening for cache invalidations on channel {}", CHANNEL);
+        }
+
+        PGNotification[] notifications = connection.unwrap(PGConnection.class).getNotifications(listenTimeoutMillis);
+        if (notifications == null) {
+            return List.of();
+        }
+        List<InvalidationMessage> messages = new ArrayList<>(notifications.length);
+        for (PGNotification notification : notifications) {
+            try {
+                messages.add(InvalidationMessage.decode(notification.getParameter()));
+            } catch (IllegalArgumentException e) {
+                logger.warn("Ignoring malformed cache invalidation '{}'", notification.getParameter());
+            }
+        }
+        return messages;
+    }
+
+    @Override
+    public void close() {
+        if (connection != null) {
+            try {
+                connection.close();
+            } catch (SQLException e) {
+                logger.debug("Could not close the LISTEN connection", e);
+            }
+            connection = null;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package dev.tomislavmiksik.phoenixbe.invalidation;
+
+import dev.tomislavmiksik.phoenixbe.entity.ApiKey;
+import dev.tomislavmiksik.phoenixbe.entity.User;
+import org.hibernate.Cache;
+
+/**
+ * Evicts API keys and users from Hibernate's second-level cache. Natural ids (key hash, username)
+ * never change, so their regions only need clearing after a disconnect, when deletes may have been missed.
+ */
+public class SecondLevelCacheInvalidationListener implements CacheInvalidationListener {
+
+    private final Cache cache;
+
+    /**
+     * Instantiates a new Second level cache invalidation listener.
+     *
+     * @param cache the session factory's cache
+     */
+    public SecondLevelCacheInvalidationListener(Cache cache) {
+        this.cache = cache;
+    }
+
+    @Override
+    public void invalidate(InvalidationMessage message) {
+        switch (message.table()) {
+            case InvalidationMessage.API_KEYS -> cache.evictEntityData(ApiKey.class, message.key());
+            case InvalidationMessage.USERS -> cache.evictEntityData(User.class, message.key());
+            default -> {
+                // Measurements and revoked tokens aren't in the second-level cache
+            }
+        }
+    }
+
+    @Override
+    public void invalidateAll() {
+        cache.evictEntityData(ApiKey.class);
+        cache.evictNaturalIdData(ApiKey.class);
+        cache.evictEntityData(User.class);
+        cache.evictNaturalIdData(User.class);
+    }
+}
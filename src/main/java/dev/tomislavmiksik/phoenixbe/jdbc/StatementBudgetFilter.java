@@ -0,0 +1,41 @@
+package dev.tomislavmiksik.phoenixbe.jdbc;
+
+import io.micrometer.core.instrument.Counter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Logs requests that execute more JDBC statements than the configured budget, with the statements
+ * themselves, to catch N+1 patterns on a running node.
+ */
+@RequiredArgsConstructor
+public class StatementBudgetFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(StatementBudgetFilter.class);
+
+    private final int maxStatements;
+    private final Counter exceededCounter;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        try (StatementCount count = StatementCounter.start()) {
+            filterChain.doFilter(request, response);
+
+            if (count.total() > maxStatements) {
+                exceededCounter.increment();
+                logger.warn("{} {} exceeded the statement budget of {}: {}",
+                        request.getMethod(), request.getRequestURI(), maxStatements, count.describe());
+            }
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package dev.tomislavmiksik.phoenixbe.jdbc;
+
+import net.ttddyy.dsproxy.QueryType;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JDBC statements executed on one thread between {@link StatementCounter#start()} and
+ * {@link #close()}. A JDBC batch counts as one statement, since it is one round trip.
+ * <p>
+ * Scopes nest: a statement counts towards every open scope on the thread, so a test can count
+ * around a request that the runtime budget filter is also counting.
+ */
+public class StatementCount implements AutoCloseable {
+
+    private static final int MAX_RECORDED_SQL = 50;
+
+    final StatementCount parent;
+    private final Map<QueryType, Integer> byType = new EnumMap<>(QueryType.class);
+    private final List<String> sql = new ArrayList<>();
+    private int total;
+
+    StatementCount(StatementCount parent) {
+        this.parent = parent;
+    }
+
+    void record(QueryType type, String statement) {
+        total++;
+        byType.merge(type, 1, Integer::sum);
+        if (sql.size() < MAX_RECORDED_SQL) {
+            sql.add(statement);
+        }
+    }
+
+    /**
+     * Number of statements executed.
+     *
+     * @return the total
+     */
+    public int total() {
+        return total;
+    }
+
+    /**
+     * Number of statements of one type executed.
+     *
+     * @param type the type
+     * @return the count
+     */
+    public int count(QueryType type) {
+        return byType.getOrDefault(type, 0);
+    }
+
+    /**
+     * The first statements executed, in order, for diagnostics.
+     *
+     * @return the SQL
+     */
+    public List<String> statements() {
+        return Collections.unmodifiableList(sql);
+    }
+
+    /**
+     * Summary for log lines and assertion messages.
+     *
+     * @return the description
+     */
+    public String describe() {
+        StringBuilder description = new StringBuilder()
+                .append(total).append(" statements ").append(byType);
+        for (String statement : sql) {
+            description.append(System.lineSeparator()).append("  ").append(statement);
+        }
+        if (total > sql.size()) {
+            description.append(System.lineSeparator()).append("  ...");
+        }
+        return description.toString();
+    }
+
+    @Override
+    public void close() {
+        StatementCounter.end(this);
+    }
+}
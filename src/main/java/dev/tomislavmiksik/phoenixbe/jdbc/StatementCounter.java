@@ -0,0 +1,56 @@
+package dev.tomislavmiksik.phoenixbe.jdbc;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.QueryType;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryUtils;
+
+import java.util.List;
+
+/**
+ * Counts the statements going through the proxied DataSource into the scopes open on the calling
+ * thread. With no scope open the cost per statement is one thread-local read.
+ */
+public class StatementCounter implements QueryExecutionListener {
+
+    private static final ThreadLocal<StatementCount> CURRENT = new ThreadLocal<>();
+
+    /**
+     * Open a counting scope on the current thread; close it on the same thread.
+     *
+     * @return the count
+     */
+    public static StatementCount start() {
+        StatementCount count = new StatementCount(CURRENT.get());
+        CURRENT.set(count);
+        return count;
+    }
+
+    static void end(StatementCount count) {
+        if (count.parent != null) {
+            CURRENT.set(count.parent);
+        } else {
+            CURRENT.remove();
+        }
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        // Counted in afterQuery, which also runs for statements that fail
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        StatementCount count = CURRENT.get();
+        if (count == null || queryInfoList.isEmpty()) {
+            return;
+        }
+
+        String sql = queryInfoList.get(0).getQuery();
+        QueryType type = QueryUtils.getQueryType(sql);
+        for (; count != null; count = count.parent) {
+            count.record(type, sql);
+        }
+    }
+}
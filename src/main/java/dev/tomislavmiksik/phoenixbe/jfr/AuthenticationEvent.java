@@ -0,0 +1,25 @@
+package dev.tomislavmiksik.phoenixbe.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Work done by one of the authentication filters: API key lookup or JWT verification.
+ */
+@Name("phoenix.Authentication")
+@Label("Authentication")
+@Category({"Phoenix", "Security"})
+@Description("API key lookup or JWT verification in the security filter chain")
+@StackTrace(false)
+public class AuthenticationEvent extends Event {
+
+    @Label("Method")
+    String method;
+
+    @Label("Outcome")
+    String outcome;
+}
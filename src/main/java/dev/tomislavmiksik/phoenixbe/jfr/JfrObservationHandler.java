@@ -0,0 +1,58 @@
+package dev.tomislavmiksik.phoenixbe.jfr;
+
+import dev.tomislavmiksik.phoenixbe.config.MetricsConfig;
+import io.micrometer.common.KeyValue;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+
+/**
+ * Emits JFR events for the authentication and service observations, so the filters and services
+ * carry one set of instrumentation that feeds metrics, traces and Flight Recorder alike.
+ * <p>
+ * Events are only populated when {@link jdk.jfr.Event#shouldCommit()} is true, so with no
+ * recording running the cost is an allocation that escape analysis usually removes.
+ */
+public class JfrObservationHandler implements ObservationHandler<Observation.Context> {
+
+    @Override
+    public boolean supportsContext(Observation.Context context) {
+        String name = context.getName();
+        return MetricsConfig.AUTH_OBSERVATION.equals(name) || MetricsConfig.SERVICE_OBSERVATION.equals(name);
+    }
+
+    @Override
+    public void onStart(Observation.Context context) {
+        if (MetricsConfig.AUTH_OBSERVATION.equals(context.getName())) {
+            AuthenticationEvent event = new AuthenticationEvent();
+            event.begin();
+            context.put(AuthenticationEvent.class, event);
+        } else {
+            ServiceCallEvent event = new ServiceCallEvent();
+            event.begin();
+            context.put(ServiceCallEvent.class, event);
+        }
+    }
+
+    @Override
+    public void onStop(Observation.Context context) {
+        AuthenticationEvent authenticationEvent = context.get(AuthenticationEvent.class);
+        if (authenticationEvent != null && authenticationEvent.shouldCommit()) {
+            authenticationEvent.method = value(context, "method");
+            authenticationEvent.outcome = value(context, "outcome");
+            authenticationEvent.commit();
+        }
+
+        ServiceCallEvent serviceCallEvent = context.get(ServiceCallEvent.class);
+        if (serviceCallEvent != null && serviceCallEvent.shouldCommit()) {
+            serviceCallEvent.className = value(context, "class");
+            serviceCallEvent.methodName = value(context, "method");
+            serviceCallEvent.failed = context.getError() != null;
+            serviceCallEvent.commit();
+        }
+    }
+
+    private static String value(Observation.Context context, String key) {
+        KeyValue keyValue = context.getLowCardinalityKeyValue(key);
+        return keyValue != null ? keyValue.getValue() : null;
+    }
+}
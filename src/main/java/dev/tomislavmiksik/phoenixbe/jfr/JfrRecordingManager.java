@@ -0,0 +1,128 @@
+package dev.tomislavmiksik.phoenixbe.jfr;
+
+import dev.tomislavmiksik.phoenixbe.dto.jfr.JfrRecordingResponse;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Owns the single on-demand Flight Recorder recording of this node. A recording started here keeps
+ * a rolling window ({@code maxAge}) on disk until it is stopped, and can be dumped at any time.
+ */
+public class JfrRecordingManager {
+
+    private static final Logger logger = LoggerFactory.getLogger(JfrRecordingManager.class);
+
+    private static final String RECORDING_NAME = "phoenix";
+
+    private Recording recording;
+    private String settings;
+
+    /**
+     * Start a recording with one of the JDK's configurations.
+     *
+     * @param settings the configuration name, {@code default} or {@code profile}
+     * @param maxAge how much history to keep on disk
+     * @return the recording
+     * @throws IllegalStateException if a recording is already running
+     * @throws IllegalArgumentException if the configuration doesn't exist
+     */
+    public synchronized JfrRecordingResponse start(String settings, Duration maxAge) {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            throw new IllegalStateException("A recording is already running");
+        }
+        close();
+
+        Configuration configuration;
+        try {
+            configuration = Configuration.getConfiguration(settings);
+        } catch (IOException | ParseException e) {
+            throw new IllegalArgumentException("Unknown JFR settings: " + settings, e);
+        }
+
+        Recording started = new Recording(configuration);
+        started.setName(RECORDING_NAME);
+        started.setToDisk(true);
+        started.setMaxAge(maxAge);
+        started.start();
+
+        this.recording = started;
+        this.settings = settings;
+        logger.info("Started JFR recording {} with '{}' settings", started.getId(), settings);
+        return describe();
+    }
+
+    /**
+     * Stop the running recording; its data stays available for a dump until the next start.
+     *
+     * @return the recording
+     * @throws IllegalStateException if nothing is running
+     */
+    public synchronized JfrRecordingResponse stop() {
+        if (recording == null || recording.getState() != RecordingState.RUNNING) {
+            throw new IllegalStateException("No recording is running");
+        }
+        recording.stop();
+        logger.info("Stopped JFR recording {}", recording.getId());
+        return describe();
+    }
+
+    /**
+     * The current or last recording.
+     *
+     * @return the recording, empty if none was started
+     */
+    public synchronized Optional<JfrRecordingResponse> status() {
+        return recording != null ? Optional.of(describe()) : Optional.empty();
+    }
+
+    /**
+     * Write the recorded data to a temporary file, which the caller must delete.
+     *
+     * @return the file
+     * @throws IllegalStateException if no recording was started
+     * @throws IOException if the file can't be written
+     */
+    public synchronized Path dump() throws IOException {
+        if (recording == null || recording.getState() == RecordingState.CLOSED) {
+            throw new IllegalStateException("No recording to dump");
+        }
+        Path file = Files.createTempFile(RECORDING_NAME + "-", ".jfr");
+        recording.dump(file);
+        return file;
+    }
+
+    /**
+     * Close the recording and discard its data.
+     */
+    public synchronized void close() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+            settings = null;
+        }
+    }
+
+    private JfrRecordingResponse describe() {
+        Duration maxAge = recording.getMaxAge();
+        return JfrRecordingResponse.builder()
+                .id(recording.getId())
+                .name(recording.getName())
+                .state(recording.getState().name())
+                .settings(settings)
+                .startTime(recording.getStartTime())
+                .stopTime(recording.getStopTime())
+                .maxAgeSeconds(maxAge != null ? maxAge.toSeconds() : null)
+                .sizeBytes(recording.getSize())
+                .build();
+    }
+}
@@ -0,0 +1,67 @@
+package dev.tomislavmiksik.phoenixbe.jfr;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.data.domain.Slice;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Records a {@link RepositoryQueryEvent} for every repository call. The row count is only worked
+ * out when a recording is accepting the event.
+ */
+@Aspect
+public class RepositoryEventAspect {
+
+    // Spring Data repositories are JDK proxies, so match on the interfaces rather than with within()
+    @Around("execution(* dev.tomislavmiksik.phoenixbe.repository..*+.*(..))")
+    public Object recordQuery(ProceedingJoinPoint joinPoint) throws Throwable {
+        RepositoryQueryEvent event = new RepositoryQueryEvent();
+        event.begin();
+        Object result = null;
+        boolean failed = true;
+        try {
+            result = joinPoint.proceed();
+            failed = false;
+            return result;
+        } finally {
+            if (event.shouldCommit()) {
+                event.repository = repositoryName(joinPoint);
+                event.method = joinPoint.getSignature().getName();
+                event.rowCount = failed ? -1 : rowCount(result);
+                event.failed = failed;
+                event.commit();
+            }
+        }
+    }
+
+    private static String repositoryName(ProceedingJoinPoint joinPoint) {
+        // Inherited methods such as save() are declared on Spring Data interfaces; name the application's one
+        Class<?>[] interfaces = AopProxyUtils.proxiedUserInterfaces(joinPoint.getThis());
+        return interfaces.length > 0
+                ? interfaces[0].getSimpleName()
+                : joinPoint.getSignature().getDeclaringType().getSimpleName();
+    }
+
+    static long rowCount(Object result) {
+        if (result == null) {
+            return 0;
+        }
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Slice<?> slice) {
+            return slice.getNumberOfElements();
+        }
+        if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        }
+        if (result instanceof Iterable<?>) {
+            return -1;
+        }
+        return 1;
+    }
+}
@@ -0,0 +1,30 @@
+package dev.tomislavmiksik.phoenixbe.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A call to a Spring Data repository method and the number of rows it returned.
+ */
+@Name("phoenix.RepositoryQuery")
+@Label("Repository Query")
+@Category({"Phoenix", "Data Access"})
+@Description("Spring Data repository call, with the number of entities or rows returned")
+public class RepositoryQueryEvent extends Event {
+
+    @Label("Repository")
+    String repository;
+
+    @Label("Method")
+    String method;
+
+    @Label("Row Count")
+    @Description("Entities returned; 1 or 0 for single and scalar results, -1 when not countable")
+    long rowCount;
+
+    @Label("Failed")
+    boolean failed;
+}
@@ -0,0 +1,37 @@
+package dev.tomislavmiksik.phoenixbe.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Size of a serialized response body. The duration runs from the first byte written to the end of
+ * the request, i.e. serialization plus writing to the socket buffer.
+ */
+@Name("phoenix.ResponseBody")
+@Label("Response Body")
+@Category({"Phoenix", "Web"})
+@Description("Serialized response body written through the servlet output stream")
+@StackTrace(false)
+public class ResponseBodyEvent extends Event {
+
+    @Label("Method")
+    String method;
+
+    @Label("URI")
+    String uri;
+
+    @Label("Status")
+    int status;
+
+    @Label("Content Type")
+    String contentType;
+
+    @Label("Size")
+    @DataAmount
+    long bytes;
+}
@@ -0,0 +1,116 @@
+package dev.tomislavmiksik.phoenixbe.jfr;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import jdk.jfr.EventType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Records a {@link ResponseBodyEvent} with the number of bytes written through the response output
+ * stream. The response is only wrapped while a recording has the event enabled; bodies written
+ * through {@code getWriter()} (plain-text errors from the security filters) are not counted.
+ */
+public class ResponseBodyEventFilter extends OncePerRequestFilter {
+
+    private final EventType eventType = EventType.getEventType(ResponseBodyEvent.class);
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        if (!eventType.isEnabled()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        CountingResponse countingResponse = new CountingResponse(response);
+        try {
+            filterChain.doFilter(request, countingResponse);
+        } finally {
+            ResponseBodyEvent event = countingResponse.event;
+            if (event != null && event.shouldCommit()) {
+                event.method = request.getMethod();
+                event.uri = request.getRequestURI();
+                event.status = response.getStatus();
+                event.contentType = response.getContentType();
+                event.bytes = countingResponse.bytes;
+                event.commit();
+            }
+        }
+    }
+
+    private static final class CountingResponse extends HttpServletResponseWrapper {
+
+        private ServletOutputStream outputStream;
+        private ResponseBodyEvent event;
+        private long bytes;
+
+        CountingResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (outputStream == null) {
+                outputStream = new CountingOutputStream(super.getOutputStream());
+            }
+            return outputStream;
+        }
+
+        private void written(int count) {
+            if (event == null) {
+                event = new ResponseBodyEvent();
+                event.begin();
+            }
+            bytes += count;
+        }
+
+        private final class CountingOutputStream extends ServletOutputStream {
+
+            private final ServletOutputStream delegate;
+
+            CountingOutputStream(ServletOutputStream delegate) {
+                this.delegate = delegate;
+            }
+
+            @Override
+            public void write(int b) throws IOException {
+                written(1);
+                delegate.write(b);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                written(len);
+                delegate.write(b, off, len);
+            }
+
+            @Override
+            public void flush() throws IOException {
+                delegate.flush();
+            }
+
+            @Override
+            public void close() throws IOException {
+                delegate.close();
+            }
+
+            @Override
+            public boolean isReady() {
+                return delegate.isReady();
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+                delegate.setWriteListener(writeListener);
+            }
+        }
+    }
+}
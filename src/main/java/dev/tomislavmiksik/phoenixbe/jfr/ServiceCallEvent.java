@@ -0,0 +1,28 @@
+package dev.tomislavmiksik.phoenixbe.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Execution of a service method.
+ */
+@Name("phoenix.ServiceCall")
+@Label("Service Call")
+@Category({"Phoenix", "Service"})
+@Description("Execution of a service method, including the repository calls it makes")
+@StackTrace(false)
+public class ServiceCallEvent extends Event {
+
+    @Label("Class")
+    String className;
+
+    @Label("Method")
+    String methodName;
+
+    @Label("Failed")
+    boolean failed;
+}
@@ -0,0 +1,160 @@
+package dev.tomislavmiksik.phoenixbe.login;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Counts recent login failures per key (a username or a client address) and works out how long
+ * the key is backed off for.
+ * <p>
+ * Keys are spread over lock stripes, each a small LRU map, so concurrent logins rarely contend and
+ * memory stays bounded however many keys an attacker cycles through. Keys under attack are touched
+ * on every attempt and so are the last to be evicted. Past the threshold every further failure
+ * doubles the back-off, up to the maximum; failures older than the window are forgotten.
+ * Stripes use a {@link ReentrantLock} rather than a monitor, so login threads never pin a carrier.
+ */
+public class LoginFailureTracker {
+
+    private static final int STRIPES = 64;
+
+    private final Stripe[] stripes;
+    private final int threshold;
+    private final long baseBackoffNanos;
+    private final long maxBackoffNanos;
+    private final long windowNanos;
+
+    /**
+     * Instantiates a new Login failure tracker.
+     *
+     * @param maxKeys the most keys kept in memory
+     * @param threshold the failures allowed before back-off starts
+     * @param baseBackoffNanos the back-off after the first failure over the threshold
+     * @param maxBackoffNanos the longest back-off
+     * @param windowNanos how long after its last failure a key is forgotten
+     */
+    public LoginFailureTracker(int maxKeys, int threshold, long baseBackoffNanos, long maxBackoffNanos,
+                               long windowNanos) {
+        if (maxKeys < STRIPES || threshold < 1) {
+            throw new IllegalArgumentException("Need at least " + STRIPES + " keys and a positive threshold");
+        }
+        this.stripes = new Stripe[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe(maxKeys / STRIPES);
+        }
+        this.threshold = threshold;
+        this.baseBackoffNanos = baseBackoffNanos;
+        this.maxBackoffNanos = maxBackoffNanos;
+        this.windowNanos = windowNanos;
+    }
+
+    /**
+     * Nanoseconds until the key may try again, 0 if it may try now.
+     *
+     * @param key the key
+     * @param nowNanos the current {@link System#nanoTime()}
+     * @return the wait
+     */
+    public long nanosUntilAllowed(String key, long nowNanos) {
+        Stripe stripe = stripe(key);
+        stripe.lock.lock();
+        try {
+            Failures failures = stripe.get(key);
+            if (failures == null) {
+                return 0;
+            }
+            return Math.max(0, failures.blockedUntilNanos - nowNanos);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    /**
+     * Record a failed attempt.
+     *
+     * @param key the key
+     * @param nowNanos the current {@link System#nanoTime()}
+     */
+    public void recordFailure(String key, long nowNanos) {
+        Stripe stripe = stripe(key);
+        stripe.lock.lock();
+        try {
+            Failures failures = stripe.get(key);
+            if (failures == null || nowNanos - failures.lastFailureNanos > windowNanos) {
+                failures = new Failures();
+                stripe.put(key, failures);
+            }
+            failures.count++;
+            failures.lastFailureNanos = nowNanos;
+            if (failures.count >= threshold) {
+                int doublings = failures.count - threshold;
+                long backoff = doublings < Long.numberOfLeadingZeros(baseBackoffNanos) - 1
+                        ? Math.min(baseBackoffNanos << doublings, maxBackoffNanos)
+                        : maxBackoffNanos;
+                failures.blockedUntilNanos = nowNanos + backoff;
+            }
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    /**
+     * Forget a key's failures, e.g. after it logs in.
+     *
+     * @param key the key
+     */
+    public void reset(String key) {
+        Stripe stripe = stripe(key);
+        stripe.lock.lock();
+        try {
+            stripe.remove(key);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    /**
+     * Number of keys currently tracked, for monitoring.
+     *
+     * @return the size
+     */
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                size += stripe.size();
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        return size;
+    }
+
+    private Stripe stripe(String key) {
+        int hash = key.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & (STRIPES - 1)];
+    }
+
+    private static final class Failures {
+        int count;
+        long lastFailureNanos;
+        long blockedUntilNanos;
+    }
+
+    private static final class Stripe extends LinkedHashMap<String, Failures> {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final int maxEntries;
+
+        Stripe(int maxEntries) {
+            super(16, 0.75f, true);
+            this.maxEntries = maxEntries;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Failures> eldest) {
+            return size() > maxEntries;
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package dev.tomislavmiksik.phoenixbe.login;
+
+import dev.tomislavmiksik.phoenixbe.exceptions.LoginThrottledException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.security.authentication.BadCredentialsException;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Guards password logins: usernames and client addresses that keep failing are backed off, and
+ * only a fixed number of password verifications run at once. Both checks happen before the
+ * verification, so a credential-stuffing burst is turned away without computing a hash.
+ */
+public class LoginThrottle {
+
+    private final LoginFailureTracker usernames;
+    private final LoginFailureTracker addresses;
+    private final Semaphore verifications;
+    private final int maxConcurrentVerifications;
+    private final long verificationWaitNanos;
+    private final Counter blockedUsername;
+    private final Counter blockedAddress;
+    private final Counter blockedCapacity;
+
+    /**
+     * Instantiates a new Login throttle.
+     *
+     * @param usernames failures per username
+     * @param addresses failures per client address
+     * @param maxConcurrentVerifications the most password verifications running at once
+     * @param verificationWait how long an attempt waits for a verification slot
+     * @param meterRegistry the meter registry
+     */
+    public LoginThrottle(LoginFailureTracker usernames,
+                         LoginFailureTracker addresses,
+                         int maxConcurrentVerifications,
+                         Duration verificationWait,
+                         MeterRegistry meterRegistry) {
+        this.usernames = usernames;
+        this.addresses = addresses;
+        this.verifications = new Semaphore(maxConcurrentVerifications);
+        this.maxConcurrentVerifications = maxConcurrentVerifications;
+        this.verificationWaitNanos = verificationWait.toNanos();
+        this.blockedUsername = blocked(meterRegistry, "username");
+        this.blockedAddress = blocked(meterRegistry, "address");
+        this.blockedCapacity = blocked(meterRegistry, "capacity");
+        Gauge.builder("phoenix.login.verifications", this, LoginThrottle::inFlight)
+                .description("Password verifications currently running")
+                .register(meterRegistry);
+        Gauge.builder("phoenix.login.tracked", usernames, LoginFailureTracker::size)
+                .description("Keys with recent login failures")
+                .tag("kind", "username")
+                .register(meterRegistry);
+        Gauge.builder("phoenix.login.tracked", addresses, LoginFailureTracker::size)
+                .description("Keys with recent login failures")
+                .tag("kind", "address")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Run a password verification unless the username or address is backed off or no
+     * verification slot frees up in time. Bad credentials count against both.
+     *
+     * @param <T> the result type
+     * @param username the username being logged in
+     * @param address the client address, or null if unknown
+     * @param verification the verification
+     * @return the verification's result
+     * @throws LoginThrottledException if the attempt was turned away
+     */
+    public <T> T attempt(String username, String address, Supplier<T> verification) {
+        String usernameKey = username.toLowerCase(Locale.ROOT);
+        long now = System.nanoTime();
+
+        long wait = usernames.nanosUntilAllowed(usernameKey, now);
+        if (wait > 0) {
+            blockedUsername.increment();
+            throw throttled(wait);
+        }
+        if (address != null) {
+            wait = addresses.nanosUntilAllowed(address, now);
+            if (wait > 0) {
+                blockedAddress.increment();
+                throw throttled(wait);
+            }
+        }
+
+        acquireVerification();
+        try {
+            T result = verification.get();
+            usernames.reset(usernameKey);
+            return result;
+        } catch (BadCredentialsException e) {
+            long failedAt = System.nanoTime();
+            usernames.recordFailure(usernameKey, failedAt);
+            if (address != null) {
+                addresses.recordFailure(address, failedAt);
+            }
+            throw e;
+        } finally {
+            verifications.release();
+        }
+    }
+
+    private void acquireVerification() {
+        boolean acquired;
+        try {
+            acquired = verifications.tryAcquire(verificationWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            blockedCapacity.increment();
+            throw throttled(TimeUnit.SECONDS.toNanos(1));
+        }
+    }
+
+    private int inFlight() {
+        return maxConcurrentVerifications - verifications.availablePermits();
+    }
+
+    private static LoginThrottledException throttled(long waitNanos) {
+        long seconds = Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+        return new LoginThrottledException(seconds);
+    }
+
+    private static Counter blocked(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("phoenix.login.blocked")
+                .description("Login attempts rejected before password verification")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,222 @@
+package dev.tomislavmiksik.phoenixbe.ratelimit;
+
+import dev.tomislavmiksik.phoenixbe.entity.ApiKey;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Per-key request limits, checked in memory on every API key request: a token bucket for the
+ * sustained rate and burst, and an optional daily quota whose count is reconciled with the database
+ * by {@link ApiKeyUsageReconciler}. Keys without their own rate get the configured default.
+ * <p>
+ * The only database work is reading a quota key's count on its first request of the day on this
+ * node; it runs without holding a lock, and concurrent requests for the key share it.
+ */
+public class ApiKeyRateLimiter {
+
+    private static final long MILLIS_PER_DAY = TimeUnit.DAYS.toMillis(1);
+
+    private final int defaultRequestsPerSecond;
+    private final int defaultBurst;
+    private final ApiKeyUsageStore usageStore;
+    private final Map<Long, KeyLimits> limits = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<DailyQuota> retiredQuotas = new ConcurrentLinkedQueue<>();
+    private final Counter rateRejected;
+    private final Counter quotaRejected;
+
+    /**
+     * Instantiates a new Api key rate limiter.
+     *
+     * @param defaultRequestsPerSecond the rate for keys without their own, 0 for none
+     * @param defaultBurst the burst for keys without their own
+     * @param usageStore the usage store
+     * @param meterRegistry the meter registry
+     */
+    public ApiKeyRateLimiter(int defaultRequestsPerSecond,
+                             int defaultBurst,
+                             ApiKeyUsageStore usageStore,
+                             MeterRegistry meterRegistry) {
+        this.defaultRequestsPerSecond = defaultRequestsPerSecond;
+        this.defaultBurst = defaultBurst;
+        this.usageStore = usageStore;
+        this.rateRejected = rejected(meterRegistry, RateLimitDecision.RATE);
+        this.quotaRejected = rejected(meterRegistry, RateLimitDecision.QUOTA);
+    }
+
+    private static Counter rejected(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("phoenix.ratelimit.rejected")
+                .description("API key requests rejected by rate limits and quotas")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Count a request against the key's limits.
+     *
+     * @param apiKey the authenticated key
+     * @return the decision
+     */
+    public RateLimitDecision tryAcquire(ApiKey apiKey) {
+        Settings settings = settings(apiKey);
+        if (settings.requestsPerSecond() <= 0 && settings.dailyQuota() == null) {
+            return RateLimitDecision.UNLIMITED;
+        }
+
+        KeyLimits keyLimits = limits.get(apiKey.getId());
+        if (keyLimits == null || !keyLimits.settings.equals(settings)) {
+            // Rebuilt when the key's settings change, which resets its bucket but keeps its quota count
+            keyLimits = limits.compute(apiKey.getId(), (id, existing) ->
+                    existing != null && existing.settings.equals(settings)
+                            ? existing
+                            : new KeyLimits(settings, existing != null ? existing.quota : null));
+        }
+
+        long nowNanos = System.nanoTime();
+        long nowMillis = System.currentTimeMillis();
+        RateLimitDecision rate = null;
+        if (keyLimits.bucket != null) {
+            TokenBucket bucket = keyLimits.bucket;
+            long remaining = bucket.tryAcquire(nowNanos);
+            if (remaining < 0) {
+                rateRejected.increment();
+                return new RateLimitDecision(false, bucket.burst(), 0, seconds(bucket.nanosUntilFull(nowNanos)),
+                        Math.max(1, seconds(bucket.nanosUntilAvailable(nowNanos))), RateLimitDecision.RATE);
+            }
+            rate = new RateLimitDecision(true, bucket.burst(), remaining, seconds(bucket.nanosUntilFull(nowNanos)),
+                    0, null);
+        }
+
+        if (settings.dailyQuota() == null) {
+            return rate;
+        }
+        DailyQuota quota = quota(apiKey.getId(), keyLimits, settings.dailyQuota(), nowMillis / MILLIS_PER_DAY);
+        long remaining = quota.tryAcquire();
+        long untilTomorrow = TimeUnit.MILLISECONDS.toSeconds(MILLIS_PER_DAY - nowMillis % MILLIS_PER_DAY) + 1;
+        if (remaining < 0) {
+            quotaRejected.increment();
+            return new RateLimitDecision(false, quota.limit(), 0, untilTomorrow, untilTomorrow, RateLimitDecision.QUOTA);
+        }
+        if (rate != null && rate.remaining() <= remaining) {
+            return rate;
+        }
+        return new RateLimitDecision(true, quota.limit(), remaining, untilTomorrow, 0, null);
+    }
+
+    private DailyQuota quota(long apiKeyId, KeyLimits keyLimits, long limit, long epochDay) {
+        QuotaLoad quota = keyLimits.quota;
+        DailyQuota loaded = quota != null && quota.isFor(epochDay, limit) ? quota.loaded() : null;
+        if (loaded != null) {
+            return loaded;
+        }
+
+        // Once per key, node and day: pick up what other nodes and earlier runs counted. The query runs
+        // outside the lock, so it never pins a virtual thread's carrier; concurrent requests for the
+        // key wait for the same load instead of running their own
+        QuotaLoad loading = null;
+        keyLimits.lock.lock();
+        try {
+            quota = keyLimits.quota;
+            if (quota == null || !quota.isFor(epochDay, limit) || quota.future().isCompletedExceptionally()) {
+                DailyQuota previous = quota != null ? quota.loaded() : null;
+                if (previous != null) {
+                    // Still holds requests the reconciler hasn't written
+                    retiredQuotas.add(previous);
+                }
+                loading = new QuotaLoad(epochDay, limit, new CompletableFuture<>());
+                keyLimits.quota = loading;
+                quota = loading;
+            }
+        } finally {
+            keyLimits.lock.unlock();
+        }
+
+        if (loading != null) {
+            try {
+                long used = usageStore.load(apiKeyId, LocalDate.ofEpochDay(epochDay));
+                loading.future().complete(new DailyQuota(apiKeyId, epochDay, limit, used));
+            } catch (RuntimeException e) {
+                // Waiting requests fail with it; the next request retries the load
+                loading.future().completeExceptionally(e);
+                throw e;
+            }
+        }
+        try {
+            return quota.future().join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    /**
+     * The quotas to reconcile: the current one of every key, plus replaced ones not yet written.
+     * Replaced quotas are handed out once.
+     *
+     * @return the quotas
+     */
+    List<DailyQuota> quotasToReconcile() {
+        List<DailyQuota> quotas = new ArrayList<>();
+        DailyQuota retired;
+        while ((retired = retiredQuotas.poll()) != null) {
+            quotas.add(retired);
+        }
+        for (KeyLimits keyLimits : limits.values()) {
+            QuotaLoad quota = keyLimits.quota;
+            DailyQuota loaded = quota != null ? quota.loaded() : null;
+            if (loaded != null) {
+                quotas.add(loaded);
+            }
+        }
+        return quotas;
+    }
+
+    private Settings settings(ApiKey apiKey) {
+        int requestsPerSecond = apiKey.getRequestsPerSecond() != null ? apiKey.getRequestsPerSecond() : defaultRequestsPerSecond;
+        int burst = apiKey.getBurst() != null ? apiKey.getBurst() : Math.max(defaultBurst, requestsPerSecond);
+        return new Settings(requestsPerSecond, burst, apiKey.getDailyQuota());
+    }
+
+    private static long seconds(long nanos) {
+        return (nanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1);
+    }
+
+    private record Settings(int requestsPerSecond, int burst, Long dailyQuota) {
+    }
+
+    private record QuotaLoad(long epochDay, long limit, CompletableFuture<DailyQuota> future) {
+
+        boolean isFor(long epochDay, long limit) {
+            return this.epochDay == epochDay && this.limit == limit;
+        }
+
+        DailyQuota loaded() {
+            return future.isDone() && !future.isCompletedExceptionally() ? future.join() : null;
+        }
+    }
+
+    private static final class KeyLimits {
+
+        private final Settings settings;
+        private final TokenBucket bucket;
+        private final ReentrantLock lock = new ReentrantLock();
+        private volatile QuotaLoad quota;
+
+        private KeyLimits(Settings settings, QuotaLoad quota) {
+            this.settings = settings;
+            this.quota = quota;
+            this.bucket = settings.requestsPerSecond() > 0
+                    ? new TokenBucket(settings.requestsPerSecond(), settings.burst())
+                    : null;
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package dev.tomislavmiksik.phoenixbe.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Collectors;
+
+/**
+ * Background thread that periodically adds each node's quota counts to {@code api_key_usage} and
+ * reads back the totals, so quotas survive restarts and every node sees the others' requests within
+ * one interval. Keys may overshoot their quota by what other nodes served during that interval.
+ */
+public class ApiKeyUsageReconciler implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(ApiKeyUsageReconciler.class);
+
+    private final ApiKeyRateLimiter rateLimiter;
+    private final ApiKeyUsageStore usageStore;
+    private final long intervalNanos;
+    private final Counter failed;
+
+    private volatile boolean running;
+    private Thread thread;
+
+    /**
+     * Instantiates a new Api key usage reconciler.
+     *
+     * @param rateLimiter the rate limiter
+     * @param usageStore the usage store
+     * @param interval the time between reconciliations
+     * @param meterRegistry the meter registry
+     */
+    public ApiKeyUsageReconciler(ApiKeyRateLimiter rateLimiter,
+                                 ApiKeyUsageStore usageStore,
+                                 Duration interval,
+                                 MeterRegistry meterRegistry) {
+        this.rateLimiter = rateLimiter;
+        this.usageStore = usageStore;
+        this.intervalNanos = interval.toNanos();
+        this.failed = Counter.builder("phoenix.ratelimit.reconcile.failed")
+                .description("Quota reconciliations that could not reach the database")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        thread = new Thread(this::run, "api-key-usage-reconciler");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+            try {
+                thread.join(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        // Lower phases stop later: stop after the web server (DEFAULT_PHASE - 2048), so the final
+        // write-back covers every request the server accepted. The DataSource only closes at bean
+        // destruction
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private void run() {
+        while (running) {
+            LockSupport.parkNanos(intervalNanos);
+            reconcile();
+        }
+        // Shutdown: write what this node served since the last run
+        reconcile();
+    }
+
+    /**
+     * Write pending counts and refresh every quota from the database.
+     */
+    void reconcile() {
+        List<DailyQuota> quotas = rateLimiter.quotasToReconcile();
+        Map<Long, List<DailyQuota>> byDay = quotas.stream().collect(Collectors.groupingBy(DailyQuota::epochDay));
+
+        for (Map.Entry<Long, List<DailyQuota>> day : byDay.entrySet()) {
+            LocalDate date = LocalDate.ofEpochDay(day.getKey());
+            Map<DailyQuota, Long> written = new HashMap<>();
+            Map<Long, Long> deltas = new HashMap<>();
+            for (DailyQuota quota : day.getValue()) {
+                long pending = quota.pending();
+                if (pending > 0) {
+                    written.put(quota, pending);
+                    deltas.merge(quota.apiKeyId(), pending, Long::sum);
+                }
+            }
+
+            try {
+                // One transaction: on failure nothing was written, so the same deltas are retried
+                Map<Long, Long> totals = usageStore.addAndLoadAll(date, deltas);
+                for (DailyQuota quota : day.getValue()) {
+                    quota.reconciled(written.getOrDefault(quota, 0L), totals.getOrDefault(quota.apiKeyId(), 0L));
+                }
+            } catch (RuntimeException e) {
+                // Not only DataAccessException (e.g. a transaction that can't start), so the thread
+                // survives. Retired quotas are dropped with their counts; current ones are retried next run
+                failed.increment();
+                logger.warn("Could not reconcile API key usage for {}", date, e);
+            }
+        }
+    }
+}
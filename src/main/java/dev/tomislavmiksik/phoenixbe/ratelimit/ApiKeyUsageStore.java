@@ -0,0 +1,121 @@
+package dev.tomislavmiksik.phoenixbe.ratelimit;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Daily request counts per API key in {@code api_key_usage}, shared by all nodes. Counts are only
+ * ever incremented, so concurrent writers never lose each other's requests.
+ */
+public class ApiKeyUsageStore {
+
+    private static final String UPDATE_SQL =
+            "UPDATE api_key_usage SET requests = requests + ? WHERE api_key_id = ? AND usage_date = ?";
+    private static final String INSERT_SQL =
+            "INSERT INTO api_key_usage (api_key_id, usage_date, requests) VALUES (?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate savepointTemplate;
+
+    /**
+     * Instantiates a new Api key usage store.
+     *
+     * @param jdbcTemplate the jdbc template
+     */
+    public ApiKeyUsageStore(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        // Plain JDBC work, so a JDBC transaction manager: unlike the JPA one it supports savepoints
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(jdbcTemplate.getDataSource());
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.savepointTemplate = new TransactionTemplate(transactionManager);
+        this.savepointTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_NESTED);
+    }
+
+    /**
+     * The requests counted for a key on a day.
+     *
+     * @param apiKeyId the api key id
+     * @param day the day
+     * @return the count, 0 if none
+     */
+    public long load(long apiKeyId, LocalDate day) {
+        List<Long> requests = jdbcTemplate.queryForList(
+                "SELECT requests FROM api_key_usage WHERE api_key_id = ? AND usage_date = ?",
+                Long.class, apiKeyId, day);
+        return requests.isEmpty() ? 0 : requests.get(0);
+    }
+
+    /**
+     * The requests counted for every key on a day.
+     *
+     * @param day the day
+     * @return the counts by api key id
+     */
+    public Map<Long, Long> loadAll(LocalDate day) {
+        Map<Long, Long> usage = new HashMap<>();
+        jdbcTemplate.query("SELECT api_key_id, requests FROM api_key_usage WHERE usage_date = ?",
+                row -> {
+                    usage.put(row.getLong(1), row.getLong(2));
+                }, day);
+        return usage;
+    }
+
+    /**
+     * Add request counts for a day and read back every key's total, in one transaction, so a failure
+     * writes nothing and the same counts can safely be added again.
+     *
+     * @param day the day
+     * @param deltas the requests to add by api key id
+     * @return the counts by api key id after the addition
+     */
+    public Map<Long, Long> addAndLoadAll(LocalDate day, Map<Long, Long> deltas) {
+        return transactionTemplate.execute(status -> {
+            add(day, deltas);
+            return loadAll(day);
+        });
+    }
+
+    /**
+     * Add request counts for a day, one batched update plus an insert for each key's first count.
+     *
+     * @param day the day
+     * @param deltas the requests to add by api key id
+     */
+    public void add(LocalDate day, Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        // Rows are locked in key order, so nodes reconciling at once can't deadlock
+        List<Map.Entry<Long, Long>> entries = new ArrayList<>(new TreeMap<>(deltas).entrySet());
+        int[][] updated = jdbcTemplate.batchUpdate(UPDATE_SQL, entries, entries.size(), (statement, entry) -> {
+            statement.setLong(1, entry.getValue());
+            statement.setLong(2, entry.getKey());
+            statement.setObject(3, day);
+        });
+
+        for (int i = 0; i < entries.size(); i++) {
+            if (updated[0][i] == 0) {
+                Map.Entry<Long, Long> entry = entries.get(i);
+                try {
+                    // Under a savepoint: PostgreSQL aborts the whole transaction on a failed insert
+                    savepointTemplate.executeWithoutResult(
+                            status -> jdbcTemplate.update(INSERT_SQL, entry.getKey(), day, entry.getValue()));
+                } catch (DuplicateKeyException e) {
+                    // Another node inserted the day's row first
+                    jdbcTemplate.update(UPDATE_SQL, entry.getValue(), entry.getKey(), day);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package dev.tomislavmiksik.phoenixbe.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * One key's request count for one UTC day: the total last read from the database plus the requests
+ * this node has served since, which the reconciler writes back.
+ */
+public class DailyQuota {
+
+    private final long apiKeyId;
+    private final long epochDay;
+    private final long limit;
+    private final AtomicLong pending = new AtomicLong();
+    private volatile long reconciled;
+
+    /**
+     * Instantiates a new Daily quota.
+     *
+     * @param apiKeyId the api key id
+     * @param epochDay the UTC day
+     * @param limit the requests allowed that day
+     * @param reconciled the requests already counted in the database
+     */
+    public DailyQuota(long apiKeyId, long epochDay, long limit, long reconciled) {
+        this.apiKeyId = apiKeyId;
+        this.epochDay = epochDay;
+        this.limit = limit;
+        this.reconciled = reconciled;
+    }
+
+    /**
+     * Count a request if the quota allows it.
+     *
+     * @return the requests left after this one, or -1 if the quota is used up
+     */
+    public long tryAcquire() {
+        long used = reconciled + pending.incrementAndGet();
+        if (used > limit) {
+            pending.decrementAndGet();
+            return -1;
+        }
+        return limit - used;
+    }
+
+    /**
+     * Requests served by this node that are not yet in the database.
+     *
+     * @return the count
+     */
+    public long pending() {
+        return pending.get();
+    }
+
+    /**
+     * Apply a reconciliation: {@code written} requests were added to the database, which now holds
+     * {@code total} for the day across all nodes.
+     *
+     * @param written the requests written
+     * @param total the database total
+     */
+    public void reconciled(long written, long total) {
+        // Briefly counts the written requests twice, which errs on the side of rejecting
+        reconciled = total;
+        pending.addAndGet(-written);
+    }
+
+    /**
+     * The api key id.
+     *
+     * @return the api key id
+     */
+    public long apiKeyId() {
+        return apiKeyId;
+    }
+
+    /**
+     * The UTC day counted.
+     *
+     * @return the epoch day
+     */
+    public long epochDay() {
+        return epochDay;
+    }
+
+    /**
+     * The requests allowed that day.
+     *
+     * @return the limit
+     */
+    public long limit() {
+        return limit;
+    }
+}
@@ -0,0 +1,30 @@
+package dev.tomislavmiksik.phoenixbe.ratelimit;
+
+/**
+ * The outcome of a rate limit check, with the limit closest to running out for the
+ * {@code RateLimit-*} headers.
+ *
+ * @param allowed           whether the request may proceed
+ * @param limit             the limit reported, or -1 when the key is unlimited
+ * @param remaining         requests left under that limit
+ * @param resetSeconds      seconds until that limit is fully available again
+ * @param retryAfterSeconds seconds to wait before retrying a rejected request
+ * @param reason            what rejected the request, null if allowed
+ */
+public record RateLimitDecision(boolean allowed, long limit, long remaining, long resetSeconds,
+                                long retryAfterSeconds, String reason) {
+
+    public static final String RATE = "rate";
+    public static final String QUOTA = "quota";
+
+    static final RateLimitDecision UNLIMITED = new RateLimitDecision(true, -1, -1, 0, 0, null);
+
+    /**
+     * Whether there is a limit to report.
+     *
+     * @return true if limited
+     */
+    public boolean limited() {
+        return limit >= 0;
+    }
+}
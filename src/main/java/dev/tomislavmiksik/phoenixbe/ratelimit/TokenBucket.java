@@ -0,0 +1,81 @@
+package dev.tomislavmiksik.phoenixbe.ratelimit;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket, kept as a single theoretical arrival time (GCRA): each request pushes the
+ * time one emission interval further, and a request is allowed while that time stays within the
+ * burst of now. One CAS per request, no refill thread.
+ */
+public class TokenBucket {
+
+    private final long intervalNanos;
+    private final long toleranceNanos;
+    private final int burst;
+    private final AtomicLong theoreticalArrival = new AtomicLong(Long.MIN_VALUE);
+
+    /**
+     * Instantiates a new Token bucket.
+     *
+     * @param requestsPerSecond the sustained rate
+     * @param burst the bucket size
+     */
+    public TokenBucket(int requestsPerSecond, int burst) {
+        if (requestsPerSecond < 1 || burst < 1) {
+            throw new IllegalArgumentException("Rate and burst must be positive");
+        }
+        this.intervalNanos = TimeUnit.SECONDS.toNanos(1) / requestsPerSecond;
+        this.toleranceNanos = intervalNanos * burst;
+        this.burst = burst;
+    }
+
+    /**
+     * Take a token if one is available.
+     *
+     * @param nowNanos the current {@link System#nanoTime()}
+     * @return the tokens left after this request, or -1 if the bucket was empty
+     */
+    public long tryAcquire(long nowNanos) {
+        while (true) {
+            long current = theoreticalArrival.get();
+            long next = Math.max(current, nowNanos) + intervalNanos;
+            if (next - nowNanos > toleranceNanos) {
+                return -1;
+            }
+            if (theoreticalArrival.compareAndSet(current, next)) {
+                return (toleranceNanos - (next - nowNanos)) / intervalNanos;
+            }
+        }
+    }
+
+    /**
+     * Nanoseconds until the next token is available, 0 if one is available now.
+     *
+     * @param nowNanos the current {@link System#nanoTime()}
+     * @return the wait
+     */
+    public long nanosUntilAvailable(long nowNanos) {
+        long next = Math.max(theoreticalArrival.get(), nowNanos) + intervalNanos;
+        return Math.max(0, next - nowNanos - toleranceNanos);
+    }
+
+    /**
+     * Nanoseconds until the bucket is full again.
+     *
+     * @param nowNanos the current {@link System#nanoTime()}
+     * @return the wait
+     */
+    public long nanosUntilFull(long nowNanos) {
+        return Math.max(0, theoreticalArrival.get() - nowNanos);
+    }
+
+    /**
+     * The bucket size.
+     *
+     * @return the burst
+     */
+    public int burst() {
+        return burst;
+    }
+}
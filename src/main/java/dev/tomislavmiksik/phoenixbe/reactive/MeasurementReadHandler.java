@@ -0,0 +1,74 @@
+package dev.tomislavmiksik.phoenixbe.reactive;
+
+import dev.tomislavmiksik.phoenixbe.dto.measurements.MeasurementResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Functional handlers for the reactive measurement read endpoints.
+ * Paths and response bodies match {@code MeasurementController}.
+ */
+@RequiredArgsConstructor
+public class MeasurementReadHandler {
+
+    private static final int MAX_RECENT = 10;
+
+    private final ReactiveMeasurementRepository measurementRepository;
+
+    public Mono<ServerResponse> getAllMeasurements(ServerRequest request) {
+        return ServerResponse.ok().body(
+                measurementRepository.findAllByUsername(principal(request)), MeasurementResponse.class);
+    }
+
+    public Mono<ServerResponse> getRecentMeasurements(ServerRequest request) {
+        int limit;
+        try {
+            limit = request.queryParam("limit").map(Integer::parseInt).orElse(MAX_RECENT);
+        } catch (NumberFormatException e) {
+            return ServerResponse.badRequest().bodyValue("Invalid limit");
+        }
+        if (limit < 0) {
+            return ServerResponse.badRequest().bodyValue("Invalid limit");
+        }
+
+        // The servlet service reads the top 10 and trims, so never return more than that
+        return ServerResponse.ok().body(
+                measurementRepository.findRecentByUsername(principal(request), Math.min(limit, MAX_RECENT)),
+                MeasurementResponse.class);
+    }
+
+    public Mono<ServerResponse> getMeasurementsInRange(ServerRequest request) {
+        LocalDateTime from;
+        LocalDateTime to;
+        try {
+            from = request.queryParam("from").map(LocalDateTime::parse).orElse(null);
+            to = request.queryParam("to").map(LocalDateTime::parse).orElse(null);
+        } catch (DateTimeParseException e) {
+            return ServerResponse.badRequest().bodyValue("Invalid date");
+        }
+        if (from == null || to == null) {
+            return ServerResponse.badRequest().bodyValue("Both from and to are required");
+        }
+        if (from.isAfter(to)) {
+            return ServerResponse.badRequest().bodyValue("Range start must not be after range end");
+        }
+
+        return ServerResponse.ok().body(
+                measurementRepository.findInRangeByUsername(principal(request), from, to),
+                MeasurementResponse.class);
+    }
+
+    public Mono<ServerResponse> getMeasurementSummary(ServerRequest request) {
+        return measurementRepository.summarizeByUsername(principal(request))
+                .flatMap(summary -> ServerResponse.ok().bodyValue(summary));
+    }
+
+    private String principal(ServerRequest request) {
+        return (String) request.attributes().get(ReactiveAuthenticationFilter.PRINCIPAL_ATTRIBUTE);
+    }
+}
@@ -0,0 +1,83 @@
+package dev.tomislavmiksik.phoenixbe.reactive;
+
+import dev.tomislavmiksik.phoenixbe.entity.ApiKey;
+import dev.tomislavmiksik.phoenixbe.security.ApiKeyScopes;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Non-blocking API key lookups mirroring {@code ApiKeyRepository}.
+ */
+@RequiredArgsConstructor
+public class ReactiveApiKeyRepository {
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * Find an active key by its hash.
+     *
+     * @param keyHash the SHA-256 hex of the raw key
+     * @return the key, or empty if unknown or inactive
+     */
+    public Mono<ActiveApiKey> findByKeyHashAndActiveTrue(String keyHash) {
+        return databaseClient.sql("SELECT id, expires_at, scopes, requests_per_second, burst, daily_quota"
+                        + " FROM api_key WHERE key_hash = :keyHash AND active = true")
+                .bind("keyHash", keyHash)
+                .map(row -> {
+                    LocalDateTime expiresAt = row.get("expires_at", LocalDateTime.class);
+                    return new ActiveApiKey(row.get("id", Long.class),
+                            expiresAt != null ? expiresAt.atZone(ZoneId.systemDefault()).toInstant() : null,
+                            ApiKeyScopes.parse(row.get("scopes", String.class)),
+                            row.get("requests_per_second", Integer.class),
+                            row.get("burst", Integer.class),
+                            row.get("daily_quota", Long.class));
+                })
+                .one();
+    }
+
+    /**
+     * Record that a key has just been used.
+     *
+     * @param id the key id
+     * @return completion signal
+     */
+    public Mono<Void> touch(Long id) {
+        return databaseClient.sql("UPDATE api_key SET last_used_at = :now WHERE id = :id")
+                .bind("now", LocalDateTime.now())
+                .bind("id", id)
+                .then();
+    }
+
+    /**
+     * The subset of an API key row needed for authentication.
+     *
+     * @param id                the id
+     * @param expiresAt         the expiry, or null if it never expires
+     * @param scopes            the granted scopes
+     * @param requestsPerSecond the sustained rate limit, or null for the default
+     * @param burst             the burst size, or null for the default
+     * @param dailyQuota        the daily request quota, or null for none
+     */
+    public record ActiveApiKey(Long id, Instant expiresAt, ApiKeyScopes scopes,
+                               Integer requestsPerSecond, Integer burst, Long dailyQuota) {
+
+        /**
+         * The key's limits in the form {@code ApiKeyRateLimiter} reads them.
+         *
+         * @return an unsaved key carrying only the id and limits
+         */
+        public ApiKey limits() {
+            return ApiKey.builder()
+                    .id(id)
+                    .requestsPerSecond(requestsPerSecond)
+                    .burst(burst)
+                    .dailyQuota(dailyQuota)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package dev.tomislavmiksik.phoenixbe.reactive;
+
+import dev.tomislavmiksik.phoenixbe.audit.ApiKeyAuditEvent;
+import dev.tomislavmiksik.phoenixbe.audit.ApiKeyAuditRecorder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+
+/**
+ * Records an audit event for every reactive request made with a known API key, like
+ * {@code ApiKeyAuthenticationFilter} does on the servlet stack.
+ * <p>
+ * Runs as a web filter rather than in {@link ReactiveAuthenticationFilter} so the latency covers
+ * writing the body, which is when the streamed reads query the database.
+ */
+@RequiredArgsConstructor
+public class ReactiveAuditFilter implements WebFilter {
+
+    private static final int MAX_AUDIT_PATH_LENGTH = 255;
+
+    private final ApiKeyAuditRecorder auditRecorder;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        long start = System.nanoTime();
+        return chain.filter(exchange).doFinally(signal -> {
+            Long apiKeyId = exchange.getAttribute(ReactiveAuthenticationFilter.API_KEY_ID_ATTRIBUTE);
+            if (apiKeyId != null) {
+                audit(apiKeyId, exchange, start);
+            }
+        });
+    }
+
+    private void audit(long apiKeyId, ServerWebExchange exchange, long start) {
+        String path = exchange.getRequest().getPath().value();
+        if (path.length() > MAX_AUDIT_PATH_LENGTH) {
+            path = path.substring(0, MAX_AUDIT_PATH_LENGTH);
+        }
+        // No status means the request failed or the client went away before one was set
+        HttpStatusCode status = exchange.getResponse().getStatusCode();
+        auditRecorder.record(new ApiKeyAuditEvent(
+                apiKeyId,
+                exchange.getRequest().getMethod().name(),
+                path,
+                status != null ? status.value() : HttpStatus.INTERNAL_SERVER_ERROR.value(),
+                (System.nanoTime() - start) / 1_000,
+                Instant.now()));
+    }
+}
@@ -0,0 +1,99 @@
+package dev.tomislavmiksik.phoenixbe.reactive;
+
+import dev.tomislavmiksik.phoenixbe.security.ApiKeyScope;
+import dev.tomislavmiksik.phoenixbe.ratelimit.ApiKeyRateLimiter;
+import dev.tomislavmiksik.phoenixbe.ratelimit.RateLimitDecision;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.server.HandlerFilterFunction;
+import org.springframework.web.reactive.function.server.HandlerFunction;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Instant;
+
+/**
+ * Authenticates reactive read requests with the same rules as {@code ApiKeyAuthenticationFilter}.
+ * <p>
+ * The {@code X-API-KEY} header is checked exactly like the servlet filter, including its error
+ * messages, rate limits and {@code RateLimit-*} headers, and the request runs as {@code api-key-user}.
+ * Every reactive route is a read, so the key needs the {@code measurements:read} scope. Requests
+ * with a known key are audited by {@link ReactiveAuditFilter}.
+ * <p>
+ * Counting a request is in-memory except for a quota key's first request of the day on this node,
+ * which reads its count; quota keys are therefore counted off the event loop.
+ */
+@RequiredArgsConstructor
+public class ReactiveAuthenticationFilter implements HandlerFilterFunction<ServerResponse, ServerResponse> {
+
+    /**
+     * Request attribute holding the authenticated username.
+     */
+    public static final String PRINCIPAL_ATTRIBUTE = ReactiveAuthenticationFilter.class.getName() + ".principal";
+
+    /**
+     * Request attribute holding the id of the key the request presented, once it was found.
+     */
+    public static final String API_KEY_ID_ATTRIBUTE = ReactiveAuthenticationFilter.class.getName() + ".apiKeyId";
+
+    private static final String AUTH_TOKEN_HEADER_NAME = "X-API-KEY";
+    private static final String API_KEY_PRINCIPAL = "api-key-user";
+
+    private final ReactiveApiKeyRepository apiKeyRepository;
+    private final ApiKeyRateLimiter rateLimiter;
+
+    @Override
+    public Mono<ServerResponse> filter(ServerRequest request, HandlerFunction<ServerResponse> next) {
+        String key = request.headers().firstHeader(AUTH_TOKEN_HEADER_NAME);
+        if (key == null || key.isEmpty()) {
+            return unauthorized("Missing API Key");
+        }
+
+        return apiKeyRepository.findByKeyHashAndActiveTrue(DigestUtils.sha256Hex(key))
+                .flatMap(apiKey -> {
+                    // Audited from here on, including rejections, as on the servlet stack
+                    request.attributes().put(API_KEY_ID_ATTRIBUTE, apiKey.id());
+                    if (apiKey.expiresAt() != null && apiKey.expiresAt().isBefore(Instant.now())) {
+                        return unauthorized("Expired API key");
+                    }
+                    // Before the key's use is recorded and its scope checked, as in the servlet stack
+                    return tryAcquire(apiKey).flatMap(decision -> {
+                        if (decision.limited()) {
+                            HttpHeaders headers = request.exchange().getResponse().getHeaders();
+                            headers.set("RateLimit-Limit", Long.toString(decision.limit()));
+                            headers.set("RateLimit-Remaining", Long.toString(decision.remaining()));
+                            headers.set("RateLimit-Reset", Long.toString(decision.resetSeconds()));
+                        }
+                        if (!decision.allowed()) {
+                            return ServerResponse.status(HttpStatus.TOO_MANY_REQUESTS)
+                                    .header(HttpHeaders.RETRY_AFTER, Long.toString(decision.retryAfterSeconds()))
+                                    .bodyValue(decision.reason().equals(RateLimitDecision.QUOTA)
+                                            ? "Daily quota exceeded" : "Rate limit exceeded");
+                        }
+                        if (!apiKey.scopes().has(ApiKeyScope.MEASUREMENTS_READ)) {
+                            return apiKeyRepository.touch(apiKey.id())
+                                    .then(ServerResponse.status(HttpStatus.FORBIDDEN).bodyValue("Insufficient scope"));
+                        }
+                        request.attributes().put(PRINCIPAL_ATTRIBUTE, API_KEY_PRINCIPAL);
+                        return apiKeyRepository.touch(apiKey.id()).then(next.handle(request));
+                    });
+                })
+                .switchIfEmpty(Mono.defer(() -> unauthorized("Invalid API key")));
+    }
+
+    private Mono<RateLimitDecision> tryAcquire(ReactiveApiKeyRepository.ActiveApiKey apiKey) {
+        if (apiKey.dailyQuota() == null) {
+            return Mono.just(rateLimiter.tryAcquire(apiKey.limits()));
+        }
+        return Mono.fromCallable(() -> rateLimiter.tryAcquire(apiKey.limits()))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private Mono<ServerResponse> unauthorized(String message) {
+        return ServerResponse.status(HttpStatus.UNAUTHORIZED).bodyValue(message);
+    }
+}
@@ -0,0 +1,57 @@
+package dev.tomislavmiksik.phoenixbe.reactive;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import lombok.Getter;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import java.time.Duration;
+
+/**
+ * Owns the R2DBC connection pool used by the reactive read path.
+ * <p>
+ * The pool is deliberately not exposed as a {@code ConnectionFactory} bean: Spring Boot backs the
+ * JDBC {@code DataSource} off as soon as one exists, which would take JPA down with it.
+ */
+public class ReactiveDatabase implements DisposableBean {
+
+    private final ConnectionPool connectionPool;
+
+    @Getter
+    private final DatabaseClient databaseClient;
+
+    /**
+     * Instantiates a new Reactive database.
+     *
+     * @param url      the R2DBC url
+     * @param username the username
+     * @param password the password
+     * @param poolSize the maximum number of pooled connections
+     */
+    public ReactiveDatabase(String url, String username, String password, int poolSize) {
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(url)
+                .mutate()
+                .option(ConnectionFactoryOptions.USER, username)
+                .option(ConnectionFactoryOptions.PASSWORD, password)
+                .build();
+
+        ConnectionPoolConfiguration configuration = ConnectionPoolConfiguration
+                .builder(ConnectionFactories.get(options))
+                .name("phoenix-reactive")
+                .initialSize(1)
+                .maxSize(poolSize)
+                .maxAcquireTime(Duration.ofSeconds(5))
+                .build();
+
+        this.connectionPool = new ConnectionPool(configuration);
+        this.databaseClient = DatabaseClient.create(connectionPool);
+    }
+
+    @Override
+    public void destroy() {
+        connectionPool.dispose();
+    }
+}
@@ -0,0 +1,119 @@
+package dev.tomislavmiksik.phoenixbe.reactive;
+
+import dev.tomislavmiksik.phoenixbe.dto.measurements.MeasurementResponse;
+import dev.tomislavmiksik.phoenixbe.dto.measurements.MeasurementSummaryResponse;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Non-blocking measurement reads.
+ * <p>
+ * Every query joins on {@code users.username} so a request costs a single round trip,
+ * instead of resolving the user first like the servlet service does.
+ */
+@RequiredArgsConstructor
+public class ReactiveMeasurementRepository {
+
+    private static final String SELECT_MEASUREMENTS =
+            "SELECT m.id, m.user_id, m.weight, m.height, m.chest_circumference, m.arm_circumference, " +
+            "m.leg_circumference, m.waist_circumference, m.measurement_date, m.created_at, m.updated_at " +
+            "FROM measurements m JOIN users u ON u.id = m.user_id " +
+            "WHERE u.username = :username ";
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * Find all measurements of a user, newest first.
+     *
+     * @param username the username
+     * @return the measurements
+     */
+    public Flux<MeasurementResponse> findAllByUsername(String username) {
+        return databaseClient.sql(SELECT_MEASUREMENTS + "ORDER BY m.measurement_date DESC")
+                .bind("username", username)
+                .map(ReactiveMeasurementRepository::mapToResponse)
+                .all();
+    }
+
+    /**
+     * Find the most recent measurements of a user.
+     *
+     * @param username the username
+     * @param limit    the maximum number of rows
+     * @return the measurements
+     */
+    public Flux<MeasurementResponse> findRecentByUsername(String username, int limit) {
+        return databaseClient.sql(SELECT_MEASUREMENTS + "ORDER BY m.measurement_date DESC LIMIT :limit")
+                .bind("username", username)
+                .bind("limit", limit)
+                .map(ReactiveMeasurementRepository::mapToResponse)
+                .all();
+    }
+
+    /**
+     * Find measurements of a user taken between two dates, newest first.
+     *
+     * @param username the username
+     * @param from     the start of the range, inclusive
+     * @param to       the end of the range, inclusive
+     * @return the measurements
+     */
+    public Flux<MeasurementResponse> findInRangeByUsername(String username, LocalDateTime from, LocalDateTime to) {
+        return databaseClient.sql(SELECT_MEASUREMENTS +
+                        "AND m.measurement_date BETWEEN :from AND :to ORDER BY m.measurement_date DESC")
+                .bind("username", username)
+                .bind("from", from)
+                .bind("to", to)
+                .map(ReactiveMeasurementRepository::mapToResponse)
+                .all();
+    }
+
+    /**
+     * Aggregate all measurements of a user.
+     *
+     * @param username the username
+     * @return the summary
+     */
+    public Mono<MeasurementSummaryResponse> summarizeByUsername(String username) {
+        return databaseClient.sql(
+                        "SELECT COUNT(m.id) AS cnt, MIN(m.weight) AS min_weight, MAX(m.weight) AS max_weight, " +
+                        "AVG(m.weight) AS avg_weight, MIN(m.measurement_date) AS first_date, " +
+                        "MAX(m.measurement_date) AS last_date " +
+                        "FROM measurements m JOIN users u ON u.id = m.user_id WHERE u.username = :username")
+                .bind("username", username)
+                .map(row -> {
+                    Number average = row.get("avg_weight", Number.class);
+                    return MeasurementSummaryResponse.builder()
+                            .count(row.get("cnt", Long.class))
+                            .minWeight(row.get("min_weight", BigDecimal.class))
+                            .maxWeight(row.get("max_weight", BigDecimal.class))
+                            .averageWeight(average != null ? average.doubleValue() : null)
+                            .firstMeasurementDate(row.get("first_date", LocalDateTime.class))
+                            .lastMeasurementDate(row.get("last_date", LocalDateTime.class))
+                            .build();
+                })
+                .one();
+    }
+
+    private static MeasurementResponse mapToResponse(Readable row) {
+        return MeasurementResponse.builder()
+                .id(row.get("id", Long.class))
+                .userId(row.get("user_id", Long.class))
+                .weight(row.get("weight", BigDecimal.class))
+                .height(row.get("height", BigDecimal.class))
+                .chestCircumference(row.get("chest_circumference", BigDecimal.class))
+                .armCircumference(row.get("arm_circumference", BigDecimal.class))
+                .legCircumference(row.get("leg_circumference", BigDecimal.class))
+                .waistCircumference(row.get("waist_circumference", BigDecimal.class))
+                .measurementDate(row.get("measurement_date", LocalDateTime.class))
+                .createdAt(row.get("created_at", LocalDateTime.class))
+                .updatedAt(row.get("updated_at", LocalDateTime.class))
+                .build();
+    }
+}
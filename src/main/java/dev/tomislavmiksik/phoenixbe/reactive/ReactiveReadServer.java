@@ -0,0 +1,67 @@
+package dev.tomislavmiksik.phoenixbe.reactive;
+
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.server.reactive.HttpHandler;
+import org.springframework.http.server.reactive.ReactorHttpHandlerAdapter;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.resources.LoopResources;
+
+/**
+ * Runs the reactive read endpoints on their own Reactor Netty server, next to Tomcat,
+ * with a small fixed number of event loop threads.
+ */
+@RequiredArgsConstructor
+public class ReactiveReadServer implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveReadServer.class);
+
+    private final HttpHandler httpHandler;
+    private final String address;
+    private final int port;
+    private final int eventLoopThreads;
+
+    private LoopResources loopResources;
+    private volatile DisposableServer server;
+
+    @Override
+    public void start() {
+        loopResources = LoopResources.create("phoenix-reactive", eventLoopThreads, true);
+        server = HttpServer.create()
+                .host(address)
+                .port(port)
+                .runOn(loopResources)
+                .handle(new ReactorHttpHandlerAdapter(httpHandler))
+                .bindNow();
+        logger.info("Reactive read path listening on {}:{} with {} event loop threads",
+                address, server.port(), eventLoopThreads);
+    }
+
+    @Override
+    public void stop() {
+        if (server != null) {
+            server.disposeNow();
+            server = null;
+        }
+        if (loopResources != null) {
+            loopResources.dispose();
+        }
+    }
+
+    /**
+     * The port the server is bound to, which differs from the configured one when that is 0.
+     *
+     * @return the bound port
+     */
+    public int getPort() {
+        return server.port();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return server != null;
+    }
+}
@@ -0,0 +1,36 @@
+package dev.tomislavmiksik.phoenixbe.repository;
+
+import dev.tomislavmiksik.phoenixbe.entity.ApiKeyAudit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+
+/**
+ * The interface Api key audit repository.
+ */
+@Repository
+public interface ApiKeyAuditRepository extends JpaRepository<ApiKeyAudit, Long> {
+
+    /**
+     * Find audit entries in a time range, newest first, optionally for a single key.
+     *
+     * @param apiKeyId the api key id, or null for all keys
+     * @param from the inclusive start
+     * @param to the exclusive end
+     * @param pageable the page
+     * @return the page of entries
+     */
+    @Query("SELECT a FROM ApiKeyAudit a " +
+            "WHERE (:apiKeyId IS NULL OR a.apiKeyId = :apiKeyId) " +
+            "AND a.occurredAt >= :from AND a.occurredAt < :to " +
+            "ORDER BY a.occurredAt DESC, a.id DESC")
+    Page<ApiKeyAudit> findInRange(@Param("apiKeyId") Long apiKeyId,
+                                  @Param("from") Instant from,
+                                  @Param("to") Instant to,
+                                  Pageable pageable);
+}
@@ -1,31 +1,62 @@
 package dev.tomislavmiksik.phoenixbe.repository;
 
 import dev.tomislavmiksik.phoenixbe.entity.ApiKey;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 
 /**
  * The interface Api key repository.
  */
 @Repository
-public interface ApiKeyRepository extends JpaRepository<ApiKey, Long> {
+public interface ApiKeyRepository extends JpaRepository<ApiKey, Long>, ApiKeyRepositoryCustom {
 
     /**
-     * Find api key by label optional.
+     * Find a key by id and lock its row until the transaction ends. Reads the database rather than
+     * the second-level cache, so the key is written back without stale fields.
      *
-     * @param label the label
-     * @return the optional value of API KEY if found
+     * @param id the id
+     * @return the optional api key
      */
-    Optional<ApiKey> findApiKeyByLabel(String label);
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<ApiKey> findLockedById(Long id);
 
     /**
-     * Find by key hash and active true optional.
+     * Find keys newest first, continuing below an id (keyset pagination). Every filter is optional.
      *
-     * @param KeyHash the key hash
-     * @return the optional
+     * @param label the exact label
+     * @param active whether the key must be active (not revoked)
+     * @param expiredAt keep only keys expired at this instant
+     * @param validAt keep only keys not expired at this instant
+     * @param usedSince keep only keys used at or after this instant
+     * @param unusedSince keep only keys not used since this instant, including never used ones
+     * @param before the id to continue below
+     * @param limit the page size
+     * @return the keys
      */
-    Optional<ApiKey> findByKeyHashAndActiveTrue(String KeyHash);
+    @Query("SELECT k FROM ApiKey k " +
+            "WHERE (:label IS NULL OR k.label = :label) " +
+            "AND (:active IS NULL OR k.active = :active) " +
+            "AND (:expiredAt IS NULL OR k.expiresAt <= :expiredAt) " +
+            "AND (:validAt IS NULL OR k.expiresAt IS NULL OR k.expiresAt > :validAt) " +
+            "AND (:usedSince IS NULL OR k.lastUsedAt >= :usedSince) " +
+            "AND (:unusedSince IS NULL OR k.lastUsedAt IS NULL OR k.lastUsedAt < :unusedSince) " +
+            "AND (:before IS NULL OR k.id < :before) " +
+            "ORDER BY k.id DESC")
+    List<ApiKey> findPage(@Param("label") String label,
+                          @Param("active") Boolean active,
+                          @Param("expiredAt") Instant expiredAt,
+                          @Param("validAt") Instant validAt,
+                          @Param("usedSince") Instant usedSince,
+                          @Param("unusedSince") Instant unusedSince,
+                          @Param("before") Long before,
+                          Limit limit);
 }
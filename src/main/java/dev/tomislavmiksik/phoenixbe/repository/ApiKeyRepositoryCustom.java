@@ -0,0 +1,32 @@
+package dev.tomislavmiksik.phoenixbe.repository;
+
+import dev.tomislavmiksik.phoenixbe.entity.ApiKey;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Api key lookups that go through Hibernate's natural-id and second-level caches instead of a query.
+ */
+public interface ApiKeyRepositoryCustom {
+
+    /**
+     * Find an active api key by the hash of its raw value.
+     *
+     * @param keyHash the key hash
+     * @return the optional api key, empty if unknown or inactive
+     */
+    @Transactional(readOnly = true)
+    Optional<ApiKey> findByKeyHashAndActiveTrue(String keyHash);
+
+    /**
+     * Record that a key has just been used. Only the last-used time is written, so a revocation
+     * committed since the key was loaded is never overwritten. Like other nodes' copies, the cached
+     * entity is not updated: the last-used time is only read by admin queries.
+     *
+     * @param id the key id
+     * @param usedAt when it was used
+     */
+    void recordUse(Long id, Instant usedAt);
+}
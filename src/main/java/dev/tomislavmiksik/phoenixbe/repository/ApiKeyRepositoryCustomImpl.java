@@ -0,0 +1,34 @@
+package dev.tomislavmiksik.phoenixbe.repository;
+
+import dev.tomislavmiksik.phoenixbe.entity.ApiKey;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Optional;
+
+class ApiKeyRepositoryCustomImpl implements ApiKeyRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Optional<ApiKey> findByKeyHashAndActiveTrue(String keyHash) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(ApiKey.class)
+                .loadOptional(keyHash)
+                .filter(ApiKey::isActive);
+    }
+
+    @Override
+    public void recordUse(Long id, Instant usedAt) {
+        jdbcTemplate.update("UPDATE api_key SET last_used_at = ? WHERE id = ?", Timestamp.from(usedAt), id);
+    }
+}
@@ -1,7 +1,9 @@
 package dev.tomislavmiksik.phoenixbe.repository;
 
+import dev.tomislavmiksik.phoenixbe.dto.measurements.MeasurementSummaryResponse;
 import dev.tomislavmiksik.phoenixbe.entity.Measurement;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
@@ -16,4 +18,9 @@ public interface MeasurementRepository extends JpaRepository<Measurement, Long>
             Long userId, LocalDateTime startDate, LocalDateTime endDate);
 
     List<Measurement> findTop10ByUserIdOrderByMeasurementDateDesc(Long userId);
+
+    @Query("select new dev.tomislavmiksik.phoenixbe.dto.measurements.MeasurementSummaryResponse(" +
+            "count(m), min(m.weight), max(m.weight), avg(m.weight), min(m.measurementDate), max(m.measurementDate)) " +
+            "from Measurement m where m.user.id = :userId")
+    MeasurementSummaryResponse summarizeByUserId(Long userId);
 }
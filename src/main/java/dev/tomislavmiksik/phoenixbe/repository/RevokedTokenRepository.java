@@ -0,0 +1,9 @@
+package dev.tomislavmiksik.phoenixbe.repository;
+
+import dev.tomislavmiksik.phoenixbe.entity.RevokedToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, Long> {
+}
@@ -0,0 +1,21 @@
+package dev.tomislavmiksik.phoenixbe.repository;
+
+import dev.tomislavmiksik.phoenixbe.entity.User;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * User lookups that go through Hibernate's natural-id and second-level caches instead of a query.
+ */
+public interface UserRepositoryCustom {
+
+    /**
+     * Find a user by username.
+     *
+     * @param username the username
+     * @return the optional user
+     */
+    @Transactional(readOnly = true)
+    Optional<User> findByUsername(String username);
+}
@@ -0,0 +1,308 @@
+package dev.tomislavmiksik.phoenixbe.revocation;
+
+import dev.tomislavmiksik.phoenixbe.bloom.BloomFilter;
+import dev.tomislavmiksik.phoenixbe.invalidation.CacheInvalidationListener;
+import dev.tomislavmiksik.phoenixbe.invalidation.InvalidationMessage;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-memory mirror of the revoked JWTs, so checking a token that was never revoked costs a few hash
+ * probes instead of a query.
+ * <p>
+ * Revoked {@code jti}s go into Bloom filters bucketed by the token's expiry; once a bucket's last
+ * token has expired the whole bucket is dropped, so memory follows the revocations still live rather
+ * than every revocation ever made. A Bloom hit is confirmed against {@code revoked_token}. Logout-all
+ * is a per-user cutoff instead: tokens issued at or before it are rejected, and the cutoff is
+ * forgotten once every token it covers has expired.
+ * <p>
+ * Both are loaded at startup and kept current by local revocations and invalidation messages from
+ * other nodes. Until the first load succeeds every check goes to the database.
+ */
+public class TokenDenyList implements CacheInvalidationListener, SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenDenyList.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long bucketSeconds;
+    private final long expectedPerBucket;
+    private final double falsePositiveRate;
+    private final long tokenLifetimeSeconds;
+    private final Duration purgeInterval;
+    private final Map<Long, BloomFilter> buckets = new ConcurrentHashMap<>();
+    private final Map<String, Long> cutoffs = new ConcurrentHashMap<>();
+    private final Counter absent;
+    private final Counter revoked;
+    private final Counter falsePositive;
+
+    private volatile boolean loaded;
+    private volatile boolean running;
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * Instantiates a new Token deny list.
+     *
+     * @param jdbcTemplate the jdbc template
+     * @param bucketWidth the span of token expiries sharing one Bloom filter
+     * @param expectedPerBucket the revocations a bucket is sized for
+     * @param falsePositiveRate the false positive rate at the sized capacity
+     * @param tokenLifetime the lifetime of issued tokens ({@code jwt.expiration})
+     * @param purgeInterval the time between purges of expired revocations
+     * @param meterRegistry the meter registry
+     */
+    public TokenDenyList(JdbcTemplate jdbcTemplate,
+                         Duration bucketWidth,
+                         long expectedPerBucket,
+                         double falsePositiveRate,
+                         Duration tokenLifetime,
+                         Duration purgeInterval,
+                         MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.bucketSeconds = bucketWidth.toSeconds();
+        this.expectedPerBucket = expectedPerBucket;
+        this.falsePositiveRate = falsePositiveRate;
+        this.tokenLifetimeSeconds = tokenLifetime.toSeconds();
+        this.purgeInterval = purgeInterval;
+        this.absent = checks(meterRegistry, "absent");
+        this.revoked = checks(meterRegistry, "revoked");
+        this.falsePositive = checks(meterRegistry, "false_positive");
+        Gauge.builder("phoenix.jwt.revocation.buckets", buckets, Map::size)
+                .description("Bloom filter buckets of revoked tokens held in memory")
+                .register(meterRegistry);
+        Gauge.builder("phoenix.jwt.revocation.cutoffs", cutoffs, Map::size)
+                .description("Users with a logout-all cutoff held in memory")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Whether a validated token has been revoked.
+     *
+     * @param claims the token's claims
+     * @return true if it must be rejected
+     */
+    public boolean isRevoked(Claims claims) {
+        return mightBeRevoked(claims) && confirmRevoked(claims);
+    }
+
+    /**
+     * Memory-only half of {@link #isRevoked}. False means the token definitely isn't revoked.
+     *
+     * @param claims the token's claims
+     * @return true if {@link #confirmRevoked} has to be asked
+     */
+    public boolean mightBeRevoked(Claims claims) {
+        boolean maybe = !loaded
+                || coveredByCutoff(claims)
+                || (claims.getId() != null && claims.getExpiration() != null
+                && inBucket(claims.getId(), claims.getExpiration().toInstant()));
+        if (!maybe) {
+            absent.increment();
+        }
+        return maybe;
+    }
+
+    /**
+     * Database half of {@link #isRevoked}, for a token {@link #mightBeRevoked} reported. Blocks on JDBC.
+     *
+     * @param claims the token's claims
+     * @return true if it must be rejected
+     */
+    public boolean confirmRevoked(Claims claims) {
+        boolean result = coveredByCutoff(claims)
+                || (claims.getId() != null && isStored(claims.getId()))
+                || (!loaded && coveredByStoredCutoff(claims));
+        (result ? revoked : falsePositive).increment();
+        return result;
+    }
+
+    /**
+     * Record a token revoked on this node, after its row was saved.
+     *
+     * @param tokenId the token's {@code jti}
+     * @param expiresAt the token's expiry
+     */
+    public void revoke(String tokenId, Instant expiresAt) {
+        buckets.computeIfAbsent(Math.floorDiv(expiresAt.getEpochSecond(), bucketSeconds),
+                        index -> BloomFilter.create(expectedPerBucket, falsePositiveRate))
+                .add(tokenId);
+    }
+
+    /**
+     * Record a logout-all on this node, after the user's cutoff was saved.
+     *
+     * @param username the username
+     * @param cutoff tokens issued at or before this instant are rejected
+     */
+    public void revokeAllBefore(String username, Instant cutoff) {
+        cutoffs.merge(username, cutoff.getEpochSecond(), Math::max);
+    }
+
+    /**
+     * Load every live revocation and cutoff. Revocations are only ever added, so this merges into
+     * what is held instead of replacing it.
+     */
+    public void load() {
+        Instant now = Instant.now();
+        jdbcTemplate.query("SELECT jti, expires_at FROM revoked_token WHERE expires_at > ?",
+                (RowCallbackHandler) row -> revoke(toTokenId(row.getLong(1)), row.getTimestamp(2).toInstant()),
+                Timestamp.from(now));
+        jdbcTemplate.query("SELECT username, tokens_valid_after FROM users WHERE tokens_valid_after > ?",
+                (RowCallbackHandler) row -> revokeAllBefore(row.getString(1), row.getTimestamp(2).toInstant()),
+                Timestamp.from(now.minusSeconds(tokenLifetimeSeconds)));
+        loaded = true;
+        logger.debug("Loaded {} revoked token buckets and {} logout-all cutoffs", buckets.size(), cutoffs.size());
+    }
+
+    /**
+     * Drop buckets and cutoffs whose tokens have all expired, and delete expired rows.
+     *
+     * @param now the current time
+     */
+    public void purge(Instant now) {
+        long nowSeconds = now.getEpochSecond();
+        buckets.keySet().removeIf(index -> (index + 1) * bucketSeconds <= nowSeconds);
+        cutoffs.values().removeIf(cutoff -> cutoff + tokenLifetimeSeconds < nowSeconds);
+        int deleted = jdbcTemplate.update("DELETE FROM revoked_token WHERE expires_at <= ?", Timestamp.from(now));
+        logger.debug("Purged {} expired revoked tokens", deleted);
+    }
+
+    @Override
+    public void invalidate(InvalidationMessage message) {
+        switch (message.table()) {
+            case InvalidationMessage.REVOKED_TOKENS -> jdbcTemplate.query(
+                    "SELECT expires_at FROM revoked_token WHERE jti = ?",
+                    (RowCallbackHandler) row -> revoke(toTokenId(message.key()), row.getTimestamp(1).toInstant()),
+                    message.key());
+            case InvalidationMessage.USERS -> jdbcTemplate.query(
+                    "SELECT username, tokens_valid_after FROM users WHERE id = ? AND tokens_valid_after IS NOT NULL",
+                    (RowCallbackHandler) row -> revokeAllBefore(row.getString(1), row.getTimestamp(2).toInstant()),
+                    message.key());
+            default -> {
+                // API keys and measurements don't revoke tokens
+            }
+        }
+    }
+
+    @Override
+    public void invalidateAll() {
+        load();
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "token-deny-list-purge");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // The first load runs during startup; a failed one is retried with the next purge
+        loadQuietly();
+        long interval = purgeInterval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::purgeQuietly, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Format a stored {@code jti} the way tokens carry it.
+     *
+     * @param jti the stored id
+     * @return 16 hex digits
+     */
+    public static String toTokenId(long jti) {
+        return HexFormat.of().toHexDigits(jti);
+    }
+
+    /**
+     * Parse a token's {@code jti} for storage.
+     *
+     * @param tokenId 16 hex digits
+     * @return the stored id
+     */
+    public static long fromTokenId(String tokenId) {
+        return HexFormat.fromHexDigitsToLong(tokenId);
+    }
+
+    private boolean coveredByCutoff(Claims claims) {
+        Long cutoff = cutoffs.get(claims.getSubject());
+        return cutoff != null && claims.getIssuedAt() != null
+                && claims.getIssuedAt().toInstant().getEpochSecond() <= cutoff;
+    }
+
+    private boolean inBucket(String tokenId, Instant expiresAt) {
+        BloomFilter bucket = buckets.get(Math.floorDiv(expiresAt.getEpochSecond(), bucketSeconds));
+        return bucket != null && bucket.mightContain(tokenId);
+    }
+
+    private boolean isStored(String tokenId) {
+        Integer rows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM revoked_token WHERE jti = ?",
+                Integer.class, fromTokenId(tokenId));
+        return rows != null && rows > 0;
+    }
+
+    private boolean coveredByStoredCutoff(Claims claims) {
+        if (claims.getIssuedAt() == null) {
+            return false;
+        }
+        Integer rows = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM users WHERE username = ? AND tokens_valid_after >= ?",
+                Integer.class, claims.getSubject(), Timestamp.from(claims.getIssuedAt().toInstant()));
+        return rows != null && rows > 0;
+    }
+
+    private void loadQuietly() {
+        try {
+            load();
+        } catch (RuntimeException e) {
+            logger.warn("Could not load revoked tokens, checking every token against the database", e);
+        }
+    }
+
+    private void purgeQuietly() {
+        // Anything escaping would cancel every later purge and retried load
+        try {
+            if (!loaded) {
+                load();
+            }
+            purge(Instant.now());
+        } catch (RuntimeException e) {
+            logger.warn("Could not purge expired revoked tokens", e);
+        }
+    }
+
+    private static Counter checks(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("phoenix.jwt.revocation.checks")
+                .description("JWT revocation checks by outcome")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
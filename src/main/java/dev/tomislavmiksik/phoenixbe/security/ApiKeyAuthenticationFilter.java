@@ -1,15 +1,23 @@
 package dev.tomislavmiksik.phoenixbe.security;
 
+import dev.tomislavmiksik.phoenixbe.audit.ApiKeyAuditEvent;
+import dev.tomislavmiksik.phoenixbe.audit.ApiKeyAuditRecorder;
+import dev.tomislavmiksik.phoenixbe.config.MetricsConfig;
 import dev.tomislavmiksik.phoenixbe.entity.ApiKey;
+import dev.tomislavmiksik.phoenixbe.ratelimit.ApiKeyRateLimiter;
+import dev.tomislavmiksik.phoenixbe.ratelimit.RateLimitDecision;
 import dev.tomislavmiksik.phoenixbe.repository.ApiKeyRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import org.apache.commons.codec.digest.DigestUtils;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
@@ -18,42 +26,99 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.time.Instant;
-import java.util.Collections;
 import java.util.Optional;
 
 @Component
-@RequiredArgsConstructor
 public class ApiKeyAuthenticationFilter extends OncePerRequestFilter {
 
     private final ApiKeyRepository apiKeyRepository;
+    private final ApiKeyAuditRecorder auditRecorder;
+    private final ApiKeyRateLimiter rateLimiter;
+    private final ObservationRegistry observationRegistry;
     private final AntPathMatcher pathMatcher = new AntPathMatcher();
 
+    private final Counter succeeded;
+    private final Counter missing;
+    private final Counter invalid;
+    private final Counter expired;
+    private final Counter rateLimited;
+
     private static final String AUTH_TOKEN_HEADER_NAME = "X-API-KEY";
+    private static final int MAX_AUDIT_PATH_LENGTH = 255;
+
+    public ApiKeyAuthenticationFilter(ApiKeyRepository apiKeyRepository,
+                                      ApiKeyAuditRecorder auditRecorder,
+                                      ApiKeyRateLimiter rateLimiter,
+                                      MeterRegistry meterRegistry,
+                                      ObservationRegistry observationRegistry) {
+        this.apiKeyRepository = apiKeyRepository;
+        this.auditRecorder = auditRecorder;
+        this.rateLimiter = rateLimiter;
+        this.observationRegistry = observationRegistry;
+        this.succeeded = MetricsConfig.authAttempts(meterRegistry, "api_key", "success");
+        this.missing = MetricsConfig.authAttempts(meterRegistry, "api_key", "missing");
+        this.invalid = MetricsConfig.authAttempts(meterRegistry, "api_key", "invalid");
+        this.expired = MetricsConfig.authAttempts(meterRegistry, "api_key", "expired");
+        this.rateLimited = MetricsConfig.authAttempts(meterRegistry, "api_key", "rate_limited");
+    }
 
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
         String path = request.getRequestURI();
-        return pathMatcher.match("/api/admin/**", path) || pathMatcher.match("/api/auth/**", path);
+        return pathMatcher.match("/api/admin/**", path)
+                || pathMatcher.match("/api/auth/**", path)
+                || pathMatcher.match("/actuator/**", path);
     }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
+        long start = System.nanoTime();
+
+        // The observation spans the key lookup only, so downstream spans are siblings rather than children
+        Observation observation = Observation.createNotStarted(MetricsConfig.AUTH_OBSERVATION, observationRegistry)
+                .lowCardinalityKeyValue("method", "api_key")
+                .start();
+        ApiKey apiKey;
+        try (Observation.Scope scope = observation.openScope()) {
+            apiKey = authenticate(request, response, observation, start);
+        } catch (IOException | RuntimeException e) {
+            observation.error(e);
+            throw e;
+        } finally {
+            observation.stop();
+        }
+
+        if (apiKey == null) {
+            return;
+        }
+
+        int status = HttpStatus.INTERNAL_SERVER_ERROR.value();
+        try {
+            filterChain.doFilter(request, response);
+            status = response.getStatus();
+        } finally {
+            audit(apiKey, request, status, start);
+        }
+    }
+
+    private ApiKey authenticate(HttpServletRequest request,
+                                HttpServletResponse response,
+                                Observation observation,
+                                long start) throws IOException {
         String key = request.getHeader(AUTH_TOKEN_HEADER_NAME);
 
         if(key == null || key.isEmpty()){
-            response.setStatus(HttpStatus.UNAUTHORIZED.value());
-            response.getWriter().write("Missing API Key");
-            return;
+            reject(response, missing, observation, "missing", "Missing API Key");
+            return null;
         }
 
         Optional<ApiKey> result = apiKeyRepository.findByKeyHashAndActiveTrue(DigestUtils.sha256Hex(key));
 
         if(result.isEmpty()){
-            response.setStatus(HttpStatus.UNAUTHORIZED.value());
-            response.getWriter().write("Invalid API key");
-            return;
+            reject(response, invalid, observation, "invalid", "Invalid API key");
+            return null;
         }
 
         ApiKey apiKey = result.get();
@@ -62,24 +127,73 @@ public class ApiKeyAuthenticationFilter extends OncePerRequestFilter {
         Instant expirationDate = apiKey.getExpiresAt();
 
         if(expirationDate != null && expirationDate.isBefore(Instant.now())){
-            response.setStatus(HttpStatus.UNAUTHORIZED.value());
-            response.getWriter().write("Expired API key");
-            return;
+            reject(response, expired, observation, "expired", "Expired API key");
+            audit(apiKey, request, HttpStatus.UNAUTHORIZED.value(), start);
+            return null;
+        }
+
+        // Before the key's use is recorded, so a key over its limit costs no write; only a quota
+        // key's first request of the day on this node reads its count
+        RateLimitDecision decision = rateLimiter.tryAcquire(apiKey);
+        if (decision.limited()) {
+            response.setHeader("RateLimit-Limit", Long.toString(decision.limit()));
+            response.setHeader("RateLimit-Remaining", Long.toString(decision.remaining()));
+            response.setHeader("RateLimit-Reset", Long.toString(decision.resetSeconds()));
+        }
+        if (!decision.allowed()) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(decision.retryAfterSeconds()));
+            reject(response, HttpStatus.TOO_MANY_REQUESTS, rateLimited, observation, "rate_limited",
+                    decision.reason().equals(RateLimitDecision.QUOTA) ? "Daily quota exceeded" : "Rate limit exceeded");
+            audit(apiKey, request, HttpStatus.TOO_MANY_REQUESTS.value(), start);
+            return null;
         }
 
-        apiKey.setLastUsedAt(Instant.now());
-        apiKeyRepository.save(apiKey);
+        apiKeyRepository.recordUse(apiKey.getId(), Instant.now());
 
         // Set authentication in SecurityContext
-        UsernamePasswordAuthenticationToken authentication =
-                new UsernamePasswordAuthenticationToken(
-                        "api-key-user",
-                        null,
-                        Collections.emptyList()
-                );
+        ApiKeyAuthenticationToken authentication = new ApiKeyAuthenticationToken(
+                "api-key-user",
+                apiKey.getId(),
+                apiKey.getScopes() != null ? apiKey.getScopes() : ApiKeyScopes.DEFAULT);
         authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
         SecurityContextHolder.getContext().setAuthentication(authentication);
+        succeeded.increment();
+        observation.lowCardinalityKeyValue("outcome", "success");
+
+        return apiKey;
+    }
 
-        filterChain.doFilter(request, response);
+    private void reject(HttpServletResponse response,
+                        Counter counter,
+                        Observation observation,
+                        String outcome,
+                        String message) throws IOException {
+        reject(response, HttpStatus.UNAUTHORIZED, counter, observation, outcome, message);
+    }
+
+    private void reject(HttpServletResponse response,
+                        HttpStatus status,
+                        Counter counter,
+                        Observation observation,
+                        String outcome,
+                        String message) throws IOException {
+        counter.increment();
+        observation.lowCardinalityKeyValue("outcome", outcome);
+        response.setStatus(status.value());
+        response.getWriter().write(message);
+    }
+
+    private void audit(ApiKey apiKey, HttpServletRequest request, int status, long start) {
+        String path = request.getRequestURI();
+        if (path.length() > MAX_AUDIT_PATH_LENGTH) {
+            path = path.substring(0, MAX_AUDIT_PATH_LENGTH);
+        }
+        auditRecorder.record(new ApiKeyAuditEvent(
+                apiKey.getId(),
+                request.getMethod(),
+                path,
+                status,
+                (System.nanoTime() - start) / 1_000,
+                Instant.now()));
     }
 }
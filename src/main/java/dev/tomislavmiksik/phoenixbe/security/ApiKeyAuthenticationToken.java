@@ -0,0 +1,59 @@
+package dev.tomislavmiksik.phoenixbe.security;
+
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+
+import java.util.Collections;
+
+/**
+ * An authenticated API key request. Permissions are the key's {@link ApiKeyScopes} rather than
+ * granted authorities, so checking one doesn't scan a collection.
+ */
+public class ApiKeyAuthenticationToken extends AbstractAuthenticationToken {
+
+    private final String principal;
+    private final Long apiKeyId;
+    private final ApiKeyScopes scopes;
+
+    /**
+     * Instantiates a new Api key authentication token.
+     *
+     * @param principal the principal name
+     * @param apiKeyId the api key id
+     * @param scopes the key's scopes
+     */
+    public ApiKeyAuthenticationToken(String principal, Long apiKeyId, ApiKeyScopes scopes) {
+        super(Collections.emptyList());
+        this.principal = principal;
+        this.apiKeyId = apiKeyId;
+        this.scopes = scopes;
+        setAuthenticated(true);
+    }
+
+    @Override
+    public Object getCredentials() {
+        return null;
+    }
+
+    @Override
+    public Object getPrincipal() {
+        return principal;
+    }
+
+    /**
+     * The api key id.
+     *
+     * @return the api key id
+     */
+    public Long getApiKeyId() {
+        return apiKeyId;
+    }
+
+    /**
+     * The key's scopes.
+     *
+     * @return the scopes
+     */
+    public ApiKeyScopes getScopes() {
+        return scopes;
+    }
+}
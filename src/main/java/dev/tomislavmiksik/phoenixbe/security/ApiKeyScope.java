@@ -0,0 +1,52 @@
+package dev.tomislavmiksik.phoenixbe.security;
+
+/**
+ * A permission an API key can be granted. Each scope is one bit of {@link ApiKeyScopes}, so new
+ * scopes go at the end (up to 64) to keep the bits of existing ones.
+ */
+public enum ApiKeyScope {
+    MEASUREMENTS_READ("measurements:read"),
+    MEASUREMENTS_WRITE("measurements:write");
+
+    private final String value;
+    private final long bit;
+
+    ApiKeyScope(String value) {
+        this.value = value;
+        this.bit = 1L << ordinal();
+    }
+
+    /**
+     * The name stored in the database and used in the API.
+     *
+     * @return the value
+     */
+    public String value() {
+        return value;
+    }
+
+    /**
+     * The scope's bit.
+     *
+     * @return the bit
+     */
+    public long bit() {
+        return bit;
+    }
+
+    /**
+     * Find a scope by its value.
+     *
+     * @param value the value, e.g. {@code measurements:read}
+     * @return the scope
+     * @throws IllegalArgumentException if there is no such scope
+     */
+    public static ApiKeyScope fromValue(String value) {
+        for (ApiKeyScope scope : values()) {
+            if (scope.value.equals(value)) {
+                return scope;
+            }
+        }
+        throw new IllegalArgumentException("Unknown scope: " + value);
+    }
+}
@@ -0,0 +1,46 @@
+package dev.tomislavmiksik.phoenixbe.security;
+
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+
+import java.util.function.Supplier;
+
+/**
+ * Requires a scope of API key requests and lets any other authenticated request through, so user
+ * (JWT) access is unchanged.
+ */
+public final class ApiKeyScopeAuthorizationManager implements AuthorizationManager<RequestAuthorizationContext> {
+
+    private static final AuthorizationDecision GRANTED = new AuthorizationDecision(true);
+    private static final AuthorizationDecision DENIED = new AuthorizationDecision(false);
+
+    private final ApiKeyScope scope;
+
+    private ApiKeyScopeAuthorizationManager(ApiKeyScope scope) {
+        this.scope = scope;
+    }
+
+    /**
+     * Require a scope of API key requests.
+     *
+     * @param scope the scope
+     * @return the authorization manager
+     */
+    public static ApiKeyScopeAuthorizationManager requires(ApiKeyScope scope) {
+        return new ApiKeyScopeAuthorizationManager(scope);
+    }
+
+    @Override
+    public AuthorizationDecision check(Supplier<Authentication> authentication, RequestAuthorizationContext context) {
+        Authentication current = authentication.get();
+        if (current instanceof ApiKeyAuthenticationToken apiKey) {
+            return apiKey.getScopes().has(scope) ? GRANTED : DENIED;
+        }
+        return current != null && current.isAuthenticated() && !(current instanceof AnonymousAuthenticationToken)
+                ? GRANTED
+                : DENIED;
+    }
+}
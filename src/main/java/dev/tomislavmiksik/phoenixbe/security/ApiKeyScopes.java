@@ -0,0 +1,119 @@
+package dev.tomislavmiksik.phoenixbe.security;
+
+import org.hibernate.annotations.Immutable;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * The scopes granted to an API key, compiled to a bitset when the key is loaded. Immutable, so the
+ * second-level cache keeps the compiled instance and a permission check is a single bit test.
+ */
+@Immutable
+public final class ApiKeyScopes implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Scopes of keys created without any, matching what every key could do before scopes existed.
+     */
+    public static final ApiKeyScopes DEFAULT = of(ApiKeyScope.MEASUREMENTS_READ, ApiKeyScope.MEASUREMENTS_WRITE);
+
+    private final long bits;
+
+    private ApiKeyScopes(long bits) {
+        this.bits = bits;
+    }
+
+    /**
+     * Scopes from a list.
+     *
+     * @param scopes the scopes
+     * @return the scopes
+     */
+    public static ApiKeyScopes of(ApiKeyScope... scopes) {
+        long bits = 0;
+        for (ApiKeyScope scope : scopes) {
+            bits |= scope.bit();
+        }
+        return new ApiKeyScopes(bits);
+    }
+
+    /**
+     * Parse scope values, e.g. {@code measurements:read}.
+     *
+     * @param values the values
+     * @return the scopes
+     * @throws IllegalArgumentException if a value isn't a known scope
+     */
+    public static ApiKeyScopes parse(Collection<String> values) {
+        long bits = 0;
+        for (String value : values) {
+            bits |= ApiKeyScope.fromValue(value.trim()).bit();
+        }
+        return new ApiKeyScopes(bits);
+    }
+
+    /**
+     * Parse the comma-separated form stored in the database.
+     *
+     * @param value the value
+     * @return the scopes
+     * @throws IllegalArgumentException if a value isn't a known scope
+     */
+    public static ApiKeyScopes parse(String value) {
+        if (value.isBlank()) {
+            return new ApiKeyScopes(0);
+        }
+        return parse(List.of(value.split(",")));
+    }
+
+    /**
+     * Whether a scope is granted.
+     *
+     * @param scope the scope
+     * @return true if granted
+     */
+    public boolean has(ApiKeyScope scope) {
+        return (bits & scope.bit()) != 0;
+    }
+
+    /**
+     * The granted scope values, in declaration order.
+     *
+     * @return the values
+     */
+    public List<String> values() {
+        List<String> values = new ArrayList<>();
+        for (ApiKeyScope scope : ApiKeyScope.values()) {
+            if (has(scope)) {
+                values.add(scope.value());
+            }
+        }
+        return values;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof ApiKeyScopes scopes && scopes.bits == bits;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(bits);
+    }
+
+    /**
+     * The comma-separated form stored in the database.
+     *
+     * @return the scopes
+     */
+    @Override
+    public String toString() {
+        return String.join(",", values());
+    }
+}
@@ -0,0 +1,22 @@
+package dev.tomislavmiksik.phoenixbe.security;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Stores {@link ApiKeyScopes} as comma-separated scope values. A missing value means
+ * {@link ApiKeyScopes#DEFAULT}.
+ */
+@Converter
+public class ApiKeyScopesConverter implements AttributeConverter<ApiKeyScopes, String> {
+
+    @Override
+    public String convertToDatabaseColumn(ApiKeyScopes scopes) {
+        return (scopes != null ? scopes : ApiKeyScopes.DEFAULT).toString();
+    }
+
+    @Override
+    public ApiKeyScopes convertToEntityAttribute(String value) {
+        return value != null ? ApiKeyScopes.parse(value) : ApiKeyScopes.DEFAULT;
+    }
+}
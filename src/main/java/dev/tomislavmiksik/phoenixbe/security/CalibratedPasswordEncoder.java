@@ -0,0 +1,189 @@
+package dev.tomislavmiksik.phoenixbe.security;
+
+import dev.tomislavmiksik.phoenixbe.exceptions.LoginThrottledException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.bcrypt.BCrypt;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * BCrypt at a cost calibrated to the current CPU, run on a small dedicated pool.
+ * <p>
+ * Hashes are computed on platform threads sized to the cores, so a burst of logins can't occupy
+ * every request thread (or pin every virtual thread carrier) with BCrypt, and the pool publishes
+ * its own {@code executor.*} metrics. Hashes stored at any other cost report
+ * {@link #upgradeEncoding(String)}, so they are rewritten at the current cost on the next successful
+ * login, up or down.
+ */
+public class CalibratedPasswordEncoder implements PasswordEncoder, AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(CalibratedPasswordEncoder.class);
+
+    private static final int CALIBRATION_COST = 8;
+    private static final int CALIBRATION_RUNS = 5;
+
+    private final int cost;
+    private final BCryptPasswordEncoder delegate;
+    private final ExecutorService executor;
+    private final Counter rehashUp;
+    private final Counter rehashDown;
+
+    /**
+     * Instantiates a new Calibrated password encoder.
+     *
+     * @param cost the BCrypt cost (log2 rounds)
+     * @param threads the hashing threads
+     * @param queueCapacity the hashes allowed to wait for a thread
+     * @param meterRegistry the meter registry
+     */
+    public CalibratedPasswordEncoder(int cost, int threads, int queueCapacity, MeterRegistry meterRegistry) {
+        this.cost = cost;
+        this.delegate = new BCryptPasswordEncoder(cost);
+        AtomicInteger threadNumber = new AtomicInteger();
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.executor = ExecutorServiceMetrics.monitor(meterRegistry, pool, "password.hash");
+        this.rehashUp = rehash(meterRegistry, "up");
+        this.rehashDown = rehash(meterRegistry, "down");
+        Gauge.builder("phoenix.password.cost", () -> this.cost)
+                .description("BCrypt cost new password hashes are computed at")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Pick the highest cost whose hash fits the budget on this CPU, within the bounds. Timed at a
+     * low cost inside the bounds and extrapolated both ways, since every cost step doubles the work.
+     *
+     * @param budget the time one hash may take
+     * @param minCost the lowest acceptable cost, used even if it is over budget
+     * @param maxCost the highest cost to use
+     * @return the cost
+     */
+    public static int calibrate(Duration budget, int minCost, int maxCost) {
+        if (minCost < 4 || maxCost > 31 || minCost > maxCost) {
+            throw new IllegalArgumentException("BCrypt cost bounds must satisfy 4 <= min <= max <= 31");
+        }
+        int timedCost = Math.max(minCost, Math.min(CALIBRATION_COST, maxCost));
+        String salt = BCrypt.gensalt(timedCost);
+        BCrypt.hashpw("calibration", salt);
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < CALIBRATION_RUNS; i++) {
+            long start = System.nanoTime();
+            BCrypt.hashpw("calibration", salt);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+
+        int cost = minCost;
+        double estimate = Math.scalb((double) best, minCost - timedCost);
+        while (cost < maxCost && estimate * 2 <= budget.toNanos()) {
+            cost++;
+            estimate *= 2;
+        }
+        if (estimate > budget.toNanos()) {
+            logger.warn("BCrypt cost {} takes about {} ms here, over the {} ms budget",
+                    cost, Math.round(estimate / 1_000_000), budget.toMillis());
+        } else {
+            logger.info("Calibrated BCrypt cost {} at about {} ms per hash", cost, Math.round(estimate / 1_000_000));
+        }
+        return cost;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return run(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return run(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        int storedCost = costOf(encodedPassword);
+        if (storedCost < 0 || storedCost == cost) {
+            return false;
+        }
+        (storedCost < cost ? rehashUp : rehashDown).increment();
+        return true;
+    }
+
+    /**
+     * The cost new hashes are computed at.
+     *
+     * @return the cost
+     */
+    public int getCost() {
+        return cost;
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+
+    private <T> T run(Callable<T> hash) {
+        Future<T> future;
+        try {
+            future = executor.submit(hash);
+        } catch (RejectedExecutionException e) {
+            throw new LoginThrottledException("Password hashing is at capacity, try again later", 1);
+        }
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while hashing a password", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private static int costOf(String encodedPassword) {
+        // $2a$10$<salt and hash>
+        if (encodedPassword == null || encodedPassword.length() < 7 || encodedPassword.charAt(0) != '$') {
+            return -1;
+        }
+        int separator = encodedPassword.indexOf('$', 1);
+        if (separator < 0 || separator + 3 >= encodedPassword.length()
+                || encodedPassword.charAt(separator + 3) != '$') {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(encodedPassword, separator + 1, separator + 3, 10);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static Counter rehash(MeterRegistry meterRegistry, String direction) {
+        return Counter.builder("phoenix.password.rehash")
+                .description("Stored password hashes rewritten at the current cost on login")
+                .tag("direction", direction)
+                .register(meterRegistry);
+    }
+}
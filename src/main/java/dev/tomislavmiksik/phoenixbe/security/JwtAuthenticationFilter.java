@@ -1,10 +1,16 @@
 package dev.tomislavmiksik.phoenixbe.security;
 
+import dev.tomislavmiksik.phoenixbe.config.MetricsConfig;
+import dev.tomislavmiksik.phoenixbe.revocation.TokenDenyList;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -20,42 +26,87 @@ import org.springframework.web.filter.OncePerRequestFilter;
 import java.io.IOException;
 
 @Component
-@RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
     private final UserDetailsService userDetailsService;
+    private final TokenDenyList tokenDenyList;
+    private final ObservationRegistry observationRegistry;
     private final AntPathMatcher pathMatcher = new AntPathMatcher();
 
+    private final Counter succeeded;
+    private final Counter missing;
+    private final Counter invalid;
+    private final Counter revoked;
+    private final Counter failed;
+
+    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider,
+                                   UserDetailsService userDetailsService,
+                                   TokenDenyList tokenDenyList,
+                                   MeterRegistry meterRegistry,
+                                   ObservationRegistry observationRegistry) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.userDetailsService = userDetailsService;
+        this.tokenDenyList = tokenDenyList;
+        this.observationRegistry = observationRegistry;
+        this.succeeded = MetricsConfig.authAttempts(meterRegistry, "jwt", "success");
+        this.missing = MetricsConfig.authAttempts(meterRegistry, "jwt", "missing");
+        this.invalid = MetricsConfig.authAttempts(meterRegistry, "jwt", "invalid");
+        this.revoked = MetricsConfig.authAttempts(meterRegistry, "jwt", "revoked");
+        this.failed = MetricsConfig.authAttempts(meterRegistry, "jwt", "error");
+    }
+
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
         String path = request.getRequestURI();
-        return !pathMatcher.match("/api/admin/**", path) || pathMatcher.match("/api/auth/**", path);
+        boolean jwtProtected = pathMatcher.match("/api/admin/**", path) || pathMatcher.match("/actuator/**", path);
+        return !jwtProtected || pathMatcher.match("/api/auth/**", path);
     }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
-        try {
+        Observation observation = Observation.createNotStarted(MetricsConfig.AUTH_OBSERVATION, observationRegistry)
+                .lowCardinalityKeyValue("method", "jwt")
+                .start();
+        try (Observation.Scope scope = observation.openScope()) {
             String jwt = getJwtFromRequest(request);
 
-            if (StringUtils.hasText(jwt) && jwtTokenProvider.validateToken(jwt)) {
-                String username = jwtTokenProvider.getUsernameFromToken(jwt);
-
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-                UsernamePasswordAuthenticationToken authentication =
-                        new UsernamePasswordAuthenticationToken(
-                                userDetails,
-                                null,
-                                userDetails.getAuthorities()
-                        );
-                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+            if (!StringUtils.hasText(jwt)) {
+                missing.increment();
+                observation.lowCardinalityKeyValue("outcome", "missing");
+            } else if (!jwtTokenProvider.validateToken(jwt)) {
+                invalid.increment();
+                observation.lowCardinalityKeyValue("outcome", "invalid");
+            } else {
+                Claims claims = jwtTokenProvider.getClaims(jwt);
+                // Checked before the user is loaded; never-revoked tokens are answered from memory
+                if (tokenDenyList.isRevoked(claims)) {
+                    revoked.increment();
+                    observation.lowCardinalityKeyValue("outcome", "revoked");
+                } else {
+                    UserDetails userDetails = userDetailsService.loadUserByUsername(claims.getSubject());
+                    UsernamePasswordAuthenticationToken authentication =
+                            new UsernamePasswordAuthenticationToken(
+                                    userDetails,
+                                    null,
+                                    userDetails.getAuthorities()
+                            );
+                    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
-                SecurityContextHolder.getContext().setAuthentication(authentication);
+                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                    succeeded.increment();
+                    observation.lowCardinalityKeyValue("outcome", "success");
+                }
             }
         } catch (Exception ex) {
+            failed.increment();
+            observation.lowCardinalityKeyValue("outcome", "error");
+            observation.error(ex);
             logger.error("Could not set user authentication in security context", ex);
+        } finally {
+            observation.stop();
         }
 
         filterChain.doFilter(request, response);
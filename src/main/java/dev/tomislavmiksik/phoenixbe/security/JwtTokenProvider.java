@@ -1,5 +1,6 @@
 package dev.tomislavmiksik.phoenixbe.security;
 
+import dev.tomislavmiksik.phoenixbe.entity.User;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
@@ -9,7 +10,10 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.security.SecureRandom;
+import java.time.Instant;
 import java.util.Date;
+import java.util.HexFormat;
 
 @Component
 public class JwtTokenProvider {
@@ -20,6 +24,8 @@ public class JwtTokenProvider {
     @Value("${jwt.expiration}")
     private long jwtExpirationMs;
 
+    private final SecureRandom random = new SecureRandom();
+
     private SecretKey getSigningKey() {
         byte[] keyBytes = Decoders.BASE64.decode(jwtSecret);
         return Keys.hmacShaKeyFor(keyBytes);
@@ -27,14 +33,26 @@ public class JwtTokenProvider {
 
     public String generateToken(Authentication authentication) {
         UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-        return generateToken(userDetails.getUsername());
+        Instant issuedAt = Instant.now();
+        // iat has whole seconds and logout-all rejects iat <= its cutoff, so a login in the same second
+        // as a logout-all is dated to the next second instead of being revoked on issue
+        if (userDetails instanceof User user && user.getTokensValidAfter() != null
+                && issuedAt.getEpochSecond() <= user.getTokensValidAfter().getEpochSecond()) {
+            issuedAt = Instant.ofEpochSecond(user.getTokensValidAfter().getEpochSecond() + 1);
+        }
+        return generateToken(userDetails.getUsername(), issuedAt);
     }
 
     public String generateToken(String username) {
-        Date now = new Date();
+        return generateToken(username, Instant.now());
+    }
+
+    private String generateToken(String username, Instant issuedAt) {
+        Date now = Date.from(issuedAt);
         Date expiryDate = new Date(now.getTime() + jwtExpirationMs);
 
         return Jwts.builder()
+                .id(HexFormat.of().toHexDigits(random.nextLong()))
                 .subject(username)
                 .issuedAt(now)
                 .expiration(expiryDate)
@@ -43,13 +61,21 @@ public class JwtTokenProvider {
     }
 
     public String getUsernameFromToken(String token) {
-        Claims claims = Jwts.parser()
+        return getClaims(token).getSubject();
+    }
+
+    /**
+     * Parse a token whose signature has been validated.
+     *
+     * @param token the token
+     * @return the claims, including the {@code jti} as 16 hex digits for tokens that have one
+     */
+    public Claims getClaims(String token) {
+        return Jwts.parser()
                 .verifyWith(getSigningKey())
                 .build()
                 .parseSignedClaims(token)
                 .getPayload();
-
-        return claims.getSubject();
     }
 
     public boolean validateToken(String token) {
@@ -1,8 +1,15 @@
 package dev.tomislavmiksik.phoenixbe.service;
 
 
+import dev.tomislavmiksik.phoenixbe.dto.audit.ApiKeyAuditResponse;
+import dev.tomislavmiksik.phoenixbe.dto.keygen.ApiKeyPage;
 import dev.tomislavmiksik.phoenixbe.dto.keygen.ApiKeyResponse;
-import dev.tomislavmiksik.phoenixbe.entity.ApiKey;
+import dev.tomislavmiksik.phoenixbe.dto.keygen.ApiKeyStatus;
+import dev.tomislavmiksik.phoenixbe.dto.keygen.ApiKeySummary;
+import dev.tomislavmiksik.phoenixbe.security.ApiKeyScopes;
+
+import java.time.Instant;
+import java.util.List;
 
 /**
  * The interface of Admin service.
@@ -13,7 +20,61 @@ public interface AdminService {
      * Create api key api key.
      *
      * @param label the label
+     * @param scopes the scopes granted
      * @return the api key
      */
-     ApiKeyResponse createApiKey(String label);
+     ApiKeyResponse createApiKey(String label, ApiKeyScopes scopes);
+
+    /**
+     * Get API key audit entries in a time range, newest first.
+     *
+     * @param apiKeyId the api key id, or null for all keys
+     * @param from the inclusive start
+     * @param to the exclusive end
+     * @param page the zero-based page
+     * @param size the page size
+     * @return the audit entries
+     */
+    List<ApiKeyAuditResponse> getApiKeyAudit(Long apiKeyId, Instant from, Instant to, int page, int size);
+
+    /**
+     * List API keys newest first, one page at a time. Every filter is optional.
+     *
+     * @param label the exact label
+     * @param status the status
+     * @param usedSince keep only keys used at or after this instant
+     * @param unusedSince keep only keys not used since this instant
+     * @param before the cursor returned with the previous page
+     * @param size the page size
+     * @return the page
+     */
+    ApiKeyPage listApiKeys(String label, ApiKeyStatus status, Instant usedSince, Instant unusedSince,
+                           Long before, int size);
+
+    /**
+     * Revoke an API key. Requests using it are rejected as soon as the revocation commits, on every node.
+     *
+     * @param id the key id
+     * @return the revoked key
+     */
+    ApiKeySummary revokeApiKey(Long id);
+
+    /**
+     * Replace an API key with a new one under the same label, limits and scopes, revoking the old key.
+     *
+     * @param id the key id
+     * @return the new key
+     */
+    ApiKeyResponse rotateApiKey(Long id);
+
+    /**
+     * Create many API keys under one label in a single batched insert. The raw keys are returned
+     * once and can't be recovered afterwards.
+     *
+     * @param label the label
+     * @param count the number of keys
+     * @param scopes the scopes granted to every key
+     * @return the raw keys
+     */
+    List<String> provisionApiKeys(String label, int count, ApiKeyScopes scopes);
 }
@@ -1,36 +1,66 @@
 package dev.tomislavmiksik.phoenixbe.service;
 
+import dev.tomislavmiksik.phoenixbe.config.MetricsConfig;
+import dev.tomislavmiksik.phoenixbe.dto.audit.ApiKeyAuditResponse;
+import dev.tomislavmiksik.phoenixbe.dto.keygen.ApiKeyPage;
 import dev.tomislavmiksik.phoenixbe.dto.keygen.ApiKeyResponse;
+import dev.tomislavmiksik.phoenixbe.dto.keygen.ApiKeyStatus;
+import dev.tomislavmiksik.phoenixbe.dto.keygen.ApiKeySummary;
 import dev.tomislavmiksik.phoenixbe.entity.ApiKey;
+import dev.tomislavmiksik.phoenixbe.entity.ApiKeyAudit;
+import dev.tomislavmiksik.phoenixbe.repository.ApiKeyAuditRepository;
 import dev.tomislavmiksik.phoenixbe.repository.ApiKeyRepository;
+import dev.tomislavmiksik.phoenixbe.security.ApiKeyScopes;
 import dev.tomislavmiksik.phoenixbe.util.ApiKeyGenerator;
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.codec.digest.DigestUtils;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.stream.IntStream;
 
 
 @Service
+@Observed(name = MetricsConfig.SERVICE_OBSERVATION)
 @RequiredArgsConstructor
 public class AdminServiceImpl implements AdminService {
 
     @Value("${apikey.expiration-offset-ms}")
     private long expirationDateOffset;
 
+    private static final int MAX_AUDIT_PAGE_SIZE = 500;
+    private static final int MAX_KEY_PAGE_SIZE = 500;
+    private static final int MAX_BULK_KEYS = 10_000;
+    private static final int BULK_BATCH_SIZE = 1_000;
+
+    private static final String BULK_INSERT_SQL = "INSERT INTO api_key " +
+            "(key_hash, label, created_at, expires_at, active, scopes) VALUES (?, ?, ?, ?, true, ?)";
+
     private final ApiKeyRepository apiKeyRepository;
+    private final ApiKeyAuditRepository apiKeyAuditRepository;
+    private final JdbcTemplate jdbcTemplate;
 
 
     @Override
-    public ApiKeyResponse createApiKey(String label) {
+    public ApiKeyResponse createApiKey(String label, ApiKeyScopes scopes) {
+        return createApiKey(ApiKey.builder().label(label).scopes(scopes));
+    }
+
+    private ApiKeyResponse createApiKey(ApiKey.ApiKeyBuilder builder) {
         Duration expirationOffset = Duration.of(expirationDateOffset, ChronoUnit.MILLIS);
         String rawKey = ApiKeyGenerator.generateKey();
 
-        ApiKey apiKey = ApiKey.builder()
-                .label(label)
+        ApiKey apiKey = builder
                 .keyHash(DigestUtils.sha256Hex(rawKey))
                 .expiresAt(Instant.now().plus(expirationOffset))
                 .createdAt(Instant.now())
@@ -40,8 +70,137 @@ public class AdminServiceImpl implements AdminService {
 
         return ApiKeyResponse
                 .builder()
+                .id(apiKey.getId())
                 .apiKey(rawKey)
                 .build();
 
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ApiKeyPage listApiKeys(String label, ApiKeyStatus status, Instant usedSince, Instant unusedSince,
+                                  Long before, int size) {
+        int limit = Math.min(Math.max(size, 1), MAX_KEY_PAGE_SIZE);
+        Instant now = Instant.now();
+
+        List<ApiKey> keys = apiKeyRepository.findPage(
+                label,
+                status == null ? null : status != ApiKeyStatus.REVOKED,
+                status == ApiKeyStatus.EXPIRED ? now : null,
+                status == ApiKeyStatus.ACTIVE ? now : null,
+                usedSince,
+                unusedSince,
+                before,
+                Limit.of(limit));
+
+        return ApiKeyPage.builder()
+                .keys(keys.stream().map(apiKey -> mapToSummary(apiKey, now)).toList())
+                .nextCursor(keys.size() == limit ? keys.get(keys.size() - 1).getId() : null)
+                .build();
+    }
+
+    @Override
+    @Transactional
+    public ApiKeySummary revokeApiKey(Long id) {
+        ApiKey apiKey = revoke(id);
+        return mapToSummary(apiKey, Instant.now());
+    }
+
+    @Override
+    @Transactional
+    public ApiKeyResponse rotateApiKey(Long id) {
+        ApiKey apiKey = revoke(id);
+        return createApiKey(ApiKey.builder()
+                .label(apiKey.getLabel())
+                .requestsPerSecond(apiKey.getRequestsPerSecond())
+                .burst(apiKey.getBurst())
+                .dailyQuota(apiKey.getDailyQuota())
+                .scopes(apiKey.getScopes()));
+    }
+
+    @Override
+    @Transactional
+    public List<String> provisionApiKeys(String label, int count, ApiKeyScopes scopes) {
+        if (count < 1 || count > MAX_BULK_KEYS) {
+            throw new RuntimeException("Count must be between 1 and " + MAX_BULK_KEYS);
+        }
+
+        // Generation and hashing are CPU bound and independent per key
+        List<String> rawKeys = IntStream.range(0, count).parallel()
+                .mapToObj(i -> ApiKeyGenerator.generateKey())
+                .toList();
+        List<String> keyHashes = rawKeys.parallelStream()
+                .map(DigestUtils::sha256Hex)
+                .toList();
+
+        // Plain JDBC: Hibernate can't batch inserts of IDENTITY entities
+        Instant now = Instant.now();
+        Timestamp createdAt = Timestamp.from(now);
+        Timestamp expiresAt = Timestamp.from(now.plus(Duration.of(expirationDateOffset, ChronoUnit.MILLIS)));
+        jdbcTemplate.batchUpdate(BULK_INSERT_SQL, keyHashes, BULK_BATCH_SIZE, (statement, keyHash) -> {
+            statement.setString(1, keyHash);
+            statement.setString(2, label);
+            statement.setTimestamp(3, createdAt);
+            statement.setTimestamp(4, expiresAt);
+            statement.setString(5, scopes.toString());
+        });
+
+        return rawKeys;
+    }
+
+    private ApiKey revoke(Long id) {
+        ApiKey apiKey = apiKeyRepository.findLockedById(id)
+                .orElseThrow(() -> new RuntimeException("API key not found"));
+        // Updated through the entity so the second-level cache and other nodes see it on commit
+        apiKey.setActive(false);
+        return apiKey;
+    }
+
+    private ApiKeySummary mapToSummary(ApiKey apiKey, Instant now) {
+        ApiKeyStatus status;
+        if (!apiKey.isActive()) {
+            status = ApiKeyStatus.REVOKED;
+        } else if (apiKey.getExpiresAt() != null && !apiKey.getExpiresAt().isAfter(now)) {
+            status = ApiKeyStatus.EXPIRED;
+        } else {
+            status = ApiKeyStatus.ACTIVE;
+        }
+        return ApiKeySummary.builder()
+                .id(apiKey.getId())
+                .label(apiKey.getLabel())
+                .status(status)
+                .createdAt(apiKey.getCreatedAt())
+                .expiresAt(apiKey.getExpiresAt())
+                .lastUsedAt(apiKey.getLastUsedAt())
+                .requestsPerSecond(apiKey.getRequestsPerSecond())
+                .burst(apiKey.getBurst())
+                .dailyQuota(apiKey.getDailyQuota())
+                .scopes(apiKey.getScopes() != null ? apiKey.getScopes().values() : null)
+                .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ApiKeyAuditResponse> getApiKeyAudit(Long apiKeyId, Instant from, Instant to, int page, int size) {
+        if (!from.isBefore(to)) {
+            throw new RuntimeException("Start of range must be before its end");
+        }
+        PageRequest pageRequest = PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), MAX_AUDIT_PAGE_SIZE));
+
+        return apiKeyAuditRepository.findInRange(apiKeyId, from, to, pageRequest).stream()
+                .map(this::mapToAuditResponse)
+                .toList();
+    }
+
+    private ApiKeyAuditResponse mapToAuditResponse(ApiKeyAudit audit) {
+        return ApiKeyAuditResponse.builder()
+                .id(audit.getId())
+                .apiKeyId(audit.getApiKeyId())
+                .method(audit.getMethod())
+                .path(audit.getPath())
+                .status(audit.getStatus())
+                .latencyMicros(audit.getLatencyMicros())
+                .occurredAt(audit.getOccurredAt())
+                .build();
+    }
 }
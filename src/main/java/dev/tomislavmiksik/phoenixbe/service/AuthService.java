@@ -1,6 +1,7 @@
 package dev.tomislavmiksik.phoenixbe.service;
 
 import dev.tomislavmiksik.phoenixbe.dto.auth.AuthResponse;
+import dev.tomislavmiksik.phoenixbe.dto.auth.AvailabilityResponse;
 import dev.tomislavmiksik.phoenixbe.dto.auth.LoginRequest;
 import dev.tomislavmiksik.phoenixbe.dto.auth.RegisterRequest;
 
@@ -8,5 +9,11 @@ public interface AuthService {
 
     AuthResponse register(RegisterRequest request);
 
-    AuthResponse login(LoginRequest request);
+    AuthResponse login(LoginRequest request, String clientAddress);
+
+    AvailabilityResponse checkAvailability(String username, String email);
+
+    void logout(String token);
+
+    void logoutAll(String token);
 }
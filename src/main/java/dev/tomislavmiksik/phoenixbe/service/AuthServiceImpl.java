@@ -1,21 +1,38 @@
 package dev.tomislavmiksik.phoenixbe.service;
 
+import dev.tomislavmiksik.phoenixbe.availability.UserAvailabilityIndex;
+import dev.tomislavmiksik.phoenixbe.config.MetricsConfig;
 import dev.tomislavmiksik.phoenixbe.dto.auth.AuthResponse;
+import dev.tomislavmiksik.phoenixbe.dto.auth.AvailabilityResponse;
 import dev.tomislavmiksik.phoenixbe.dto.auth.LoginRequest;
 import dev.tomislavmiksik.phoenixbe.dto.auth.RegisterRequest;
+import dev.tomislavmiksik.phoenixbe.entity.RevokedToken;
 import dev.tomislavmiksik.phoenixbe.entity.User;
+import dev.tomislavmiksik.phoenixbe.login.LoginThrottle;
+import dev.tomislavmiksik.phoenixbe.repository.RevokedTokenRepository;
 import dev.tomislavmiksik.phoenixbe.repository.UserRepository;
+import dev.tomislavmiksik.phoenixbe.revocation.TokenDenyList;
 import dev.tomislavmiksik.phoenixbe.security.JwtTokenProvider;
+import io.jsonwebtoken.Claims;
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Locale;
 
 @Service
+@Observed(name = MetricsConfig.SERVICE_OBSERVATION)
 @RequiredArgsConstructor
 public class AuthServiceImpl implements AuthService {
 
@@ -23,21 +40,25 @@ public class AuthServiceImpl implements AuthService {
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
     private final AuthenticationManager authenticationManager;
+    private final UserAvailabilityIndex availabilityIndex;
+    private final LoginThrottle loginThrottle;
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final TokenDenyList tokenDenyList;
 
     @Override
-    @Transactional
     public AuthResponse register(RegisterRequest request) {
-        // Check if username already exists
-        if (userRepository.existsByUsername(request.getUsername())) {
+        // Names the filters have never seen go straight to the insert; likely duplicates are
+        // confirmed against the index before paying for the BCrypt hash
+        if (availabilityIndex.mightHaveUsername(request.getUsername())
+                && userRepository.existsByUsername(request.getUsername())) {
             throw new RuntimeException("Username is already taken");
         }
-
-        // Check if email already exists
-        if (userRepository.existsByEmail(request.getEmail())) {
+        if (availabilityIndex.mightHaveEmail(request.getEmail())
+                && userRepository.existsByEmail(request.getEmail())) {
             throw new RuntimeException("Email is already in use");
         }
 
-        // Create new user
+        // Hashed before save() opens its transaction, so no pooled connection waits on BCrypt
         User user = User.builder()
                 .username(request.getUsername())
                 .email(request.getEmail())
@@ -48,7 +69,14 @@ public class AuthServiceImpl implements AuthService {
                 .enabled(true)
                 .build();
 
-        User savedUser = userRepository.save(user);
+        // A single insert; the unique constraints decide between concurrent registrations
+        User savedUser;
+        try {
+            savedUser = userRepository.save(user);
+        } catch (DataIntegrityViolationException e) {
+            throw duplicateUser(e);
+        }
+        availabilityIndex.add(savedUser.getUsername(), savedUser.getEmail());
 
         // Generate JWT token
         String token = jwtTokenProvider.generateToken(savedUser.getUsername());
@@ -64,15 +92,16 @@ public class AuthServiceImpl implements AuthService {
     }
 
     @Override
-    @Transactional(readOnly = true)
-    public AuthResponse login(LoginRequest request) {
-        // Authenticate user with Spring Security
-        Authentication authentication = authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(
-                        request.getUsername(),
-                        request.getPassword()
-                )
-        );
+    public AuthResponse login(LoginRequest request, String clientAddress) {
+        // Throttled attempts are rejected before BCrypt runs; no transaction is open, so a
+        // pooled connection never waits on the hash
+        Authentication authentication = loginThrottle.attempt(request.getUsername(), clientAddress,
+                () -> authenticationManager.authenticate(
+                        new UsernamePasswordAuthenticationToken(
+                                request.getUsername(),
+                                request.getPassword()
+                        )
+                ));
 
         SecurityContextHolder.getContext().setAuthentication(authentication);
 
@@ -91,4 +120,72 @@ public class AuthServiceImpl implements AuthService {
                 .role(user.getRole().name())
                 .build();
     }
+
+    @Override
+    public AvailabilityResponse checkAvailability(String username, String email) {
+        if (!StringUtils.hasText(username) && !StringUtils.hasText(email)) {
+            throw new RuntimeException("Username or email is required");
+        }
+
+        return AvailabilityResponse.builder()
+                .usernameAvailable(StringUtils.hasText(username)
+                        ? !(availabilityIndex.mightHaveUsername(username) && userRepository.existsByUsername(username))
+                        : null)
+                .emailAvailable(StringUtils.hasText(email)
+                        ? !(availabilityIndex.mightHaveEmail(email) && userRepository.existsByEmail(email))
+                        : null)
+                .build();
+    }
+
+    @Override
+    public void logout(String token) {
+        Claims claims = verifiedClaims(token);
+        if (claims.getId() == null) {
+            throw new RuntimeException("Token has no id and can only be revoked by logging out everywhere");
+        }
+
+        Instant expiresAt = claims.getExpiration().toInstant();
+        revokedTokenRepository.save(RevokedToken.builder()
+                .jti(TokenDenyList.fromTokenId(claims.getId()))
+                .expiresAt(expiresAt)
+                .build());
+        // Other nodes learn of it from the invalidation message published with the insert
+        tokenDenyList.revoke(claims.getId(), expiresAt);
+    }
+
+    @Override
+    public void logoutAll(String token) {
+        Claims claims = verifiedClaims(token);
+        User user = userRepository.findByUsername(claims.getSubject())
+                .orElseThrow(() -> new BadCredentialsException("Invalid token"));
+
+        // Tokens carry their issue time in whole seconds, so the cutoff does too
+        Instant cutoff = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        user.setTokensValidAfter(cutoff);
+        userRepository.save(user);
+        tokenDenyList.revokeAllBefore(user.getUsername(), cutoff);
+    }
+
+    private Claims verifiedClaims(String token) {
+        if (!StringUtils.hasText(token) || !jwtTokenProvider.validateToken(token)) {
+            throw new BadCredentialsException("Invalid token");
+        }
+        return jwtTokenProvider.getClaims(token);
+    }
+
+    private static RuntimeException duplicateUser(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                // PostgreSQL reports the constraint name as is, H2 upper-cased and schema-qualified
+                String constraint = violation.getConstraintName().toLowerCase(Locale.ROOT);
+                if (constraint.contains(User.USERNAME_CONSTRAINT)) {
+                    return new RuntimeException("Username is already taken");
+                }
+                if (constraint.contains(User.EMAIL_CONSTRAINT)) {
+                    return new RuntimeException("Email is already in use");
+                }
+            }
+        }
+        return e;
+    }
 }
@@ -2,7 +2,9 @@ package dev.tomislavmiksik.phoenixbe.service;
 
 import dev.tomislavmiksik.phoenixbe.dto.measurements.MeasurementRequest;
 import dev.tomislavmiksik.phoenixbe.dto.measurements.MeasurementResponse;
+import dev.tomislavmiksik.phoenixbe.dto.measurements.MeasurementSummaryResponse;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -18,6 +20,14 @@ public interface MeasurementService {
      */
     MeasurementResponse createMeasurement(MeasurementRequest request);
 
+    /**
+     * Create several measurements for the current user in one transaction.
+     *
+     * @param requests the requests
+     * @return the created measurements, in request order
+     */
+    List<MeasurementResponse> createMeasurements(List<MeasurementRequest> requests);
+
     /**
      * Gets all measurements.
      *
@@ -33,6 +43,22 @@ public interface MeasurementService {
      */
     List<MeasurementResponse> getRecentMeasurements(int limit);
 
+    /**
+     * Gets measurements taken between two dates, newest first.
+     *
+     * @param from the start of the range, inclusive
+     * @param to   the end of the range, inclusive
+     * @return the measurements in range
+     */
+    List<MeasurementResponse> getMeasurementsInRange(LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Gets aggregate statistics over all measurements.
+     *
+     * @return the measurement summary
+     */
+    MeasurementSummaryResponse getMeasurementSummary();
+
     /**
      * Gets measurement by id.
      *
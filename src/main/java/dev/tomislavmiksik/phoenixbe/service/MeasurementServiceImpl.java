@@ -1,11 +1,14 @@
 package dev.tomislavmiksik.phoenixbe.service;
 
+import dev.tomislavmiksik.phoenixbe.config.MetricsConfig;
 import dev.tomislavmiksik.phoenixbe.dto.measurements.MeasurementRequest;
 import dev.tomislavmiksik.phoenixbe.dto.measurements.MeasurementResponse;
+import dev.tomislavmiksik.phoenixbe.dto.measurements.MeasurementSummaryResponse;
 import dev.tomislavmiksik.phoenixbe.entity.Measurement;
 import dev.tomislavmiksik.phoenixbe.entity.User;
 import dev.tomislavmiksik.phoenixbe.repository.MeasurementRepository;
 import dev.tomislavmiksik.phoenixbe.repository.UserRepository;
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
@@ -16,6 +19,7 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 @Service
+@Observed(name = MetricsConfig.SERVICE_OBSERVATION)
 @RequiredArgsConstructor
 public class MeasurementServiceImpl implements MeasurementService {
 
@@ -27,22 +31,25 @@ public class MeasurementServiceImpl implements MeasurementService {
     public MeasurementResponse createMeasurement(MeasurementRequest request) {
         User currentUser = getCurrentUser();
 
-        Measurement measurement = Measurement.builder()
-                .user(currentUser)
-                .weight(request.getWeight())
-                .height(request.getHeight())
-                .chestCircumference(request.getChestCircumference())
-                .armCircumference(request.getArmCircumference())
-                .legCircumference(request.getLegCircumference())
-                .waistCircumference(request.getWaistCircumference())
-                .measurementDate(request.getMeasurementDate() != null ?
-                        request.getMeasurementDate() : LocalDateTime.now())
-                .build();
-
-        Measurement savedMeasurement = measurementRepository.save(measurement);
+        Measurement savedMeasurement = measurementRepository.save(mapToEntity(request, currentUser));
         return mapToResponse(savedMeasurement);
     }
 
+    @Override
+    @Transactional
+    public List<MeasurementResponse> createMeasurements(List<MeasurementRequest> requests) {
+        User currentUser = getCurrentUser();
+
+        List<Measurement> measurements = requests.stream()
+                .map(request -> mapToEntity(request, currentUser))
+                .collect(Collectors.toList());
+
+        return measurementRepository.saveAll(measurements)
+                .stream()
+                .map(this::mapToResponse)
+                .collect(Collectors.toList());
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<MeasurementResponse> getAllMeasurements() {
@@ -64,6 +71,28 @@ public class MeasurementServiceImpl implements MeasurementService {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<MeasurementResponse> getMeasurementsInRange(LocalDateTime from, LocalDateTime to) {
+        if (from.isAfter(to)) {
+            throw new RuntimeException("Range start must not be after range end");
+        }
+
+        User currentUser = getCurrentUser();
+        return measurementRepository
+                .findByUserIdAndMeasurementDateBetweenOrderByMeasurementDateDesc(currentUser.getId(), from, to)
+                .stream()
+                .map(this::mapToResponse)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public MeasurementSummaryResponse getMeasurementSummary() {
+        User currentUser = getCurrentUser();
+        return measurementRepository.summarizeByUserId(currentUser.getId());
+    }
+
     @Override
     @Transactional(readOnly = true)
     public MeasurementResponse getMeasurementById(Long id) {
@@ -123,6 +152,20 @@ public class MeasurementServiceImpl implements MeasurementService {
                 .orElseThrow(() -> new RuntimeException("User not found"));
     }
 
+    private Measurement mapToEntity(MeasurementRequest request, User user) {
+        return Measurement.builder()
+                .user(user)
+                .weight(request.getWeight())
+                .height(request.getHeight())
+                .chestCircumference(request.getChestCircumference())
+                .armCircumference(request.getArmCircumference())
+                .legCircumference(request.getLegCircumference())
+                .waistCircumference(request.getWaistCircumference())
+                .measurementDate(request.getMeasurementDate() != null ?
+                        request.getMeasurementDate() : LocalDateTime.now())
+                .build();
+    }
+
     private MeasurementResponse mapToResponse(Measurement measurement) {
         return MeasurementResponse.builder()
                 .id(measurement.getId())
@@ -1,9 +1,10 @@
 package dev.tomislavmiksik.phoenixbe.service;
 
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 
 /**
  * The interface of User service.
  */
-public interface UserService extends UserDetailsService {
+public interface UserService extends UserDetailsService, UserDetailsPasswordService {
 }
@@ -1,6 +1,9 @@
 package dev.tomislavmiksik.phoenixbe.service;
 
+import dev.tomislavmiksik.phoenixbe.config.MetricsConfig;
+import dev.tomislavmiksik.phoenixbe.entity.User;
 import dev.tomislavmiksik.phoenixbe.repository.UserRepository;
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -8,6 +11,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
+@Observed(name = MetricsConfig.SERVICE_OBSERVATION)
 @RequiredArgsConstructor
 public class UserServiceImpl implements UserService {
 
@@ -19,4 +23,14 @@ public class UserServiceImpl implements UserService {
         return userRepository.findByUsername(username)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with username: " + username));
     }
+
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        // The new hash is computed before this transaction opens; this only writes it
+        User entity = userRepository.findByUsername(user.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException("User not found with username: " + user.getUsername()));
+        entity.setPassword(newPassword);
+        return entity;
+    }
 }
@@ -1,5 +1,6 @@
 package dev.tomislavmiksik.phoenixbe.util;
 
+import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
 import java.util.Base64;
 
@@ -7,7 +8,16 @@ import java.util.Base64;
  * The type Api key generator.
  */
 public class ApiKeyGenerator {
-    private static final SecureRandom secureRandom = new SecureRandom();
+    /*
+     * The platform default on Linux is NativePRNG, which reads /dev/urandom while holding a
+     * global monitor. On virtual threads that pins the carrier for the duration of the read,
+     * so use DRBG, which only touches the entropy source when it reseeds.
+     *
+     * A DRBG instance serializes its callers, so keys come from a fixed set of instances picked by
+     * thread id and parallel generation (bulk provisioning) doesn't queue on one lock. Not a
+     * ThreadLocal: with a virtual thread per request, every request would seed a fresh instance.
+     */
+    private static final SecureRandom[] secureRandoms = createSecureRandoms();
     private static final Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
 
     /**
@@ -17,7 +27,29 @@ public class ApiKeyGenerator {
      */
     public static String generateKey() {
         byte[] buffer = new byte[32];
-        secureRandom.nextBytes(buffer);
+        secureRandom().nextBytes(buffer);
         return encoder.encodeToString(buffer);
     }
+
+    private static SecureRandom secureRandom() {
+        return secureRandoms[(int) (Thread.currentThread().threadId() & (secureRandoms.length - 1))];
+    }
+
+    private static SecureRandom[] createSecureRandoms() {
+        // Twice the processors, rounded up to a power of two for the mask
+        int stripes = Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 2 - 1) << 1;
+        SecureRandom[] instances = new SecureRandom[stripes];
+        for (int i = 0; i < stripes; i++) {
+            instances[i] = createSecureRandom();
+        }
+        return instances;
+    }
+
+    private static SecureRandom createSecureRandom() {
+        try {
+            return SecureRandom.getInstance("DRBG");
+        } catch (NoSuchAlgorithmException e) {
+            return new SecureRandom();
+        }
+    }
 }
@@ -0,0 +1,10 @@
+-- JWTs revoked by logout, kept until they would have expired anyway (jwt.revocation.purge-interval-minutes)
+CREATE TABLE revoked_token (
+    jti BIGINT PRIMARY KEY,
+    expires_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX idx_revoked_token_expires_at ON revoked_token(expires_at);
+
+-- Set by logout-all; tokens issued at or before it are rejected
+ALTER TABLE users ADD COLUMN tokens_valid_after TIMESTAMP;
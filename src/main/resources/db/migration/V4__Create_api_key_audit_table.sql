@@ -0,0 +1,14 @@
+CREATE TABLE api_key_audit (
+    id BIGSERIAL PRIMARY KEY,
+    api_key_id BIGINT NOT NULL,
+    method VARCHAR(10) NOT NULL,
+    path VARCHAR(255) NOT NULL,
+    status INTEGER NOT NULL,
+    latency_micros BIGINT NOT NULL,
+    occurred_at TIMESTAMP NOT NULL
+);
+
+-- No foreign key to api_key: audit rows outlive the keys they describe and the batch insert
+-- should not pay for a referential check per row
+CREATE INDEX idx_api_key_audit_key_occurred ON api_key_audit(api_key_id, occurred_at);
+CREATE INDEX idx_api_key_audit_occurred ON api_key_audit(occurred_at);
@@ -0,0 +1,3 @@
+-- Name the unique constraints so a failed registration insert can tell a taken username from a taken email
+ALTER TABLE users RENAME CONSTRAINT users_username_key TO uk_users_username;
+ALTER TABLE users RENAME CONSTRAINT users_email_key TO uk_users_email;
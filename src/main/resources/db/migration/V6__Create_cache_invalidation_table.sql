@@ -0,0 +1,11 @@
+-- Change table for cache invalidation when nodes poll instead of using LISTEN/NOTIFY
+-- (cache-invalidation.transport=POLL); rows are purged after cache-invalidation.retention-minutes
+CREATE TABLE cache_invalidation (
+    id BIGSERIAL PRIMARY KEY,
+    table_name VARCHAR(30) NOT NULL,
+    entity_key BIGINT NOT NULL,
+    origin VARCHAR(36) NOT NULL,
+    created_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX idx_cache_invalidation_created ON cache_invalidation(created_at);
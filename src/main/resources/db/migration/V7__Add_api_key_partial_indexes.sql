@@ -0,0 +1,10 @@
+-- key_hash is already indexed by its unique constraint, and an index on a boolean is never selective
+DROP INDEX IF EXISTS idx_api_key_key_hash;
+DROP INDEX IF EXISTS idx_api_key_active;
+
+-- Authentication only looks up active keys: revoked keys drop out of the index, and including
+-- id and expires_at lets the reactive lookup run as an index-only scan
+CREATE INDEX idx_api_key_active_key_hash ON api_key(key_hash) INCLUDE (id, expires_at) WHERE active;
+
+-- Keyset pagination of the admin listing, by label and newest first
+CREATE INDEX idx_api_key_label_id ON api_key(label, id);
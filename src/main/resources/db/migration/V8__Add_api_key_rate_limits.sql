@@ -0,0 +1,12 @@
+-- Per-key limits; null means the configured default rate and no daily quota
+ALTER TABLE api_key ADD COLUMN requests_per_second INTEGER;
+ALTER TABLE api_key ADD COLUMN burst INTEGER;
+ALTER TABLE api_key ADD COLUMN daily_quota BIGINT;
+
+-- Requests per key and UTC day, incremented by every node's rate limiter (rate-limit.reconcile-interval-ms)
+CREATE TABLE api_key_usage (
+    api_key_id BIGINT NOT NULL,
+    usage_date DATE NOT NULL,
+    requests BIGINT NOT NULL,
+    PRIMARY KEY (api_key_id, usage_date)
+);
@@ -0,0 +1,2 @@
+-- Comma-separated scopes (e.g. measurements:read); existing keys keep the read and write access they had
+ALTER TABLE api_key ADD COLUMN scopes VARCHAR(255) NOT NULL DEFAULT 'measurements:read,measurements:write';
@@ -0,0 +1,96 @@
+package dev.tomislavmiksik.phoenixbe.aspect;
+
+import dev.tomislavmiksik.phoenixbe.dto.auth.LoginRequest;
+import dev.tomislavmiksik.phoenixbe.entity.Measurement;
+import dev.tomislavmiksik.phoenixbe.entity.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for ArgumentRenderer.
+ */
+@DisplayName("ArgumentRenderer Unit Tests")
+class ArgumentRendererTest {
+
+    private final ArgumentRenderer renderer = new ArgumentRenderer(List.of("password", "token", "key"));
+
+    @Test
+    @DisplayName("Should mask sensitive fields of request objects")
+    void testRender_MasksSensitiveFields() {
+        // Given
+        LoginRequest request = new LoginRequest("testuser", "password123");
+
+        // When
+        String rendered = renderer.render(request);
+
+        // Then
+        assertEquals("LoginRequest{username=\"testuser\", password=***}", rendered);
+    }
+
+    @Test
+    @DisplayName("Should mask arguments with sensitive parameter names")
+    void testRenderArguments_MasksSensitiveParameters() {
+        // When
+        String rendered = renderer.renderArguments(
+                new String[]{"KeyHash", "limit"}, new Object[]{"5e884898da28047151d0e56f8dc629", 10});
+
+        // Then
+        assertEquals("[KeyHash=***, limit=10]", rendered);
+    }
+
+    @Test
+    @DisplayName("Should render entities by id without touching associations")
+    void testRender_EntityDoesNotInitializeAssociations() {
+        // Given
+        User user = mock(User.class);
+        Measurement measurement = Measurement.builder()
+                .id(5L)
+                .user(user)
+                .weight(new BigDecimal("75.50"))
+                .build();
+
+        // When
+        String rendered = renderer.render(measurement);
+
+        // Then
+        assertEquals("Measurement#5", rendered);
+        verifyNoInteractions(user);
+    }
+
+    @Test
+    @DisplayName("Should summarize collections and truncate long strings")
+    void testRender_SummarizesLargeValues() {
+        // When
+        String collection = renderer.render(List.of(1, 2, 3));
+        String text = renderer.render("x".repeat(100));
+
+        // Then
+        assertTrue(collection.endsWith("[size=3]"));
+        assertTrue(text.endsWith("...\"(100)"));
+        assertFalse(text.contains("x".repeat(65)));
+    }
+
+    @Test
+    @DisplayName("Should not call toString on application objects")
+    void testRender_DoesNotCallToString() {
+        // Given
+        User user = mock(User.class);
+        when(user.toString()).thenThrow(new AssertionError("toString called"));
+
+        // When
+        String rendered = renderer.render(user);
+
+        // Then
+        assertTrue(rendered.startsWith("User"));
+    }
+}
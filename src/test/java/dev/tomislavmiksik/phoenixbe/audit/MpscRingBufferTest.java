@@ -0,0 +1,97 @@
+package dev.tomislavmiksik.phoenixbe.audit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for MpscRingBuffer.
+ */
+@DisplayName("MpscRingBuffer Unit Tests")
+class MpscRingBufferTest {
+
+    @Test
+    @DisplayName("Should reject offers when full and accept again after a drain")
+    void testOffer_FullBuffer() {
+        // Given
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(4);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(buffer.offer(i));
+        }
+
+        // When
+        boolean acceptedWhenFull = buffer.offer(4);
+        int drained = buffer.drain(value -> { }, 1);
+
+        // Then
+        assertFalse(acceptedWhenFull);
+        assertEquals(1, drained);
+        assertTrue(buffer.offer(4));
+        assertEquals(4, buffer.size());
+    }
+
+    @Test
+    @DisplayName("Should drain in insertion order up to the limit")
+    void testDrain_FifoWithLimit() {
+        // Given
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(5);
+        for (int i = 0; i < 6; i++) {
+            buffer.offer(i);
+        }
+        List<Integer> drained = new ArrayList<>();
+
+        // When
+        buffer.drain(drained::add, 4);
+        buffer.drain(drained::add, 10);
+
+        // Then
+        assertEquals(8, buffer.capacity());
+        assertEquals(List.of(0, 1, 2, 3, 4, 5), drained);
+        assertEquals(0, buffer.size());
+    }
+
+    @Test
+    @DisplayName("Should deliver every element offered by concurrent producers exactly once")
+    void testOffer_ConcurrentProducers() throws InterruptedException {
+        // Given
+        int producers = 4;
+        int perProducer = 10_000;
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(256);
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch done = new CountDownLatch(producers);
+
+        // When
+        for (int p = 0; p < producers; p++) {
+            int base = p * perProducer;
+            executor.submit(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    while (!buffer.offer(base + i)) {
+                        Thread.onSpinWait();
+                    }
+                }
+                done.countDown();
+            });
+        }
+        Set<Integer> received = new HashSet<>();
+        while (done.getCount() > 0 || buffer.size() > 0) {
+            buffer.drain(received::add, 64);
+        }
+        executor.shutdown();
+
+        // Then
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        assertEquals(producers * perProducer, received.size());
+    }
+}
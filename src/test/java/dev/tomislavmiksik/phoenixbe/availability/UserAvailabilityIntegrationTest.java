@@ -0,0 +1,80 @@
+package dev.tomislavmiksik.phoenixbe.availability;
+
+import dev.tomislavmiksik.phoenixbe.entity.User;
+import dev.tomislavmiksik.phoenixbe.jdbc.StatementCount;
+import dev.tomislavmiksik.phoenixbe.jdbc.StatementCounter;
+import dev.tomislavmiksik.phoenixbe.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests for the availability endpoint and its Bloom filters.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("User Availability Integration Tests")
+class UserAvailabilityIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserAvailabilityIndex availabilityIndex;
+
+    @Test
+    @DisplayName("Should confirm names that were never taken without a database query")
+    void testAvailability_NewNamesWithoutQuery() throws Exception {
+        // When
+        try (StatementCount count = StatementCounter.start()) {
+            mockMvc.perform(get("/api/auth/availability")
+                            .param("username", "never-registered")
+                            .param("email", "never-registered@example.com"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.usernameAvailable").value(true))
+                    .andExpect(jsonPath("$.emailAvailable").value(true));
+
+            // Then
+            assertEquals(0, count.total(), count::describe);
+        }
+    }
+
+    @Test
+    @DisplayName("Should report taken names after a rebuild picks them up")
+    void testAvailability_TakenAfterRebuild() throws Exception {
+        // Given: inserted behind the service's back, so only the rebuild sees it
+        userRepository.save(User.builder()
+                .username("taken-user")
+                .email("taken-user@example.com")
+                .password("unused")
+                .build());
+        availabilityIndex.rebuild();
+
+        // When & Then
+        mockMvc.perform(get("/api/auth/availability").param("username", "taken-user"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.usernameAvailable").value(false))
+                .andExpect(jsonPath("$.emailAvailable").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("Should return 400 when neither username nor email is given")
+    void testAvailability_NothingToCheck() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/auth/availability"))
+                .andExpect(status().isBadRequest());
+    }
+}
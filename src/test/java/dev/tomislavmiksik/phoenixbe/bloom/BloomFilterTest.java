@@ -0,0 +1,67 @@
+package dev.tomislavmiksik.phoenixbe.bloom;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for BloomFilter.
+ */
+@DisplayName("BloomFilter Unit Tests")
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("Should never report an added value as absent")
+    void testMightContain_NoFalseNegatives() {
+        // Given
+        BloomFilter filter = BloomFilter.create(10_000, 0.01);
+
+        // When
+        for (int i = 0; i < 10_000; i++) {
+            filter.add("user-" + i);
+        }
+
+        // Then
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(filter.mightContain("user-" + i));
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep the false positive rate near the configured rate at capacity")
+    void testMightContain_FalsePositiveRate() {
+        // Given
+        BloomFilter filter = BloomFilter.create(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.add("user-" + i);
+        }
+
+        // When
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain("other-" + i)) {
+                falsePositives++;
+            }
+        }
+
+        // Then
+        assertTrue(falsePositives < 2_000, "false positives: " + falsePositives);
+    }
+
+    @Test
+    @DisplayName("Should size bits and hash functions from capacity and rate")
+    void testCreate_Sizing() {
+        // When
+        BloomFilter filter = BloomFilter.create(1_000, 0.01);
+
+        // Then: about 9.6 bits and 7 hash functions per value
+        assertEquals(9_600, filter.bitCount());
+        assertEquals(7, filter.hashFunctions());
+        assertFalse(filter.mightContain("anything"));
+        assertThrows(IllegalArgumentException.class, () -> BloomFilter.create(1_000, 1.0));
+    }
+}
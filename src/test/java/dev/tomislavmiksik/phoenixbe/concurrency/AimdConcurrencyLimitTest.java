@@ -0,0 +1,114 @@
+package dev.tomislavmiksik.phoenixbe.concurrency;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for AimdConcurrencyLimit.
+ */
+@DisplayName("AimdConcurrencyLimit Unit Tests")
+class AimdConcurrencyLimitTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(1000);
+
+    @Test
+    @DisplayName("Should reject once in-flight requests reach the limit")
+    void testTryAcquire_RejectsAtLimit() {
+        // Given
+        AimdConcurrencyLimit limit = new AimdConcurrencyLimit(2, 1, 10, 0.5, 100);
+
+        // When & Then
+        assertEquals(1, limit.tryAcquire());
+        assertEquals(2, limit.tryAcquire());
+        assertEquals(-1, limit.tryAcquire());
+        assertEquals(2, limit.getInFlight());
+    }
+
+    @Test
+    @DisplayName("Should grow the limit additively on fast requests under load")
+    void testRelease_FastRequestIncreasesLimit() {
+        // Given
+        AimdConcurrencyLimit limit = new AimdConcurrencyLimit(2, 1, 10, 0.5, 100);
+        int inFlight = limit.tryAcquire();
+        limit.tryAcquire();
+
+        // When
+        limit.release(FAST, inFlight, false);
+
+        // Then
+        assertEquals(3, limit.getLimit());
+        assertEquals(1, limit.getInFlight());
+    }
+
+    @Test
+    @DisplayName("Should not grow the limit when it is not being exercised")
+    void testRelease_IdleDoesNotIncreaseLimit() {
+        // Given
+        AimdConcurrencyLimit limit = new AimdConcurrencyLimit(10, 1, 20, 0.5, 100);
+        int inFlight = limit.tryAcquire();
+
+        // When
+        limit.release(FAST, inFlight, false);
+
+        // Then
+        assertEquals(10, limit.getLimit());
+    }
+
+    @Test
+    @DisplayName("Should back off multiplicatively on slow or failed requests")
+    void testRelease_SlowOrFailedRequestDecreasesLimit() {
+        // Given
+        AimdConcurrencyLimit limit = new AimdConcurrencyLimit(10, 1, 20, 0.5, 100);
+
+        // When
+        limit.release(SLOW, limit.tryAcquire(), false);
+
+        // Then
+        assertEquals(5, limit.getLimit());
+
+        // When
+        limit.release(FAST, limit.tryAcquire(), true);
+
+        // Then
+        assertEquals(2, limit.getLimit());
+    }
+
+    @Test
+    @DisplayName("Should keep the limit within configured bounds")
+    void testRelease_RespectsBounds() {
+        // Given
+        AimdConcurrencyLimit limit = new AimdConcurrencyLimit(2, 2, 3, 0.5, 100);
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            limit.release(SLOW, limit.tryAcquire(), false);
+        }
+
+        // Then
+        assertEquals(2, limit.getLimit());
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            int first = limit.tryAcquire();
+            int second = limit.tryAcquire();
+            limit.release(FAST, second, false);
+            limit.release(FAST, first, false);
+        }
+
+        // Then
+        assertEquals(3, limit.getLimit());
+    }
+
+    @Test
+    @DisplayName("Should reject invalid configuration")
+    void testConstructor_InvalidConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> new AimdConcurrencyLimit(5, 0, 10, 0.5, 100));
+        assertThrows(IllegalArgumentException.class, () -> new AimdConcurrencyLimit(5, 10, 5, 0.5, 100));
+        assertThrows(IllegalArgumentException.class, () -> new AimdConcurrencyLimit(5, 1, 10, 1.0, 100));
+    }
+}
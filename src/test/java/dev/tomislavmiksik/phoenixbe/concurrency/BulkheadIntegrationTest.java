@@ -0,0 +1,97 @@
+package dev.tomislavmiksik.phoenixbe.concurrency;
+
+import dev.tomislavmiksik.phoenixbe.entity.ApiKey;
+import dev.tomislavmiksik.phoenixbe.entity.User;
+import dev.tomislavmiksik.phoenixbe.repository.ApiKeyRepository;
+import dev.tomislavmiksik.phoenixbe.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.sql.DataSource;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.anonymous;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests for bulkheads with a dedicated write pool.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:bulkheaddb;MODE=PostgreSQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "bulkhead.write.pool-size=2"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Bulkhead Integration Tests")
+class BulkheadIntegrationTest {
+
+    private static final String RAW_KEY = "bulkhead-test-key";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ApiKeyRepository apiKeyRepository;
+
+    @BeforeEach
+    void setUp() {
+        if (userRepository.findByUsername("api-key-user").isEmpty()) {
+            userRepository.save(User.builder()
+                    .username("api-key-user")
+                    .email("api-key-user@example.com")
+                    .password("unused")
+                    .build());
+        }
+        if (apiKeyRepository.findByKeyHashAndActiveTrue(DigestUtils.sha256Hex(RAW_KEY)).isEmpty()) {
+            apiKeyRepository.save(ApiKey.builder()
+                    .label("bulkhead")
+                    .keyHash(DigestUtils.sha256Hex(RAW_KEY))
+                    .createdAt(Instant.now())
+                    .expiresAt(Instant.now().plus(1, ChronoUnit.DAYS))
+                    .active(true)
+                    .build());
+        }
+    }
+
+    @Test
+    @DisplayName("Should serve writes from the write pool and reads from the main pool")
+    void testWritePool_ServesWrites() throws Exception {
+        // When
+        mockMvc.perform(post("/api/measurements").header("X-API-KEY", RAW_KEY).with(anonymous())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"weight\":75.5,\"height\":180.0}"))
+                .andExpect(status().isCreated());
+        mockMvc.perform(get("/api/measurements").header("X-API-KEY", RAW_KEY).with(anonymous()))
+                .andExpect(status().isOk());
+
+        // Then
+        assertTrue(dataSource.isWrapperFor(WorkloadRoutingDataSource.class));
+        assertEquals(2.0, meterRegistry.get("hikaricp.connections.max").tag("pool", "phoenix-write").gauge().value());
+        assertTrue(meterRegistry.get("hikaricp.connections.usage").tag("pool", "phoenix-write").timer().count() > 0);
+        assertTrue(meterRegistry.get("hikaricp.connections.usage").tag("pool", "phoenix-main").timer().count() > 0);
+        assertEquals(0.0, meterRegistry.get("phoenix.bulkhead.active").tag("category", "write").gauge().value());
+    }
+}
@@ -0,0 +1,114 @@
+package dev.tomislavmiksik.phoenixbe.concurrency;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for Bulkhead, WorkloadCategory and WorkloadRoutingDataSource.
+ */
+@DisplayName("Bulkhead Unit Tests")
+class BulkheadTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("Should reject at once when permits and queue are taken")
+    void testTryEnter_RejectsWhenQueueFull() {
+        // Given
+        Bulkhead bulkhead = new Bulkhead(WorkloadCategory.AUTH, 1, 0, Duration.ofSeconds(10), meterRegistry);
+        assertTrue(bulkhead.tryEnter());
+
+        // When
+        long start = System.nanoTime();
+        boolean entered = bulkhead.tryEnter();
+
+        // Then
+        assertFalse(entered);
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5));
+        assertEquals(1.0, meterRegistry.get("phoenix.bulkhead.rejected")
+                .tag("category", "auth").tag("reason", "queue_full").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should reject a queued request after the maximum wait")
+    void testTryEnter_RejectsAfterTimeout() {
+        // Given
+        Bulkhead bulkhead = new Bulkhead(WorkloadCategory.WRITE, 1, 1, Duration.ofMillis(50), meterRegistry);
+        assertTrue(bulkhead.tryEnter());
+
+        // When / Then
+        assertFalse(bulkhead.tryEnter());
+        assertEquals(0, bulkhead.queued());
+        assertEquals(1.0, meterRegistry.get("phoenix.bulkhead.rejected")
+                .tag("category", "write").tag("reason", "timeout").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should admit a queued request once a permit is released")
+    void testTryEnter_QueuedRequestAdmitted() throws Exception {
+        // Given
+        Bulkhead bulkhead = new Bulkhead(WorkloadCategory.READ, 1, 1, Duration.ofSeconds(10), meterRegistry);
+        assertTrue(bulkhead.tryEnter());
+        CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(bulkhead::tryEnter);
+        while (bulkhead.queued() == 0) {
+            Thread.onSpinWait();
+        }
+
+        // When
+        bulkhead.exit();
+
+        // Then
+        assertTrue(queued.get(5, TimeUnit.SECONDS));
+        assertEquals(1, bulkhead.active());
+    }
+
+    @Test
+    @DisplayName("Should classify logins, writes and reads")
+    void testOf_ClassifiesRequests() {
+        assertEquals(WorkloadCategory.AUTH, WorkloadCategory.of(new MockHttpServletRequest("POST", "/api/auth/login")));
+        assertEquals(WorkloadCategory.WRITE, WorkloadCategory.of(new MockHttpServletRequest("POST", "/api/measurements")));
+        assertEquals(WorkloadCategory.WRITE, WorkloadCategory.of(new MockHttpServletRequest("DELETE", "/api/measurements/5")));
+        assertEquals(WorkloadCategory.WRITE, WorkloadCategory.of(new MockHttpServletRequest("POST", "/api/admin/keys/bulk")));
+        assertEquals(WorkloadCategory.READ, WorkloadCategory.of(new MockHttpServletRequest("GET", "/api/measurements/recent")));
+        assertNull(WorkloadCategory.of(new MockHttpServletRequest("GET", "/api/auth/availability")));
+        assertNull(WorkloadCategory.of(new MockHttpServletRequest("GET", "/api/admin/keys")));
+    }
+
+    @Test
+    @DisplayName("Should route only categories with a dedicated pool away from the main pool")
+    void testRoutingDataSource_RoutesByCategory() throws Exception {
+        // Given
+        DataSource mainPool = mock(DataSource.class);
+        DataSource writePool = mock(DataSource.class);
+        Connection mainConnection = mock(Connection.class);
+        Connection writeConnection = mock(Connection.class);
+        when(mainPool.getConnection()).thenReturn(mainConnection);
+        when(writePool.getConnection()).thenReturn(writeConnection);
+        WorkloadRoutingDataSource dataSource =
+                new WorkloadRoutingDataSource(mainPool, Map.of(WorkloadCategory.WRITE, writePool));
+
+        // When / Then
+        try {
+            assertSame(mainConnection, dataSource.getConnection());
+            WorkloadCategory.setCurrent(WorkloadCategory.READ);
+            assertSame(mainConnection, dataSource.getConnection());
+            WorkloadCategory.setCurrent(WorkloadCategory.WRITE);
+            assertSame(writeConnection, dataSource.getConnection());
+        } finally {
+            WorkloadCategory.clearCurrent();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package dev.tomislavmiksik.phoenixbe.config;
+
+import dev.tomislavmiksik.phoenixbe.service.UserService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests for the Prometheus scrape endpoint and the application meters it exposes.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@ActiveProfiles("test")
+@DisplayName("Metrics Integration Tests")
+class MetricsIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserService userService;
+
+    @Test
+    @DisplayName("Should require authentication for the Prometheus endpoint")
+    void testPrometheusEndpoint_RequiresAuth() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("Should expose service timers and auth outcome counters to admins")
+    @WithMockUser(roles = "ADMIN")
+    void testPrometheusEndpoint_ExposesApplicationMeters() throws Exception {
+        // Given
+        assertThrows(UsernameNotFoundException.class, () -> userService.loadUserByUsername("nobody"));
+        mockMvc.perform(get("/api/measurements"))
+                .andExpect(status().isUnauthorized());
+
+        // When / Then
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("phoenix_service_seconds_bucket")))
+                .andExpect(content().string(containsString("method=\"loadUserByUsername\"")))
+                .andExpect(content().string(containsString("method=\"api_key\",outcome=\"missing\"")))
+                .andExpect(content().string(containsString("http_server_requests_seconds_bucket")))
+                .andExpect(content().string(containsString("hikaricp_connections_active")));
+    }
+}
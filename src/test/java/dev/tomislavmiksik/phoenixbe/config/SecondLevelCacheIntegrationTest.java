@@ -0,0 +1,106 @@
+package dev.tomislavmiksik.phoenixbe.config;
+
+import dev.tomislavmiksik.phoenixbe.entity.ApiKey;
+import dev.tomislavmiksik.phoenixbe.entity.User;
+import dev.tomislavmiksik.phoenixbe.jdbc.StatementCount;
+import dev.tomislavmiksik.phoenixbe.jdbc.StatementCounter;
+import dev.tomislavmiksik.phoenixbe.repository.ApiKeyRepository;
+import dev.tomislavmiksik.phoenixbe.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Integration tests for the second-level cache of users and API keys.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Second-Level Cache Integration Tests")
+class SecondLevelCacheIntegrationTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ApiKeyRepository apiKeyRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("Should resolve a user by username from the cache without a statement")
+    void testFindByUsername_CacheHit() {
+        // Given
+        userRepository.save(User.builder()
+                .username("cached-user")
+                .email("cached-user@example.com")
+                .password("unused")
+                .build());
+        userRepository.findByUsername("cached-user");
+
+        // When
+        try (StatementCount count = StatementCounter.start()) {
+            User user = userRepository.findByUsername("cached-user").orElseThrow();
+
+            // Then
+            assertEquals("cached-user", user.getUsername());
+            assertEquals(0, count.total(), count::describe);
+        }
+    }
+
+    @Test
+    @DisplayName("Should see updates to a cached API key on the next lookup")
+    void testFindByKeyHash_InvalidatedOnUpdate() {
+        // Given
+        String keyHash = DigestUtils.sha256Hex("cached-key");
+        apiKeyRepository.save(ApiKey.builder()
+                .label("cached")
+                .keyHash(keyHash)
+                .createdAt(Instant.now())
+                .expiresAt(Instant.now().plus(1, ChronoUnit.DAYS))
+                .active(true)
+                .build());
+        ApiKey apiKey = apiKeyRepository.findByKeyHashAndActiveTrue(keyHash).orElseThrow();
+
+        // When
+        apiKey.setActive(false);
+        apiKeyRepository.save(apiKey);
+
+        // Then
+        try (StatementCount count = StatementCounter.start()) {
+            assertFalse(apiKeyRepository.findByKeyHashAndActiveTrue(keyHash).isPresent());
+            assertEquals(0, count.total(), count::describe);
+        }
+    }
+
+    @Test
+    @DisplayName("Should expose cache hit and miss counts per region as metrics")
+    void testCacheStatistics_ExposedAsMetrics() {
+        // Given
+        userRepository.findByUsername("nobody");
+
+        // When
+        var requests = meterRegistry.find("hibernate.second.level.cache.requests")
+                .tag("region", User.CACHE_REGION)
+                .functionCounters();
+
+        // Then
+        assertFalse(requests.isEmpty());
+        assertNotNull(meterRegistry.find("hibernate.second.level.cache.requests")
+                .tag("region", ApiKey.CACHE_REGION)
+                .functionCounter());
+        assertTrue(requests.stream().anyMatch(counter -> counter.getId().getTag("result") != null));
+    }
+}
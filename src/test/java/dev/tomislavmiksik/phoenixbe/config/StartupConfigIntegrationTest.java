@@ -0,0 +1,57 @@
+package dev.tomislavmiksik.phoenixbe.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests for selective lazy initialization under the {@code fast} profile.
+ */
+@SpringBootTest(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+@AutoConfigureMockMvc
+@ActiveProfiles({"test", "fast"})
+@DisplayName("Fast Startup Integration Tests")
+class StartupConfigIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ConfigurableListableBeanFactory beanFactory;
+
+    @Test
+    @DisplayName("Should create the request path infrastructure at startup")
+    void testEagerBeans_CreatedAtStartup() {
+        // Then
+        assertTrue(beanFactory.containsSingleton("dataSource"));
+        assertTrue(beanFactory.containsSingleton("entityManagerFactory"));
+        assertTrue(beanFactory.containsSingleton("securityFilterChain"));
+        assertTrue(beanFactory.containsSingleton("apiKeyAuditWriter"));
+    }
+
+    @Test
+    @DisplayName("Should create other beans on first use")
+    @WithMockUser(roles = "ADMIN")
+    void testLazyBeans_CreatedOnFirstRequest() throws Exception {
+        // Given
+        assertFalse(beanFactory.containsSingleton("jfrController"));
+
+        // When: no recording is running
+        mockMvc.perform(get("/api/admin/jfr"))
+                .andExpect(status().isNotFound());
+
+        // Then
+        assertTrue(beanFactory.containsSingleton("jfrController"));
+    }
+}
@@ -0,0 +1,122 @@
+package dev.tomislavmiksik.phoenixbe.config;
+
+import dev.tomislavmiksik.phoenixbe.entity.ApiKey;
+import dev.tomislavmiksik.phoenixbe.entity.User;
+import dev.tomislavmiksik.phoenixbe.repository.ApiKeyRepository;
+import dev.tomislavmiksik.phoenixbe.repository.UserRepository;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests for request tracing, using an in-memory exporter in place of the file exporter.
+ */
+@SpringBootTest(properties = "management.tracing.sampling.probability=1.0")
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@ActiveProfiles("test")
+@DisplayName("Tracing Integration Tests")
+class TracingIntegrationTest {
+
+    private static final String TRACE_ID = "4bf92f3577b34da6a3ce929d0e0e4736";
+    private static final String RAW_KEY = "tracing-test-key";
+
+    @TestConfiguration
+    static class ExporterConfig {
+
+        @Bean
+        InMemorySpanExporter inMemorySpanExporter() {
+            return InMemorySpanExporter.create();
+        }
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private InMemorySpanExporter spanExporter;
+
+    @Autowired
+    private SdkTracerProvider tracerProvider;
+
+    @Autowired
+    private ApiKeyRepository apiKeyRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void setUp() {
+        if (apiKeyRepository.findByKeyHashAndActiveTrue(DigestUtils.sha256Hex(RAW_KEY)).isEmpty()) {
+            apiKeyRepository.save(ApiKey.builder()
+                    .label("tracing")
+                    .keyHash(DigestUtils.sha256Hex(RAW_KEY))
+                    .createdAt(Instant.now())
+                    .expiresAt(Instant.now().plus(1, ChronoUnit.DAYS))
+                    .active(true)
+                    .build());
+        }
+        if (userRepository.findByUsername("api-key-user").isEmpty()) {
+            userRepository.save(User.builder()
+                    .username("api-key-user")
+                    .email("api-key-user@example.com")
+                    .password("unused")
+                    .build());
+        }
+        tracerProvider.forceFlush().join(5, TimeUnit.SECONDS);
+        spanExporter.reset();
+    }
+
+    @Test
+    @DisplayName("Should continue the caller's trace across filter, service and JDBC spans")
+    void testApiKeyRequest_SpansShareIncomingTrace() throws Exception {
+        // When
+        mockMvc.perform(get("/api/measurements/summary")
+                        .header("X-API-KEY", RAW_KEY)
+                        .header("traceparent", "00-" + TRACE_ID + "-00f067aa0ba902b7-01"))
+                .andExpect(status().isOk());
+        tracerProvider.forceFlush().join(5, TimeUnit.SECONDS);
+
+        // Then
+        List<SpanData> spans = spanExporter.getFinishedSpanItems().stream()
+                .filter(span -> span.getTraceId().equals(TRACE_ID))
+                .toList();
+        List<String> names = spans.stream().map(SpanData::getName).toList();
+
+        assertTrue(names.contains(MetricsConfig.AUTH_OBSERVATION), names::toString);
+        assertTrue(names.stream().anyMatch(name -> name.endsWith("#get-measurement-summary")), names::toString);
+        assertTrue(names.contains("query"), names::toString);
+
+        SpanData auth = spans.stream()
+                .filter(span -> span.getName().equals(MetricsConfig.AUTH_OBSERVATION))
+                .findFirst()
+                .orElseThrow();
+        assertEquals("api_key", auth.getAttributes().asMap().entrySet().stream()
+                .filter(entry -> entry.getKey().getKey().equals("method"))
+                .findFirst()
+                .orElseThrow()
+                .getValue());
+    }
+}
@@ -0,0 +1,207 @@
+package dev.tomislavmiksik.phoenixbe.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.tomislavmiksik.phoenixbe.entity.ApiKey;
+import dev.tomislavmiksik.phoenixbe.entity.User;
+import dev.tomislavmiksik.phoenixbe.repository.ApiKeyRepository;
+import dev.tomislavmiksik.phoenixbe.repository.UserRepository;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.anonymous;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests for the API key lifecycle endpoints.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Admin Controller Integration Tests")
+@WithMockUser(roles = "ADMIN")
+class AdminControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ApiKeyRepository apiKeyRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private String label;
+
+    @BeforeEach
+    void setUp() {
+        // Keys from other test classes share the database, so each test lists its own label
+        label = "admin-" + UUID.randomUUID();
+        if (userRepository.findByUsername("api-key-user").isEmpty()) {
+            userRepository.save(User.builder()
+                    .username("api-key-user")
+                    .email("api-key-user@example.com")
+                    .password("unused")
+                    .build());
+        }
+    }
+
+    @Test
+    @DisplayName("Should page through keys newest first with a cursor")
+    void testListApiKeys_KeysetPagination() throws Exception {
+        // Given
+        Long oldest = saveApiKey(label + "-a", true, Instant.now().plus(1, ChronoUnit.DAYS)).getId();
+        Long middle = saveApiKey(label + "-b", true, Instant.now().plus(1, ChronoUnit.DAYS)).getId();
+        Long newest = saveApiKey(label + "-c", true, Instant.now().plus(1, ChronoUnit.DAYS)).getId();
+
+        // When
+        JsonNode first = listKeys("size", "2");
+        JsonNode second = listKeys("size", "2", "before", first.get("nextCursor").asText());
+
+        // Then
+        assertEquals(newest, first.get("keys").get(0).get("id").asLong());
+        assertEquals(middle, first.get("keys").get(1).get("id").asLong());
+        assertEquals(1, second.get("keys").size());
+        assertEquals(oldest, second.get("keys").get(0).get("id").asLong());
+        assertFalse(second.has("nextCursor"));
+    }
+
+    @Test
+    @DisplayName("Should filter keys by status")
+    void testListApiKeys_FiltersByStatus() throws Exception {
+        // Given
+        Long active = saveApiKey(label + "-a", true, Instant.now().plus(1, ChronoUnit.DAYS)).getId();
+        Long expired = saveApiKey(label + "-b", true, Instant.now().minus(1, ChronoUnit.DAYS)).getId();
+        Long revoked = saveApiKey(label + "-c", false, Instant.now().plus(1, ChronoUnit.DAYS)).getId();
+
+        // When / Then
+        assertEquals(active, listKeys("status", "ACTIVE").get("keys").get(0).get("id").asLong());
+        assertEquals(expired, listKeys("status", "EXPIRED").get("keys").get(0).get("id").asLong());
+        assertEquals(revoked, listKeys("status", "REVOKED").get("keys").get(0).get("id").asLong());
+        assertEquals(1, listKeys("status", "EXPIRED").get("keys").size());
+        assertEquals("REVOKED", listKeys("status", "REVOKED").get("keys").get(0).get("status").asText());
+    }
+
+    @Test
+    @DisplayName("Should reject a revoked key on the next request")
+    void testRevokeApiKey_RejectsImmediately() throws Exception {
+        // Given: the key is cached by a successful request
+        String rawKey = label + "-key";
+        ApiKey apiKey = saveApiKey(rawKey, true, Instant.now().plus(1, ChronoUnit.DAYS));
+        useKey(rawKey).andExpect(status().isOk());
+
+        // When
+        mockMvc.perform(post("/api/admin/keys/{id}/revoke", apiKey.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("REVOKED"));
+
+        // Then
+        useKey(rawKey).andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("Should replace a rotated key with a new one under the same label")
+    void testRotateApiKey_ReplacesKey() throws Exception {
+        // Given
+        String rawKey = label + "-key";
+        ApiKey apiKey = saveApiKey(rawKey, true, Instant.now().plus(1, ChronoUnit.DAYS));
+        useKey(rawKey).andExpect(status().isOk());
+
+        // When
+        JsonNode rotated = objectMapper.readTree(mockMvc.perform(post("/api/admin/keys/{id}/rotate", apiKey.getId()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString());
+
+        // Then
+        assertNotEquals(apiKey.getId(), rotated.get("id").asLong());
+        useKey(rawKey).andExpect(status().isUnauthorized());
+        useKey(rotated.get("apiKey").asText()).andExpect(status().isOk());
+        assertEquals(label, apiKeyRepository.findById(rotated.get("id").asLong()).orElseThrow().getLabel());
+    }
+
+    @Test
+    @DisplayName("Should return 400 when revoking an unknown key")
+    void testRevokeApiKey_UnknownKey() throws Exception {
+        mockMvc.perform(post("/api/admin/keys/{id}/revoke", Long.MAX_VALUE))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Should provision keys in bulk and return each raw key once")
+    void testProvisionApiKeys_ReturnsRawKeys() throws Exception {
+        // When
+        MvcResult result = mockMvc.perform(post("/api/admin/keys/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"label\":\"" + label + "\",\"count\":50}"))
+                .andReturn();
+        List<String> rawKeys = Arrays.asList(mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString().split("\n"));
+
+        // Then
+        assertEquals(50, rawKeys.size());
+        assertEquals(50, rawKeys.stream().distinct().count());
+        assertEquals(50, listKeys("status", "ACTIVE").get("keys").size());
+        useKey(rawKeys.get(0)).andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Should return 400 for a bulk count over the limit")
+    void testProvisionApiKeys_CountOverLimit() throws Exception {
+        mockMvc.perform(post("/api/admin/keys/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"label\":\"" + label + "\",\"count\":10001}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private ApiKey saveApiKey(String rawKey, boolean active, Instant expiresAt) {
+        return apiKeyRepository.save(ApiKey.builder()
+                .label(label)
+                .keyHash(DigestUtils.sha256Hex(rawKey))
+                .createdAt(Instant.now())
+                .expiresAt(expiresAt)
+                .active(active)
+                .build());
+    }
+
+    private ResultActions useKey(String rawKey) throws Exception {
+        return mockMvc.perform(get("/api/measurements").header("X-API-KEY", rawKey).with(anonymous()));
+    }
+
+    private JsonNode listKeys(String... params) throws Exception {
+        var request = get("/api/admin/keys").param("label", label);
+        for (int i = 0; i < params.length; i += 2) {
+            request.param(params[i], params[i + 1]);
+        }
+        return objectMapper.readTree(mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString());
+    }
+}
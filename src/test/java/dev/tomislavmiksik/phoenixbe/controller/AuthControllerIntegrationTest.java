@@ -183,7 +183,7 @@ class AuthControllerIntegrationTest {
                 .role("USER")
                 .build();
 
-        when(authService.login(any(LoginRequest.class))).thenReturn(response);
+        when(authService.login(any(LoginRequest.class), any())).thenReturn(response);
 
         // When & Then
         mockMvc.perform(post("/api/auth/login")
@@ -207,7 +207,7 @@ class AuthControllerIntegrationTest {
                 .password("wrongpassword")
                 .build();
 
-        when(authService.login(any(LoginRequest.class)))
+        when(authService.login(any(LoginRequest.class), any()))
                 .thenThrow(new RuntimeException("Bad credentials"));
 
         // When & Then
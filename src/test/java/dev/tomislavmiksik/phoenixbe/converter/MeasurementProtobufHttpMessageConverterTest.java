@@ -0,0 +1,92 @@
+package dev.tomislavmiksik.phoenixbe.converter;
+
+import dev.tomislavmiksik.phoenixbe.dto.measurements.MeasurementBatchRequest;
+import dev.tomislavmiksik.phoenixbe.dto.measurements.MeasurementRequest;
+import dev.tomislavmiksik.phoenixbe.dto.measurements.MeasurementResponse;
+import dev.tomislavmiksik.phoenixbe.proto.MeasurementInput;
+import dev.tomislavmiksik.phoenixbe.proto.MeasurementInputList;
+import dev.tomislavmiksik.phoenixbe.proto.MeasurementList;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for MeasurementProtobufHttpMessageConverter.
+ */
+@DisplayName("MeasurementProtobufHttpMessageConverter Unit Tests")
+class MeasurementProtobufHttpMessageConverterTest {
+
+    private final MeasurementProtobufHttpMessageConverter converter = new MeasurementProtobufHttpMessageConverter();
+
+    @Test
+    @DisplayName("Should write a measurement list as exact hundredths")
+    void testWrite_MeasurementList() throws Exception {
+        // Given
+        MeasurementResponse response = MeasurementResponse.builder()
+                .id(1L)
+                .userId(7L)
+                .weight(new BigDecimal("75.55"))
+                .height(new BigDecimal("180.00"))
+                .waistCircumference(new BigDecimal("85.10"))
+                .measurementDate(LocalDateTime.of(2024, 1, 1, 8, 30))
+                .build();
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+
+        // When
+        converter.write(List.of(response), new ParameterizedTypeReference<List<MeasurementResponse>>() {
+        }.getType(), MeasurementProtobufHttpMessageConverter.PROTOBUF, output);
+
+        // Then
+        MeasurementList list = MeasurementList.parseFrom(output.getBodyAsBytes());
+        assertEquals(1, list.getMeasurementsCount());
+        assertEquals(7555, list.getMeasurements(0).getWeightHundredths());
+        assertEquals(8510, list.getMeasurements(0).getWaistCircumferenceHundredths());
+        assertFalse(list.getMeasurements(0).hasChestCircumferenceHundredths());
+        assertEquals(7L, list.getMeasurements(0).getUserId());
+    }
+
+    @Test
+    @DisplayName("Should read a batch request body")
+    void testRead_BatchRequest() throws Exception {
+        // Given
+        byte[] body = MeasurementInputList.newBuilder()
+                .addMeasurements(MeasurementInput.newBuilder()
+                        .setWeightHundredths(7550)
+                        .setHeightHundredths(18000)
+                        .setArmCircumferenceHundredths(3500))
+                .build()
+                .toByteArray();
+
+        // When
+        Object result = converter.read(MeasurementBatchRequest.class, null, new MockHttpInputMessage(body));
+
+        // Then
+        MeasurementRequest request = ((MeasurementBatchRequest) result).getMeasurements().get(0);
+        assertEquals(new BigDecimal("75.50"), request.getWeight());
+        assertEquals(new BigDecimal("35.00"), request.getArmCircumference());
+        assertNull(request.getChestCircumference());
+        assertNull(request.getMeasurementDate());
+    }
+
+    @Test
+    @DisplayName("Should only handle measurement payloads")
+    void testCanReadAndWrite_SupportedTypes() {
+        MediaType protobuf = MeasurementProtobufHttpMessageConverter.PROTOBUF;
+
+        assertTrue(converter.canRead(MeasurementBatchRequest.class, null, protobuf));
+        assertTrue(converter.canWrite(MeasurementResponse.class, MeasurementResponse.class, protobuf));
+        assertFalse(converter.canWrite(String.class, String.class, protobuf));
+        assertFalse(converter.canWrite(new ParameterizedTypeReference<List<String>>() {
+        }.getType(), List.class, protobuf));
+        assertFalse(converter.canWrite(MeasurementResponse.class, MeasurementResponse.class, MediaType.APPLICATION_JSON));
+    }
+}
@@ -0,0 +1,153 @@
+package dev.tomislavmiksik.phoenixbe.invalidation;
+
+import dev.tomislavmiksik.phoenixbe.entity.ApiKey;
+import dev.tomislavmiksik.phoenixbe.entity.Measurement;
+import dev.tomislavmiksik.phoenixbe.entity.User;
+import dev.tomislavmiksik.phoenixbe.repository.ApiKeyRepository;
+import dev.tomislavmiksik.phoenixbe.repository.MeasurementRepository;
+import dev.tomislavmiksik.phoenixbe.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.hibernate.Cache;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Integration tests for cache invalidation over the polled change table (the H2 transport).
+ * <p>
+ * Runs in its own context: every new context recreates the shared in-memory schema, which resets
+ * identity values underneath the pollers of contexts cached from earlier test classes.
+ */
+@SpringBootTest(properties = "cache-invalidation.retention-minutes=5")
+@ActiveProfiles("test")
+@DisplayName("Cache Invalidation Integration Tests")
+class CacheInvalidationIntegrationTest {
+
+    @Autowired
+    private ApiKeyRepository apiKeyRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MeasurementRepository measurementRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Cache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getCache();
+    }
+
+    @Test
+    @DisplayName("Should evict a cached API key when another node changes it")
+    void testRemoteInvalidation_EvictsApiKey() throws InterruptedException {
+        // Given
+        ApiKey apiKey = saveApiKey();
+        apiKeyRepository.findByKeyHashAndActiveTrue(apiKey.getKeyHash());
+        assertTrue(cache.containsEntity(ApiKey.class, apiKey.getId()));
+
+        // When
+        insertInvalidation(InvalidationMessage.API_KEYS, apiKey.getId(), "other-node");
+
+        // Then
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (cache.containsEntity(ApiKey.class, apiKey.getId()) && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertFalse(cache.containsEntity(ApiKey.class, apiKey.getId()));
+    }
+
+    @Test
+    @DisplayName("Should publish deactivations but not lastUsedAt updates")
+    void testPublish_SkipsLastUsedAt() {
+        // Given: loaded the way the authentication filter loads it
+        ApiKey apiKey = apiKeyRepository.findByKeyHashAndActiveTrue(saveApiKey().getKeyHash()).orElseThrow();
+
+        // When
+        apiKey.setLastUsedAt(Instant.now());
+        apiKeyRepository.save(apiKey);
+        int afterLastUsed = countInvalidations(InvalidationMessage.API_KEYS, apiKey.getId());
+
+        apiKey.setActive(false);
+        apiKeyRepository.save(apiKey);
+        int afterDeactivation = countInvalidations(InvalidationMessage.API_KEYS, apiKey.getId());
+
+        // Then
+        assertEquals(0, afterLastUsed);
+        assertEquals(1, afterDeactivation);
+    }
+
+    @Test
+    @DisplayName("Should publish one message per user for a batch of measurements")
+    void testPublish_DeduplicatesPerTransaction() {
+        // Given
+        User user = userRepository.save(User.builder()
+                .username("invalidation-" + UUID.randomUUID().toString().substring(0, 8))
+                .email(UUID.randomUUID() + "@example.com")
+                .password("unused")
+                .build());
+
+        // When
+        measurementRepository.saveAll(List.of(measurement(user), measurement(user), measurement(user)));
+
+        // Then
+        assertEquals(1, countInvalidations(InvalidationMessage.MEASUREMENTS, user.getId()));
+    }
+
+    private ApiKey saveApiKey() {
+        return apiKeyRepository.save(ApiKey.builder()
+                .label("invalidation")
+                .keyHash(DigestUtils.sha256Hex(UUID.randomUUID().toString()))
+                .createdAt(Instant.now())
+                .expiresAt(Instant.now().plus(1, ChronoUnit.DAYS))
+                .active(true)
+                .build());
+    }
+
+    private static Measurement measurement(User user) {
+        return Measurement.builder()
+                .user(user)
+                .weight(new BigDecimal("80.00"))
+                .height(new BigDecimal("180.00"))
+                .measurementDate(LocalDateTime.now())
+                .build();
+    }
+
+    private void insertInvalidation(String table, long key, String origin) {
+        jdbcTemplate.update(
+                "INSERT INTO cache_invalidation (table_name, entity_key, origin, created_at) VALUES (?, ?, ?, ?)",
+                table, key, origin, Timestamp.from(Instant.now()));
+    }
+
+    private int countInvalidations(String table, long key) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM cache_invalidation WHERE table_name = ? AND entity_key = ?",
+                Integer.class, table, key);
+        return count != null ? count : 0;
+    }
+}
@@ -0,0 +1,162 @@
+package dev.tomislavmiksik.phoenixbe.jdbc;
+
+import dev.tomislavmiksik.phoenixbe.entity.ApiKey;
+import dev.tomislavmiksik.phoenixbe.entity.Measurement;
+import dev.tomislavmiksik.phoenixbe.entity.User;
+import dev.tomislavmiksik.phoenixbe.repository.ApiKeyRepository;
+import dev.tomislavmiksik.phoenixbe.repository.MeasurementRepository;
+import dev.tomislavmiksik.phoenixbe.repository.UserRepository;
+import dev.tomislavmiksik.phoenixbe.service.MeasurementService;
+import net.ttddyy.dsproxy.QueryType;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.anonymous;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Query budgets for the measurement endpoints. A failing budget means a change added statements to
+ * a request, e.g. a repeated user lookup or lazy loading per row; update the number only on purpose.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Statement Budget Integration Tests")
+class StatementBudgetIntegrationTest {
+
+    private static final String USERNAME = "api-key-user";
+    private static final String RAW_KEY = "statement-budget-test-key";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeasurementService measurementService;
+
+    @Autowired
+    private ApiKeyRepository apiKeyRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MeasurementRepository measurementRepository;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        if (apiKeyRepository.findByKeyHashAndActiveTrue(DigestUtils.sha256Hex(RAW_KEY)).isEmpty()) {
+            apiKeyRepository.save(ApiKey.builder()
+                    .label("statement-budget")
+                    .keyHash(DigestUtils.sha256Hex(RAW_KEY))
+                    .createdAt(Instant.now())
+                    .expiresAt(Instant.now().plus(1, ChronoUnit.DAYS))
+                    .active(true)
+                    .build());
+        }
+        user = userRepository.findByUsername(USERNAME).orElseGet(() -> userRepository.save(User.builder()
+                .username(USERNAME)
+                .email(USERNAME + "@example.com")
+                .password("unused")
+                .build()));
+    }
+
+    private void seedMeasurements(int count) {
+        List<Measurement> measurements = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            measurements.add(Measurement.builder()
+                    .user(user)
+                    .weight(new BigDecimal("80.00"))
+                    .height(new BigDecimal("180.00"))
+                    .chestCircumference(new BigDecimal("100.00"))
+                    .armCircumference(new BigDecimal("35.00"))
+                    .legCircumference(new BigDecimal("60.00"))
+                    .waistCircumference(new BigDecimal("85.00"))
+                    .measurementDate(LocalDateTime.now().minusDays(i))
+                    .build());
+        }
+        measurementRepository.saveAll(measurements);
+    }
+
+    private StatementCount perform(RequestBuilder request) throws Exception {
+        try (StatementCount count = StatementCounter.start()) {
+            mockMvc.perform(request).andExpect(status().isOk());
+            return count;
+        }
+    }
+
+    private MockHttpServletRequestBuilder withApiKey(String path) {
+        return get(path).header("X-API-KEY", RAW_KEY).with(anonymous());
+    }
+
+    @Test
+    @DisplayName("Should list measurements with the same statements regardless of row count")
+    @WithMockUser(username = USERNAME)
+    void testGetAllMeasurements_NoNPlusOne() {
+        // Given: the user lookup is served by the second-level cache once warm
+        seedMeasurements(1);
+        measurementService.getAllMeasurements();
+        int withFew;
+        try (StatementCount count = StatementCounter.start()) {
+            measurementService.getAllMeasurements();
+            withFew = count.total();
+        }
+        seedMeasurements(20);
+
+        // When
+        try (StatementCount count = StatementCounter.start()) {
+            measurementService.getAllMeasurements();
+
+            // Then: the measurement query only
+            assertEquals(1, count.total(), count::describe);
+            assertEquals(withFew, count.total(), count::describe);
+        }
+    }
+
+    @Test
+    @DisplayName("Should stay within the statement budget of each read endpoint")
+    void testReadEndpoints_StatementBudgets() throws Exception {
+        // Given
+        seedMeasurements(5);
+        perform(withApiKey("/api/measurements"));
+        // API key authentication with a warm cache: key and user come from the second-level cache,
+        // leaving the lastUsedAt update
+        int authentication = 1;
+
+        // When / Then: one query per endpoint
+        StatementCount list = perform(withApiKey("/api/measurements"));
+        assertEquals(authentication + 1, list.total(), list::describe);
+        assertEquals(1, list.count(QueryType.UPDATE), list::describe);
+
+        StatementCount recent = perform(withApiKey("/api/measurements/recent"));
+        assertEquals(authentication + 1, recent.total(), recent::describe);
+
+        StatementCount range = perform(withApiKey("/api/measurements/range")
+                .param("from", LocalDateTime.now().minusDays(30).toString())
+                .param("to", LocalDateTime.now().toString()));
+        assertEquals(authentication + 1, range.total(), range::describe);
+
+        StatementCount summary = perform(withApiKey("/api/measurements/summary"));
+        assertEquals(authentication + 1, summary.total(), summary::describe);
+    }
+}
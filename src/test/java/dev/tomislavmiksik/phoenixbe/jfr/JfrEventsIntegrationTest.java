@@ -0,0 +1,132 @@
+package dev.tomislavmiksik.phoenixbe.jfr;
+
+import dev.tomislavmiksik.phoenixbe.entity.ApiKey;
+import dev.tomislavmiksik.phoenixbe.entity.User;
+import dev.tomislavmiksik.phoenixbe.repository.ApiKeyRepository;
+import dev.tomislavmiksik.phoenixbe.repository.UserRepository;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.anonymous;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests for the JFR events and the recording endpoints.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("JFR Events Integration Tests")
+class JfrEventsIntegrationTest {
+
+    private static final String RAW_KEY = "jfr-test-key";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JfrRecordingManager recordingManager;
+
+    @Autowired
+    private ApiKeyRepository apiKeyRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void setUp() {
+        if (apiKeyRepository.findByKeyHashAndActiveTrue(DigestUtils.sha256Hex(RAW_KEY)).isEmpty()) {
+            apiKeyRepository.save(ApiKey.builder()
+                    .label("jfr")
+                    .keyHash(DigestUtils.sha256Hex(RAW_KEY))
+                    .createdAt(Instant.now())
+                    .expiresAt(Instant.now().plus(1, ChronoUnit.DAYS))
+                    .active(true)
+                    .build());
+        }
+        if (userRepository.findByUsername("api-key-user").isEmpty()) {
+            userRepository.save(User.builder()
+                    .username("api-key-user")
+                    .email("api-key-user@example.com")
+                    .password("unused")
+                    .build());
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        recordingManager.close();
+    }
+
+    @Test
+    @DisplayName("Should reject recording endpoints without an admin")
+    void testRecordingEndpoints_RequireAdmin() throws Exception {
+        mockMvc.perform(post("/api/admin/jfr/start"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("Should record application events between start and dump")
+    @WithMockUser(roles = "ADMIN")
+    void testRecording_CapturesApplicationEvents() throws Exception {
+        // Given
+        mockMvc.perform(post("/api/admin/jfr/start").param("settings", "default"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.state").value("RUNNING"));
+
+        // When
+        mockMvc.perform(get("/api/measurements").header("X-API-KEY", RAW_KEY).with(anonymous()))
+                .andExpect(status().isOk());
+        mockMvc.perform(post("/api/admin/jfr/stop"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.state").value("STOPPED"));
+        byte[] dump = mockMvc.perform(get("/api/admin/jfr/dump"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_OCTET_STREAM))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // Then
+        Path file = Files.createTempFile("jfr-test-", ".jfr");
+        try {
+            Files.write(file, dump);
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+
+            assertTrue(events.stream().anyMatch(event -> event.getEventType().getName().equals("phoenix.Authentication")
+                    && "api_key".equals(event.getString("method"))
+                    && "success".equals(event.getString("outcome"))));
+            assertTrue(events.stream().anyMatch(event -> event.getEventType().getName().equals("phoenix.ServiceCall")
+                    && "getAllMeasurements".equals(event.getString("methodName"))));
+            assertTrue(events.stream().anyMatch(event -> event.getEventType().getName().equals("phoenix.RepositoryQuery")
+                    && "ApiKeyRepository".equals(event.getString("repository"))
+                    && event.getLong("rowCount") == 1));
+            assertTrue(events.stream().anyMatch(event -> event.getEventType().getName().equals("phoenix.ResponseBody")
+                    && event.getString("uri").equals("/api/measurements")
+                    && event.getLong("bytes") > 0));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
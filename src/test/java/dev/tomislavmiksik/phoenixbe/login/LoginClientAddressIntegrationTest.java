@@ -0,0 +1,61 @@
+package dev.tomislavmiksik.phoenixbe.login;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Integration tests for the client address the login back-off tracks, over a real connection so
+ * Tomcat's forwarded header handling applies.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "login.address-failure-threshold=2",
+        "login.username-failure-threshold=1000",
+        "login.base-backoff-ms=60000"
+})
+@ActiveProfiles("test")
+@DisplayName("Login Client Address Integration Tests")
+class LoginClientAddressIntegrationTest {
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    @LocalServerPort
+    private int port;
+
+    @Test
+    @DisplayName("Should back off the forwarded client address, not the proxy's")
+    void testLogin_BacksOffForwardedAddress() throws Exception {
+        // Given
+        for (int i = 0; i < 2; i++) {
+            assertEquals(HttpStatus.UNAUTHORIZED, login("203.0.113.7"));
+        }
+
+        // When / Then
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, login("203.0.113.7"));
+        assertEquals(HttpStatus.UNAUTHORIZED, login("198.51.100.9"));
+    }
+
+    private HttpStatus login(String clientAddress) throws Exception {
+        String body = "{\"username\":\"nobody-" + UUID.randomUUID().toString().substring(0, 8)
+                + "\",\"password\":\"wrong-password\"}";
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/auth/login"))
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .header("X-Forwarded-For", clientAddress)
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        return HttpStatus.valueOf(httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode());
+    }
+}
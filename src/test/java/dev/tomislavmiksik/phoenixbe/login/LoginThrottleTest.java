@@ -0,0 +1,163 @@
+package dev.tomislavmiksik.phoenixbe.login;
+
+import dev.tomislavmiksik.phoenixbe.exceptions.LoginThrottledException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.BadCredentialsException;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for LoginThrottle and LoginFailureTracker.
+ */
+@DisplayName("LoginThrottle Unit Tests")
+class LoginThrottleTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("Should back off a username without running the verification")
+    void testAttempt_BacksOffUsername() {
+        // Given
+        LoginThrottle throttle = throttle(3, 100, 4);
+        AtomicInteger verifications = new AtomicInteger();
+        for (int i = 0; i < 3; i++) {
+            fail(throttle, "alice", "10.0.0." + i, verifications);
+        }
+
+        // When
+        LoginThrottledException exception = assertThrows(LoginThrottledException.class,
+                () -> throttle.attempt("ALICE", "10.0.0.9", verifications::incrementAndGet));
+
+        // Then
+        assertEquals(3, verifications.get());
+        assertTrue(exception.getRetryAfterSeconds() >= 1);
+        assertEquals(1.0, meterRegistry.get("phoenix.login.blocked").tag("reason", "username").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should back off a client address trying many usernames")
+    void testAttempt_BacksOffAddress() {
+        // Given
+        LoginThrottle throttle = throttle(100, 3, 4);
+        AtomicInteger verifications = new AtomicInteger();
+        for (int i = 0; i < 3; i++) {
+            fail(throttle, "user" + i, "10.0.0.1", verifications);
+        }
+
+        // When / Then
+        assertThrows(LoginThrottledException.class,
+                () -> throttle.attempt("someone-else", "10.0.0.1", verifications::incrementAndGet));
+        assertEquals("ok", throttle.attempt("someone-else", "10.0.0.2", () -> "ok"));
+        assertEquals(1.0, meterRegistry.get("phoenix.login.blocked").tag("reason", "address").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should forget a username's failures after it logs in")
+    void testAttempt_SuccessResetsUsername() {
+        // Given
+        LoginThrottle throttle = throttle(3, 100, 4);
+        AtomicInteger verifications = new AtomicInteger();
+        fail(throttle, "alice", "10.0.0.1", verifications);
+        fail(throttle, "alice", "10.0.0.1", verifications);
+
+        // When
+        throttle.attempt("alice", "10.0.0.1", () -> "ok");
+        fail(throttle, "alice", "10.0.0.1", verifications);
+        fail(throttle, "alice", "10.0.0.1", verifications);
+
+        // Then
+        assertEquals("ok", throttle.attempt("alice", "10.0.0.1", () -> "ok"));
+    }
+
+    @Test
+    @DisplayName("Should reject attempts when every verification slot is busy")
+    void testAttempt_CapsConcurrentVerifications() throws Exception {
+        // Given
+        LoginThrottle throttle = throttle(100, 100, 1);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread holder = new Thread(() -> throttle.attempt("alice", "10.0.0.1", () -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "ok";
+        }));
+        holder.start();
+        started.await();
+
+        // When / Then
+        try {
+            assertThrows(LoginThrottledException.class, () -> throttle.attempt("bob", "10.0.0.2", () -> "ok"));
+            assertEquals(1.0, meterRegistry.get("phoenix.login.blocked").tag("reason", "capacity").counter().count());
+        } finally {
+            release.countDown();
+            holder.join();
+        }
+        assertEquals("ok", throttle.attempt("bob", "10.0.0.2", () -> "ok"));
+    }
+
+    @Test
+    @DisplayName("Should double the back-off per failure up to the maximum")
+    void testRecordFailure_ExponentialBackoff() {
+        // Given
+        LoginFailureTracker tracker = new LoginFailureTracker(1024, 2, SECOND, 10 * SECOND, 900 * SECOND);
+        long now = 0;
+
+        // When / Then
+        tracker.recordFailure("alice", now);
+        assertEquals(0, tracker.nanosUntilAllowed("alice", now));
+        tracker.recordFailure("alice", now);
+        assertEquals(SECOND, tracker.nanosUntilAllowed("alice", now));
+        tracker.recordFailure("alice", now);
+        assertEquals(2 * SECOND, tracker.nanosUntilAllowed("alice", now));
+        tracker.recordFailure("alice", now);
+        assertEquals(4 * SECOND, tracker.nanosUntilAllowed("alice", now));
+        for (int i = 0; i < 100; i++) {
+            tracker.recordFailure("alice", now);
+        }
+        assertEquals(10 * SECOND, tracker.nanosUntilAllowed("alice", now));
+    }
+
+    @Test
+    @DisplayName("Should keep memory bounded under many distinct keys")
+    void testRecordFailure_BoundedMemory() {
+        // Given
+        LoginFailureTracker tracker = new LoginFailureTracker(1024, 5, SECOND, 10 * SECOND, 900 * SECOND);
+
+        // When
+        for (int i = 0; i < 100_000; i++) {
+            tracker.recordFailure("user" + i, i);
+        }
+
+        // Then
+        assertTrue(tracker.size() <= 1024);
+    }
+
+    private LoginThrottle throttle(int usernameThreshold, int addressThreshold, int maxConcurrent) {
+        return new LoginThrottle(
+                new LoginFailureTracker(1024, usernameThreshold, 60 * SECOND, 900 * SECOND, 900 * SECOND),
+                new LoginFailureTracker(1024, addressThreshold, 60 * SECOND, 900 * SECOND, 900 * SECOND),
+                maxConcurrent, Duration.ofMillis(50), meterRegistry);
+    }
+
+    private static void fail(LoginThrottle throttle, String username, String address, AtomicInteger verifications) {
+        assertThrows(BadCredentialsException.class, () -> throttle.attempt(username, address, () -> {
+            verifications.incrementAndGet();
+            throw new BadCredentialsException("Bad credentials");
+        }));
+    }
+}
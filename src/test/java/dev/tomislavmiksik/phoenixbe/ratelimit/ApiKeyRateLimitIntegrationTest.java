@@ -0,0 +1,156 @@
+package dev.tomislavmiksik.phoenixbe.ratelimit;
+
+import dev.tomislavmiksik.phoenixbe.entity.ApiKey;
+import dev.tomislavmiksik.phoenixbe.entity.User;
+import dev.tomislavmiksik.phoenixbe.repository.ApiKeyRepository;
+import dev.tomislavmiksik.phoenixbe.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.anonymous;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests for per-API-key rate limits and daily quotas.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("API Key Rate Limit Integration Tests")
+class ApiKeyRateLimitIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ApiKeyRepository apiKeyRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ApiKeyUsageStore usageStore;
+
+    @BeforeEach
+    void setUp() {
+        if (userRepository.findByUsername("api-key-user").isEmpty()) {
+            userRepository.save(User.builder()
+                    .username("api-key-user")
+                    .email("api-key-user@example.com")
+                    .password("unused")
+                    .build());
+        }
+    }
+
+    @Test
+    @DisplayName("Should return 429 with rate limit headers once the burst is used")
+    void testRateLimit_RejectsOverBurst() throws Exception {
+        // Given
+        String rawKey = saveApiKey(1, 2, null).getLabel();
+
+        // When / Then
+        useKey(rawKey).andExpect(status().isOk())
+                .andExpect(header().string("RateLimit-Limit", "2"))
+                .andExpect(header().string("RateLimit-Remaining", "1"));
+        useKey(rawKey).andExpect(status().isOk())
+                .andExpect(header().string("RateLimit-Remaining", "0"));
+        useKey(rawKey).andExpect(status().isTooManyRequests())
+                .andExpect(header().string("RateLimit-Remaining", "0"))
+                .andExpect(header().string("Retry-After", "1"))
+                .andExpect(content().string("Rate limit exceeded"));
+    }
+
+    @Test
+    @DisplayName("Should enforce the daily quota and persist its count")
+    void testDailyQuota_EnforcedAndReconciled() throws Exception {
+        // Given
+        ApiKey apiKey = saveApiKey(null, null, 3L);
+        String rawKey = apiKey.getLabel();
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            useKey(rawKey).andExpect(status().isOk());
+        }
+        useKey(rawKey).andExpect(status().isTooManyRequests())
+                .andExpect(header().string("RateLimit-Limit", "3"))
+                .andExpect(content().string("Daily quota exceeded"));
+
+        // Then: the count reaches the database, where a fresh limiter (a restart) picks it up
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (usageStore.load(apiKey.getId(), today) < 3 && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertEquals(3, usageStore.load(apiKey.getId(), today));
+        ApiKeyRateLimiter restarted = new ApiKeyRateLimiter(0, 0, usageStore, new SimpleMeterRegistry());
+        assertFalse(restarted.tryAcquire(apiKey).allowed());
+    }
+
+    @Test
+    @DisplayName("Should insert a key's first count and add later ones to it")
+    void testAddAndLoadAll_InsertsThenAdds() {
+        // Given
+        long first = saveApiKey(null, null, 100L).getId();
+        long second = saveApiKey(null, null, 100L).getId();
+        LocalDate day = LocalDate.of(2000, 1, 1);
+
+        // When
+        usageStore.addAndLoadAll(day, Map.of(first, 2L));
+        Map<Long, Long> totals = usageStore.addAndLoadAll(day, Map.of(first, 3L, second, 4L));
+
+        // Then
+        assertEquals(5L, totals.get(first));
+        assertEquals(4L, totals.get(second));
+    }
+
+    @Test
+    @DisplayName("Should not send rate limit headers for unlimited keys")
+    void testRateLimit_UnlimitedKey() throws Exception {
+        // Given
+        String rawKey = saveApiKey(null, null, null).getLabel();
+
+        // When / Then
+        useKey(rawKey).andExpect(status().isOk())
+                .andExpect(header().doesNotExist("RateLimit-Limit"));
+    }
+
+    // The raw key doubles as the label so tests can get it back
+    private ApiKey saveApiKey(Integer requestsPerSecond, Integer burst, Long dailyQuota) {
+        String rawKey = "rate-limit-" + UUID.randomUUID();
+        return apiKeyRepository.save(ApiKey.builder()
+                .label(rawKey)
+                .keyHash(DigestUtils.sha256Hex(rawKey))
+                .createdAt(Instant.now())
+                .expiresAt(Instant.now().plus(1, ChronoUnit.DAYS))
+                .active(true)
+                .requestsPerSecond(requestsPerSecond)
+                .burst(burst)
+                .dailyQuota(dailyQuota)
+                .build());
+    }
+
+    private ResultActions useKey(String rawKey) throws Exception {
+        return mockMvc.perform(get("/api/measurements").header("X-API-KEY", rawKey).with(anonymous()));
+    }
+}
@@ -0,0 +1,83 @@
+package dev.tomislavmiksik.phoenixbe.ratelimit;
+
+import dev.tomislavmiksik.phoenixbe.entity.ApiKey;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for ApiKeyRateLimiter.
+ */
+@DisplayName("ApiKeyRateLimiter Unit Tests")
+class ApiKeyRateLimiterTest {
+
+    private final ApiKeyUsageStore usageStore = mock(ApiKeyUsageStore.class);
+    private final ApiKeyRateLimiter rateLimiter = new ApiKeyRateLimiter(0, 0, usageStore, new SimpleMeterRegistry());
+
+    @Test
+    @DisplayName("Should load a key's quota count once for concurrent first requests")
+    void testTryAcquire_LoadsQuotaOnce() throws Exception {
+        // Given
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(usageStore.load(anyLong(), any(LocalDate.class))).thenAnswer(invocation -> {
+            loading.countDown();
+            release.await();
+            return 10L;
+        });
+        ApiKey apiKey = ApiKey.builder().id(1L).dailyQuota(100L).build();
+
+        // When
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<RateLimitDecision>> decisions = new ArrayList<>();
+        try {
+            for (int i = 0; i < 8; i++) {
+                decisions.add(executor.submit(() -> rateLimiter.tryAcquire(apiKey)));
+            }
+            loading.await();
+            release.countDown();
+            for (Future<RateLimitDecision> decision : decisions) {
+                assertTrue(decision.get().allowed());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Then
+        verify(usageStore, times(1)).load(anyLong(), any(LocalDate.class));
+        assertEquals(81, rateLimiter.tryAcquire(apiKey).remaining());
+    }
+
+    @Test
+    @DisplayName("Should retry a failed quota load on the next request")
+    void testTryAcquire_RetriesFailedLoad() {
+        // Given
+        when(usageStore.load(anyLong(), any(LocalDate.class)))
+                .thenThrow(new DataAccessResourceFailureException("down"))
+                .thenReturn(0L);
+        ApiKey apiKey = ApiKey.builder().id(2L).dailyQuota(5L).build();
+
+        // When / Then
+        assertThrows(DataAccessResourceFailureException.class, () -> rateLimiter.tryAcquire(apiKey));
+        assertEquals(4, rateLimiter.tryAcquire(apiKey).remaining());
+    }
+}
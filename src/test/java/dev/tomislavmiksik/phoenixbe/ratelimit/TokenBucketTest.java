@@ -0,0 +1,91 @@
+package dev.tomislavmiksik.phoenixbe.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for TokenBucket.
+ */
+@DisplayName("TokenBucket Unit Tests")
+class TokenBucketTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    @DisplayName("Should allow a burst and then reject until a token is refilled")
+    void testTryAcquire_BurstThenRefill() {
+        // Given
+        TokenBucket bucket = new TokenBucket(2, 3);
+        long now = 1_000 * SECOND;
+
+        // When
+        long first = bucket.tryAcquire(now);
+        long second = bucket.tryAcquire(now);
+        long third = bucket.tryAcquire(now);
+        long overBurst = bucket.tryAcquire(now);
+
+        // Then
+        assertEquals(2, first);
+        assertEquals(1, second);
+        assertEquals(0, third);
+        assertEquals(-1, overBurst);
+        assertEquals(SECOND / 2, bucket.nanosUntilAvailable(now));
+        assertEquals(0, bucket.tryAcquire(now + SECOND / 2));
+        assertEquals(-1, bucket.tryAcquire(now + SECOND / 2));
+    }
+
+    @Test
+    @DisplayName("Should refill to the burst and no further")
+    void testTryAcquire_RefillCappedAtBurst() {
+        // Given
+        TokenBucket bucket = new TokenBucket(10, 5);
+        long now = 1_000 * SECOND;
+        bucket.tryAcquire(now);
+
+        // When
+        long afterIdle = bucket.tryAcquire(now + 60 * SECOND);
+
+        // Then
+        assertEquals(4, afterIdle);
+        assertEquals(0, bucket.nanosUntilFull(now + 120 * SECOND));
+    }
+
+    @Test
+    @DisplayName("Should hand out exactly the burst to concurrent callers")
+    void testTryAcquire_Concurrent() throws InterruptedException {
+        // Given
+        TokenBucket bucket = new TokenBucket(1, 1_000);
+        long now = 1_000 * SECOND;
+        AtomicInteger allowed = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        // When
+        try (ExecutorService executor = Executors.newFixedThreadPool(4)) {
+            for (int thread = 0; thread < 4; thread++) {
+                executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < 500; i++) {
+                        if (bucket.tryAcquire(now) >= 0) {
+                            allowed.incrementAndGet();
+                        }
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+        }
+
+        // Then
+        assertEquals(1_000, allowed.get());
+        assertTrue(bucket.nanosUntilAvailable(now) > 0);
+    }
+}
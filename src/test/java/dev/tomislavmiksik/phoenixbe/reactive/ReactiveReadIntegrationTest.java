@@ -0,0 +1,295 @@
+package dev.tomislavmiksik.phoenixbe.reactive;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.tomislavmiksik.phoenixbe.entity.ApiKey;
+import dev.tomislavmiksik.phoenixbe.entity.ApiKeyAudit;
+import dev.tomislavmiksik.phoenixbe.entity.Measurement;
+import dev.tomislavmiksik.phoenixbe.entity.User;
+import dev.tomislavmiksik.phoenixbe.repository.ApiKeyAuditRepository;
+import dev.tomislavmiksik.phoenixbe.repository.ApiKeyRepository;
+import dev.tomislavmiksik.phoenixbe.repository.MeasurementRepository;
+import dev.tomislavmiksik.phoenixbe.repository.UserRepository;
+import dev.tomislavmiksik.phoenixbe.security.ApiKeyScope;
+import dev.tomislavmiksik.phoenixbe.security.ApiKeyScopes;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.anonymous;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * Integration tests for the reactive read path, checked against the servlet stack's responses.
+ */
+@SpringBootTest(properties = {
+        "reactive.enabled=true",
+        "reactive.port=0"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Reactive Read Integration Tests")
+class ReactiveReadIntegrationTest {
+
+    private static final LocalDateTime BASE_DATE = LocalDateTime.of(2024, 3, 1, 8, 0);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ReactiveReadServer reactiveReadServer;
+
+    @Autowired
+    private ApiKeyRepository apiKeyRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MeasurementRepository measurementRepository;
+
+    @Autowired
+    private ApiKeyAuditRepository apiKeyAuditRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private WebTestClient webTestClient;
+
+    @BeforeEach
+    void setUp() {
+        webTestClient = WebTestClient.bindToServer()
+                .baseUrl("http://localhost:" + reactiveReadServer.getPort())
+                .build();
+
+        User user = userRepository.findByUsername("api-key-user").orElseGet(() -> userRepository.save(User.builder()
+                .username("api-key-user")
+                .email("api-key-user@example.com")
+                .password("unused")
+                .build()));
+        if (measurementRepository.findTop10ByUserIdOrderByMeasurementDateDesc(user.getId()).isEmpty()) {
+            for (int i = 0; i < 12; i++) {
+                measurementRepository.save(Measurement.builder()
+                        .user(user)
+                        .weight(new BigDecimal("80.0").subtract(BigDecimal.valueOf(i)))
+                        .height(new BigDecimal("180.0"))
+                        .waistCircumference(new BigDecimal("85.5"))
+                        .measurementDate(BASE_DATE.plusDays(i))
+                        .build());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should return 401 without an API key")
+    void testRead_MissingKey() {
+        webTestClient.get().uri("/api/measurements")
+                .exchange()
+                .expectStatus().isUnauthorized()
+                .expectBody(String.class).isEqualTo("Missing API Key");
+    }
+
+    @Test
+    @DisplayName("Should return 401 for an unknown API key")
+    void testRead_InvalidKey() {
+        webTestClient.get().uri("/api/measurements")
+                .header("X-API-KEY", "not-a-key")
+                .exchange()
+                .expectStatus().isUnauthorized()
+                .expectBody(String.class).isEqualTo("Invalid API key");
+    }
+
+    @Test
+    @DisplayName("Should return 401 for an expired API key")
+    void testRead_ExpiredKey() {
+        // Given
+        String rawKey = saveApiKey(null, Instant.now().minus(1, ChronoUnit.DAYS));
+
+        // When / Then
+        webTestClient.get().uri("/api/measurements")
+                .header("X-API-KEY", rawKey)
+                .exchange()
+                .expectStatus().isUnauthorized()
+                .expectBody(String.class).isEqualTo("Expired API key");
+    }
+
+    @Test
+    @DisplayName("Should return 403 for a key without measurements:read")
+    void testRead_UnscopedKey() {
+        // Given
+        String rawKey = saveApiKey(ApiKeyScopes.of(ApiKeyScope.MEASUREMENTS_WRITE),
+                Instant.now().plus(1, ChronoUnit.DAYS));
+
+        // When / Then
+        webTestClient.get().uri("/api/measurements")
+                .header("X-API-KEY", rawKey)
+                .exchange()
+                .expectStatus().isForbidden()
+                .expectBody(String.class).isEqualTo("Insufficient scope");
+    }
+
+    @Test
+    @DisplayName("Should not accept a Bearer token in place of an API key")
+    void testRead_BearerTokenOnly() {
+        webTestClient.get().uri("/api/measurements")
+                .header("Authorization", "Bearer not-checked")
+                .exchange()
+                .expectStatus().isUnauthorized()
+                .expectBody(String.class).isEqualTo("Missing API Key");
+    }
+
+    @Test
+    @DisplayName("Should return the same measurements as the servlet stack")
+    void testReads_MatchServlet() throws Exception {
+        // Given
+        String rawKey = saveApiKey(null, Instant.now().plus(1, ChronoUnit.DAYS));
+
+        // When / Then
+        assertSameResponse(rawKey, "/api/measurements");
+        assertSameResponse(rawKey, "/api/measurements/recent?limit=3");
+        assertSameResponse(rawKey, "/api/measurements/recent");
+        assertSameResponse(rawKey, "/api/measurements/range?from=2024-03-02T00:00:00&to=2024-03-05T00:00:00");
+        assertSameResponse(rawKey, "/api/measurements/summary");
+    }
+
+    @Test
+    @DisplayName("Should reject an inverted range like the servlet stack")
+    void testRange_Inverted() throws Exception {
+        // Given
+        String rawKey = saveApiKey(null, Instant.now().plus(1, ChronoUnit.DAYS));
+
+        // When / Then
+        assertSameResponse(rawKey, "/api/measurements/range?from=2024-03-05T00:00:00&to=2024-03-02T00:00:00");
+    }
+
+    @Test
+    @DisplayName("Should return 429 with rate limit headers once the burst is used")
+    void testRead_RateLimited() {
+        // Given
+        String rawKey = saveApiKey(ApiKey.builder().requestsPerSecond(1).burst(2));
+
+        // When / Then
+        webTestClient.get().uri("/api/measurements/summary").header("X-API-KEY", rawKey)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("RateLimit-Limit", "2")
+                .expectHeader().valueEquals("RateLimit-Remaining", "1");
+        webTestClient.get().uri("/api/measurements/summary").header("X-API-KEY", rawKey)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("RateLimit-Remaining", "0");
+        webTestClient.get().uri("/api/measurements/summary").header("X-API-KEY", rawKey)
+                .exchange()
+                .expectStatus().isEqualTo(429)
+                .expectHeader().valueEquals("RateLimit-Remaining", "0")
+                .expectHeader().valueEquals("Retry-After", "1")
+                .expectBody(String.class).isEqualTo("Rate limit exceeded");
+    }
+
+    @Test
+    @DisplayName("Should return 429 once the daily quota is used")
+    void testRead_QuotaExceeded() {
+        // Given
+        String rawKey = saveApiKey(ApiKey.builder().dailyQuota(1L));
+
+        // When / Then
+        webTestClient.get().uri("/api/measurements/summary").header("X-API-KEY", rawKey)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("RateLimit-Limit", "1")
+                .expectHeader().valueEquals("RateLimit-Remaining", "0");
+        webTestClient.get().uri("/api/measurements/summary").header("X-API-KEY", rawKey)
+                .exchange()
+                .expectStatus().isEqualTo(429)
+                .expectHeader().exists("Retry-After")
+                .expectBody(String.class).isEqualTo("Daily quota exceeded");
+    }
+
+    @Test
+    @DisplayName("Should audit every request made with a known key")
+    void testRead_Audited() throws Exception {
+        // Given
+        String limited = saveApiKey(ApiKey.builder().requestsPerSecond(1).burst(1));
+        String expired = saveApiKey(null, Instant.now().minus(1, ChronoUnit.DAYS));
+        String unscoped = saveApiKey(ApiKeyScopes.of(ApiKeyScope.MEASUREMENTS_WRITE),
+                Instant.now().plus(1, ChronoUnit.DAYS));
+
+        // When
+        for (String rawKey : List.of(limited, limited, expired, unscoped)) {
+            webTestClient.get().uri("/api/measurements").header("X-API-KEY", rawKey).exchange();
+        }
+
+        // Then
+        assertEquals(List.of(200, 429), auditedStatuses(limited, 2));
+        assertEquals(List.of(401), auditedStatuses(expired, 1));
+        assertEquals(List.of(403), auditedStatuses(unscoped, 1));
+    }
+
+    private List<Integer> auditedStatuses(String rawKey, int expected) throws InterruptedException {
+        Long apiKeyId = apiKeyRepository.findByKeyHashAndActiveTrue(DigestUtils.sha256Hex(rawKey))
+                .orElseThrow().getId();
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        List<ApiKeyAudit> entries;
+        do {
+            Thread.sleep(20);
+            entries = apiKeyAuditRepository.findInRange(apiKeyId, Instant.EPOCH, Instant.now().plusSeconds(60),
+                    PageRequest.of(0, 10)).getContent();
+        } while (entries.size() < expected && System.nanoTime() < deadline);
+
+        entries.forEach(entry -> assertEquals("/api/measurements", entry.getPath()));
+        return entries.stream()
+                .sorted(Comparator.comparing(ApiKeyAudit::getId))
+                .map(ApiKeyAudit::getStatus)
+                .toList();
+    }
+
+    private void assertSameResponse(String rawKey, String uri) throws Exception {
+        MvcResult servlet = mockMvc.perform(get(uri).header("X-API-KEY", rawKey).with(anonymous())).andReturn();
+        int expectedStatus = servlet.getResponse().getStatus();
+        String expectedBody = servlet.getResponse().getContentAsString();
+
+        String body = webTestClient.get().uri(uri)
+                .header("X-API-KEY", rawKey)
+                .exchange()
+                .expectStatus().isEqualTo(expectedStatus)
+                .expectBody(String.class).returnResult().getResponseBody();
+
+        if (expectedStatus == 200) {
+            assertEquals(objectMapper.readTree(expectedBody), objectMapper.readTree(body), uri);
+        } else {
+            assertEquals(expectedBody, body, uri);
+        }
+    }
+
+    private String saveApiKey(ApiKeyScopes scopes, Instant expiresAt) {
+        return saveApiKey(ApiKey.builder().expiresAt(expiresAt).scopes(scopes));
+    }
+
+    private String saveApiKey(ApiKey.ApiKeyBuilder builder) {
+        String rawKey = "reactive-" + UUID.randomUUID();
+        apiKeyRepository.save(builder
+                .label("reactive-test")
+                .keyHash(DigestUtils.sha256Hex(rawKey))
+                .createdAt(Instant.now())
+                .active(true)
+                .build());
+        return rawKey;
+    }
+}
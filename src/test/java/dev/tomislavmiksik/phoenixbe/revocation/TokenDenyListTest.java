@@ -0,0 +1,128 @@
+package dev.tomislavmiksik.phoenixbe.revocation;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for TokenDenyList.
+ */
+@DisplayName("TokenDenyList Unit Tests")
+class TokenDenyListTest {
+
+    private static final String TOKEN_ID = "00000000000004d2";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final Instant now = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+
+    private TokenDenyList denyList;
+
+    @BeforeEach
+    void setUp() {
+        denyList = new TokenDenyList(jdbcTemplate, Duration.ofHours(24), 1000, 0.001,
+                Duration.ofDays(7), Duration.ofHours(1), meterRegistry);
+        denyList.load();
+    }
+
+    @Test
+    @DisplayName("Should clear a token that was never revoked without a query")
+    void testIsRevoked_NeverRevoked() {
+        // When
+        boolean revoked = denyList.isRevoked(claims(TOKEN_ID, "alice", now));
+
+        // Then
+        assertFalse(revoked);
+        verify(jdbcTemplate, never()).queryForObject(anyString(), eq(Integer.class), eq(1234L));
+        assertEquals(1.0, meterRegistry.get("phoenix.jwt.revocation.checks").tag("result", "absent").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should confirm a revoked token against the database")
+    void testIsRevoked_RevokedToken() {
+        // Given
+        Claims claims = claims(TOKEN_ID, "alice", now);
+        denyList.revoke(TOKEN_ID, claims.getExpiration().toInstant());
+        when(jdbcTemplate.queryForObject(startsWith("SELECT COUNT(*) FROM revoked_token"), eq(Integer.class), eq(1234L)))
+                .thenReturn(1);
+
+        // When / Then
+        assertTrue(denyList.isRevoked(claims));
+        assertFalse(denyList.isRevoked(claims("00000000000004d3", "alice", now)));
+        assertEquals(1.0, meterRegistry.get("phoenix.jwt.revocation.checks").tag("result", "revoked").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should reject tokens issued at or before a logout-all cutoff")
+    void testIsRevoked_Cutoff() {
+        // Given
+        denyList.revokeAllBefore("alice", now);
+
+        // When / Then
+        assertTrue(denyList.isRevoked(claims(TOKEN_ID, "alice", now.minusSeconds(60))));
+        assertTrue(denyList.isRevoked(claims(TOKEN_ID, "alice", now)));
+        assertFalse(denyList.isRevoked(claims(TOKEN_ID, "alice", now.plusSeconds(1))));
+        assertFalse(denyList.isRevoked(claims(TOKEN_ID, "bob", now.minusSeconds(60))));
+    }
+
+    @Test
+    @DisplayName("Should drop buckets and cutoffs once their tokens have expired")
+    void testPurge_DropsExpired() {
+        // Given
+        denyList.revoke(TOKEN_ID, now.plus(1, ChronoUnit.HOURS));
+        denyList.revoke("00000000000004d3", now.plus(3, ChronoUnit.DAYS));
+        denyList.revokeAllBefore("alice", now);
+
+        // When
+        denyList.purge(now.plus(2, ChronoUnit.DAYS));
+
+        // Then
+        assertEquals(1.0, meterRegistry.get("phoenix.jwt.revocation.buckets").gauge().value());
+        assertEquals(1.0, meterRegistry.get("phoenix.jwt.revocation.cutoffs").gauge().value());
+
+        denyList.purge(now.plus(8, ChronoUnit.DAYS));
+        assertEquals(0.0, meterRegistry.get("phoenix.jwt.revocation.buckets").gauge().value());
+        assertEquals(0.0, meterRegistry.get("phoenix.jwt.revocation.cutoffs").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Should check every token against the database until loaded")
+    void testMightBeRevoked_BeforeLoad() {
+        // Given
+        TokenDenyList unloaded = new TokenDenyList(jdbcTemplate, Duration.ofHours(24), 1000, 0.001,
+                Duration.ofDays(7), Duration.ofHours(1), new SimpleMeterRegistry());
+
+        // When / Then
+        assertTrue(unloaded.mightBeRevoked(claims(TOKEN_ID, "alice", now)));
+        assertFalse(unloaded.confirmRevoked(claims(TOKEN_ID, "alice", now)));
+    }
+
+    private Claims claims(String tokenId, String username, Instant issuedAt) {
+        return Jwts.claims()
+                .id(tokenId)
+                .subject(username)
+                .issuedAt(Date.from(issuedAt))
+                .expiration(Date.from(issuedAt.plus(7, ChronoUnit.DAYS)))
+                .build();
+    }
+}
@@ -0,0 +1,130 @@
+package dev.tomislavmiksik.phoenixbe.security;
+
+import dev.tomislavmiksik.phoenixbe.entity.ApiKey;
+import dev.tomislavmiksik.phoenixbe.entity.User;
+import dev.tomislavmiksik.phoenixbe.repository.ApiKeyRepository;
+import dev.tomislavmiksik.phoenixbe.repository.UserRepository;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.anonymous;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests for API key scope checks.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("API Key Scope Integration Tests")
+class ApiKeyScopeIntegrationTest {
+
+    private static final String MEASUREMENT_JSON =
+            "{\"weight\":75.5,\"height\":180.0}";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ApiKeyRepository apiKeyRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void setUp() {
+        if (userRepository.findByUsername("api-key-user").isEmpty()) {
+            userRepository.save(User.builder()
+                    .username("api-key-user")
+                    .email("api-key-user@example.com")
+                    .password("unused")
+                    .build());
+        }
+    }
+
+    @Test
+    @DisplayName("Should let a read-only key read but not write")
+    void testReadOnlyKey_CannotWrite() throws Exception {
+        // Given
+        String rawKey = saveApiKey(ApiKeyScopes.of(ApiKeyScope.MEASUREMENTS_READ));
+
+        // When / Then
+        mockMvc.perform(get("/api/measurements").header("X-API-KEY", rawKey).with(anonymous()))
+                .andExpect(status().isOk());
+        mockMvc.perform(post("/api/measurements").header("X-API-KEY", rawKey).with(anonymous())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(MEASUREMENT_JSON))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(delete("/api/measurements/{id}", 1L).header("X-API-KEY", rawKey).with(anonymous()))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("Should let a write-only key write but not read")
+    void testWriteOnlyKey_CannotRead() throws Exception {
+        // Given
+        String rawKey = saveApiKey(ApiKeyScopes.of(ApiKeyScope.MEASUREMENTS_WRITE));
+
+        // When / Then
+        mockMvc.perform(get("/api/measurements").header("X-API-KEY", rawKey).with(anonymous()))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(post("/api/measurements").header("X-API-KEY", rawKey).with(anonymous())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(MEASUREMENT_JSON))
+                .andExpect(status().isCreated());
+    }
+
+    @Test
+    @DisplayName("Should give keys created without scopes read and write")
+    void testDefaultKey_CanReadAndWrite() throws Exception {
+        // Given
+        String rawKey = saveApiKey(null);
+
+        // When / Then
+        mockMvc.perform(get("/api/measurements").header("X-API-KEY", rawKey).with(anonymous()))
+                .andExpect(status().isOk());
+        mockMvc.perform(post("/api/measurements").header("X-API-KEY", rawKey).with(anonymous())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(MEASUREMENT_JSON))
+                .andExpect(status().isCreated());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    @DisplayName("Should return 400 when creating a key with an unknown scope")
+    void testCreateApiKey_UnknownScope() throws Exception {
+        mockMvc.perform(post("/api/admin/keygen")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"label\":\"scoped\",\"scopes\":[\"measurements:delete\"]}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private String saveApiKey(ApiKeyScopes scopes) {
+        String rawKey = "scope-" + UUID.randomUUID();
+        apiKeyRepository.save(ApiKey.builder()
+                .label("scope-test")
+                .keyHash(DigestUtils.sha256Hex(rawKey))
+                .createdAt(Instant.now())
+                .expiresAt(Instant.now().plus(1, ChronoUnit.DAYS))
+                .active(true)
+                .scopes(scopes)
+                .build());
+        return rawKey;
+    }
+}
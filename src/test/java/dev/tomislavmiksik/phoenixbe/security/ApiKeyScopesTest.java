@@ -0,0 +1,60 @@
+package dev.tomislavmiksik.phoenixbe.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for ApiKeyScopes.
+ */
+@DisplayName("ApiKeyScopes Unit Tests")
+class ApiKeyScopesTest {
+
+    @Test
+    @DisplayName("Should grant only the parsed scopes")
+    void testParse_GrantsParsedScopes() {
+        // When
+        ApiKeyScopes scopes = ApiKeyScopes.parse(List.of("measurements:read"));
+
+        // Then
+        assertTrue(scopes.has(ApiKeyScope.MEASUREMENTS_READ));
+        assertFalse(scopes.has(ApiKeyScope.MEASUREMENTS_WRITE));
+    }
+
+    @Test
+    @DisplayName("Should round trip through the stored form")
+    void testParse_RoundTripsStoredForm() {
+        // Given
+        String stored = ApiKeyScopes.DEFAULT.toString();
+
+        // When
+        ApiKeyScopes parsed = ApiKeyScopes.parse(stored);
+
+        // Then
+        assertEquals("measurements:read,measurements:write", stored);
+        assertEquals(ApiKeyScopes.DEFAULT, parsed);
+    }
+
+    @Test
+    @DisplayName("Should grant nothing for a blank stored value")
+    void testParse_BlankGrantsNothing() {
+        // When
+        ApiKeyScopes scopes = ApiKeyScopes.parse("");
+
+        // Then
+        assertTrue(scopes.values().isEmpty());
+        assertFalse(scopes.has(ApiKeyScope.MEASUREMENTS_READ));
+    }
+
+    @Test
+    @DisplayName("Should reject an unknown scope")
+    void testParse_RejectsUnknownScope() {
+        assertThrows(IllegalArgumentException.class, () -> ApiKeyScopes.parse(List.of("measurements:delete")));
+    }
+}
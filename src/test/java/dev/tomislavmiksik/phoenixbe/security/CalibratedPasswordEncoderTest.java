@@ -0,0 +1,72 @@
+package dev.tomislavmiksik.phoenixbe.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for CalibratedPasswordEncoder.
+ */
+@DisplayName("CalibratedPasswordEncoder Unit Tests")
+class CalibratedPasswordEncoderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CalibratedPasswordEncoder encoder = new CalibratedPasswordEncoder(5, 2, 16, meterRegistry);
+
+    @AfterEach
+    void tearDown() {
+        encoder.close();
+    }
+
+    @Test
+    @DisplayName("Should keep the calibrated cost within the bounds")
+    void testCalibrate_StaysWithinBounds() {
+        assertEquals(9, CalibratedPasswordEncoder.calibrate(Duration.ofNanos(1), 9, 11));
+        assertEquals(11, CalibratedPasswordEncoder.calibrate(Duration.ofDays(1), 9, 11));
+        assertEquals(4, CalibratedPasswordEncoder.calibrate(Duration.ofDays(1), 4, 4));
+        assertEquals(6, CalibratedPasswordEncoder.calibrate(Duration.ofDays(1), 4, 6));
+        assertThrows(IllegalArgumentException.class, () -> CalibratedPasswordEncoder.calibrate(Duration.ofDays(1), 12, 10));
+    }
+
+    @Test
+    @DisplayName("Should go below the timed cost when the minimum allows it")
+    void testCalibrate_BelowTimedCost() {
+        assertEquals(4, CalibratedPasswordEncoder.calibrate(Duration.ofNanos(1), 4, 12));
+        assertEquals(5, CalibratedPasswordEncoder.calibrate(Duration.ofNanos(1), 5, 6));
+    }
+
+    @Test
+    @DisplayName("Should hash at the configured cost on the dedicated pool")
+    void testEncode_UsesCostAndPool() {
+        // When
+        String hash = encoder.encode("password123");
+
+        // Then
+        assertTrue(hash.startsWith("$2a$05$"));
+        assertTrue(encoder.matches("password123", hash));
+        assertFalse(encoder.matches("wrong", hash));
+        // The timer is recorded inside each task, before its future completes
+        assertEquals(3, meterRegistry.get("executor").tag("name", "password.hash").timer().count());
+    }
+
+    @Test
+    @DisplayName("Should ask for a rehash of hashes stored at any other cost")
+    void testUpgradeEncoding_BothDirections() {
+        // When / Then
+        assertTrue(encoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("password123")));
+        assertFalse(encoder.upgradeEncoding(new BCryptPasswordEncoder(5).encode("password123")));
+        assertTrue(encoder.upgradeEncoding(new BCryptPasswordEncoder(6).encode("password123")));
+        assertFalse(encoder.upgradeEncoding("not-a-bcrypt-hash"));
+        assertEquals(1.0, meterRegistry.get("phoenix.password.rehash").tag("direction", "up").counter().count());
+        assertEquals(1.0, meterRegistry.get("phoenix.password.rehash").tag("direction", "down").counter().count());
+    }
+}
@@ -0,0 +1,64 @@
+package dev.tomislavmiksik.phoenixbe.security;
+
+import dev.tomislavmiksik.phoenixbe.entity.User;
+import dev.tomislavmiksik.phoenixbe.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests for rewriting password hashes at the current BCrypt cost on login.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Password Rehash Integration Tests")
+class PasswordRehashIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CalibratedPasswordEncoder passwordEncoder;
+
+    @Test
+    @DisplayName("Should rewrite a hash stored at another cost after a successful login")
+    void testLogin_RehashesAtCurrentCost() throws Exception {
+        // Given
+        String username = "rehash-" + UUID.randomUUID().toString().substring(0, 8);
+        userRepository.save(User.builder()
+                .username(username)
+                .email(username + "@example.com")
+                .password(new BCryptPasswordEncoder(passwordEncoder.getCost() + 1).encode("password123"))
+                .role(User.Role.USER)
+                .enabled(true)
+                .build());
+
+        // When
+        mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"username\":\"" + username + "\",\"password\":\"password123\"}"))
+                .andExpect(status().isOk());
+
+        // Then
+        String stored = userRepository.findByUsername(username).orElseThrow().getPassword();
+        assertEquals(String.format("$2a$%02d$", passwordEncoder.getCost()), stored.substring(0, 7));
+        assertTrue(passwordEncoder.matches("password123", stored));
+    }
+}
@@ -0,0 +1,139 @@
+package dev.tomislavmiksik.phoenixbe.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.tomislavmiksik.phoenixbe.entity.User;
+import dev.tomislavmiksik.phoenixbe.repository.RevokedTokenRepository;
+import dev.tomislavmiksik.phoenixbe.repository.UserRepository;
+import dev.tomislavmiksik.phoenixbe.revocation.TokenDenyList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests for revoking JWTs with logout and logout-all.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Token Revocation Integration Tests")
+class TokenRevocationIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RevokedTokenRepository revokedTokenRepository;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private String username;
+
+    @BeforeEach
+    void setUp() {
+        username = "revoke-" + UUID.randomUUID().toString().substring(0, 8);
+        userRepository.save(User.builder()
+                .username(username)
+                .email(username + "@example.com")
+                .password(passwordEncoder.encode("password123"))
+                .role(User.Role.ADMIN)
+                .enabled(true)
+                .build());
+    }
+
+    @Test
+    @DisplayName("Should reject a token after it was logged out")
+    void testLogout_RevokesToken() throws Exception {
+        // Given
+        String token = jwtTokenProvider.generateToken(username);
+        String other = jwtTokenProvider.generateToken(username);
+        useToken(token).andExpect(status().isOk());
+
+        // When
+        mockMvc.perform(post("/api/auth/logout").header("Authorization", "Bearer " + token))
+                .andExpect(status().isNoContent());
+
+        // Then
+        useToken(token).andExpect(status().isUnauthorized());
+        useToken(other).andExpect(status().isOk());
+        String tokenId = jwtTokenProvider.getClaims(token).getId();
+        assertTrue(revokedTokenRepository.existsById(TokenDenyList.fromTokenId(tokenId)));
+    }
+
+    @Test
+    @DisplayName("Should reject every earlier token after logout-all")
+    void testLogoutAll_RevokesEarlierTokens() throws Exception {
+        // Given
+        String first = jwtTokenProvider.generateToken(username);
+        String second = jwtTokenProvider.generateToken(username);
+
+        // When
+        mockMvc.perform(post("/api/auth/logout-all").header("Authorization", "Bearer " + second))
+                .andExpect(status().isNoContent());
+
+        // Then
+        useToken(first).andExpect(status().isUnauthorized());
+        useToken(second).andExpect(status().isUnauthorized());
+        assertNotNull(userRepository.findByUsername(username).orElseThrow().getTokensValidAfter());
+    }
+
+    @Test
+    @DisplayName("Should accept a token from a login in the same second as logout-all")
+    void testLogoutAll_LoginRightAfter() throws Exception {
+        // Given
+        String old = jwtTokenProvider.generateToken(username);
+        mockMvc.perform(post("/api/auth/logout-all").header("Authorization", "Bearer " + old))
+                .andExpect(status().isNoContent());
+
+        // When
+        String token = objectMapper.readTree(mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"username\":\"" + username + "\",\"password\":\"password123\"}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString()).get("token").asText();
+
+        // Then
+        useToken(old).andExpect(status().isUnauthorized());
+        useToken(token).andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Should return 401 when logging out without a valid token")
+    void testLogout_InvalidToken() throws Exception {
+        mockMvc.perform(post("/api/auth/logout"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(post("/api/auth/logout-all").header("Authorization", "Bearer not-a-token"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    private ResultActions useToken(String token) throws Exception {
+        return mockMvc.perform(get("/api/admin/keys")
+                .param("label", username)
+                .header("Authorization", "Bearer " + token));
+    }
+}
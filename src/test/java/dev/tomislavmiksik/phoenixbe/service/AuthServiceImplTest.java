@@ -1,23 +1,36 @@
 package dev.tomislavmiksik.phoenixbe.service;
 
+import dev.tomislavmiksik.phoenixbe.availability.UserAvailabilityIndex;
 import dev.tomislavmiksik.phoenixbe.dto.auth.AuthResponse;
+import dev.tomislavmiksik.phoenixbe.dto.auth.AvailabilityResponse;
 import dev.tomislavmiksik.phoenixbe.dto.auth.LoginRequest;
 import dev.tomislavmiksik.phoenixbe.dto.auth.RegisterRequest;
 import dev.tomislavmiksik.phoenixbe.entity.User;
+import dev.tomislavmiksik.phoenixbe.login.LoginFailureTracker;
+import dev.tomislavmiksik.phoenixbe.login.LoginThrottle;
+import dev.tomislavmiksik.phoenixbe.repository.RevokedTokenRepository;
 import dev.tomislavmiksik.phoenixbe.repository.UserRepository;
+import dev.tomislavmiksik.phoenixbe.revocation.TokenDenyList;
 import dev.tomislavmiksik.phoenixbe.security.JwtTokenProvider;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.sql.SQLException;
+import java.time.Duration;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -46,6 +59,21 @@ class AuthServiceImplTest {
     @Mock
     private AuthenticationManager authenticationManager;
 
+    @Mock
+    private UserAvailabilityIndex availabilityIndex;
+
+    @Spy
+    private LoginThrottle loginThrottle = new LoginThrottle(
+            new LoginFailureTracker(1024, 5, 1_000_000_000L, 60_000_000_000L, 900_000_000_000L),
+            new LoginFailureTracker(1024, 20, 1_000_000_000L, 60_000_000_000L, 900_000_000_000L),
+            4, Duration.ofMillis(100), new SimpleMeterRegistry());
+
+    @Mock
+    private RevokedTokenRepository revokedTokenRepository;
+
+    @Mock
+    private TokenDenyList tokenDenyList;
+
     @InjectMocks
     private AuthServiceImpl authService;
 
@@ -84,8 +112,6 @@ class AuthServiceImplTest {
     @DisplayName("Should successfully register a new user")
     void testRegister_Success() {
         // Given
-        when(userRepository.existsByUsername(anyString())).thenReturn(false);
-        when(userRepository.existsByEmail(anyString())).thenReturn(false);
         when(passwordEncoder.encode(anyString())).thenReturn("encodedPassword");
         when(userRepository.save(any(User.class))).thenReturn(testUser);
         when(jwtTokenProvider.generateToken(anyString())).thenReturn("jwt-token");
@@ -102,8 +128,6 @@ class AuthServiceImplTest {
         assertEquals(testUser.getEmail(), response.getEmail());
         assertEquals("USER", response.getRole());
 
-        verify(userRepository).existsByUsername("testuser");
-        verify(userRepository).existsByEmail("test@example.com");
         verify(passwordEncoder).encode("password123");
         verify(userRepository).save(any(User.class));
         verify(jwtTokenProvider).generateToken("testuser");
@@ -113,7 +137,8 @@ class AuthServiceImplTest {
     @DisplayName("Should throw exception when username already exists")
     void testRegister_UsernameExists() {
         // Given
-        when(userRepository.existsByUsername(anyString())).thenReturn(true);
+        when(passwordEncoder.encode(anyString())).thenReturn("encodedPassword");
+        when(userRepository.save(any(User.class))).thenThrow(uniqueViolation("PUBLIC.UK_USERS_USERNAME_INDEX_4"));
 
         // When & Then
         RuntimeException exception = assertThrows(RuntimeException.class, () -> {
@@ -121,17 +146,15 @@ class AuthServiceImplTest {
         });
 
         assertEquals("Username is already taken", exception.getMessage());
-        verify(userRepository).existsByUsername("testuser");
-        verify(userRepository, never()).existsByEmail(anyString());
-        verify(userRepository, never()).save(any(User.class));
+        verify(jwtTokenProvider, never()).generateToken(anyString());
     }
 
     @Test
     @DisplayName("Should throw exception when email already exists")
     void testRegister_EmailExists() {
         // Given
-        when(userRepository.existsByUsername(anyString())).thenReturn(false);
-        when(userRepository.existsByEmail(anyString())).thenReturn(true);
+        when(passwordEncoder.encode(anyString())).thenReturn("encodedPassword");
+        when(userRepository.save(any(User.class))).thenThrow(uniqueViolation(User.EMAIL_CONSTRAINT));
 
         // When & Then
         RuntimeException exception = assertThrows(RuntimeException.class, () -> {
@@ -139,11 +162,85 @@ class AuthServiceImplTest {
         });
 
         assertEquals("Email is already in use", exception.getMessage());
-        verify(userRepository).existsByUsername("testuser");
-        verify(userRepository).existsByEmail("test@example.com");
+        verify(jwtTokenProvider, never()).generateToken(anyString());
+    }
+
+    @Test
+    @DisplayName("Should reject a username the filter may hold before hashing the password")
+    void testRegister_LikelyDuplicateRejectedBeforeHashing() {
+        // Given
+        when(availabilityIndex.mightHaveUsername("testuser")).thenReturn(true);
+        when(userRepository.existsByUsername("testuser")).thenReturn(true);
+
+        // When & Then
+        RuntimeException exception = assertThrows(RuntimeException.class, () -> {
+            authService.register(registerRequest);
+        });
+
+        assertEquals("Username is already taken", exception.getMessage());
+        verify(passwordEncoder, never()).encode(anyString());
         verify(userRepository, never()).save(any(User.class));
     }
 
+    @Test
+    @DisplayName("Should add registered users to the availability filters")
+    void testRegister_AddsToAvailabilityIndex() {
+        // Given
+        when(passwordEncoder.encode(anyString())).thenReturn("encodedPassword");
+        when(userRepository.save(any(User.class))).thenReturn(testUser);
+        when(jwtTokenProvider.generateToken(anyString())).thenReturn("jwt-token");
+
+        // When
+        authService.register(registerRequest);
+
+        // Then
+        verify(userRepository, never()).existsByUsername(anyString());
+        verify(userRepository, never()).existsByEmail(anyString());
+        verify(availabilityIndex).add("testuser", "test@example.com");
+    }
+
+    @Test
+    @DisplayName("Should answer availability from the filters and query only possible collisions")
+    void testCheckAvailability() {
+        // Given
+        when(availabilityIndex.mightHaveUsername("newuser")).thenReturn(false);
+        when(availabilityIndex.mightHaveEmail("test@example.com")).thenReturn(true);
+        when(userRepository.existsByEmail("test@example.com")).thenReturn(true);
+
+        // When
+        AvailabilityResponse response = authService.checkAvailability("newuser", "test@example.com");
+
+        // Then
+        assertTrue(response.getUsernameAvailable());
+        assertFalse(response.getEmailAvailable());
+        verify(userRepository, never()).existsByUsername(anyString());
+    }
+
+    @Test
+    @DisplayName("Should require a username or email for availability checks")
+    void testCheckAvailability_NothingToCheck() {
+        // When & Then
+        RuntimeException exception = assertThrows(RuntimeException.class, () -> {
+            authService.checkAvailability(" ", null);
+        });
+
+        assertEquals("Username or email is required", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should rethrow integrity violations of other constraints")
+    void testRegister_OtherConstraintViolation() {
+        // Given
+        DataIntegrityViolationException violation = uniqueViolation("check_role");
+        when(passwordEncoder.encode(anyString())).thenReturn("encodedPassword");
+        when(userRepository.save(any(User.class))).thenThrow(violation);
+
+        // When & Then
+        assertSame(violation, assertThrows(DataIntegrityViolationException.class, () -> {
+            authService.register(registerRequest);
+        }));
+    }
+
     @Test
     @DisplayName("Should successfully login with valid credentials")
     void testLogin_Success() {
@@ -155,7 +252,7 @@ class AuthServiceImplTest {
         when(jwtTokenProvider.generateToken(any(Authentication.class))).thenReturn("jwt-token");
 
         // When
-        AuthResponse response = authService.login(loginRequest);
+        AuthResponse response = authService.login(loginRequest, "127.0.0.1");
 
         // Then
         assertNotNull(response);
@@ -179,7 +276,7 @@ class AuthServiceImplTest {
 
         // When & Then
         RuntimeException exception = assertThrows(RuntimeException.class, () -> {
-            authService.login(loginRequest);
+            authService.login(loginRequest, "127.0.0.1");
         });
 
         assertEquals("Bad credentials", exception.getMessage());
@@ -191,8 +288,6 @@ class AuthServiceImplTest {
     @DisplayName("Should encode password during registration")
     void testRegister_PasswordEncoding() {
         // Given
-        when(userRepository.existsByUsername(anyString())).thenReturn(false);
-        when(userRepository.existsByEmail(anyString())).thenReturn(false);
         when(passwordEncoder.encode("password123")).thenReturn("super-secure-encoded-password");
         when(userRepository.save(any(User.class))).thenReturn(testUser);
         when(jwtTokenProvider.generateToken(anyString())).thenReturn("jwt-token");
@@ -208,8 +303,6 @@ class AuthServiceImplTest {
     @DisplayName("Should assign USER role by default during registration")
     void testRegister_DefaultRole() {
         // Given
-        when(userRepository.existsByUsername(anyString())).thenReturn(false);
-        when(userRepository.existsByEmail(anyString())).thenReturn(false);
         when(passwordEncoder.encode(anyString())).thenReturn("encodedPassword");
         when(jwtTokenProvider.generateToken(anyString())).thenReturn("jwt-token");
 
@@ -230,4 +323,9 @@ class AuthServiceImplTest {
         // Then
         assertEquals("USER", response.getRole());
     }
+
+    private static DataIntegrityViolationException uniqueViolation(String constraintName) {
+        return new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("duplicate key", new SQLException(), constraintName));
+    }
 }
@@ -0,0 +1,108 @@
+package dev.tomislavmiksik.phoenixbe.service;
+
+import dev.tomislavmiksik.phoenixbe.dto.auth.RegisterRequest;
+import dev.tomislavmiksik.phoenixbe.jdbc.StatementCount;
+import dev.tomislavmiksik.phoenixbe.jdbc.StatementCounter;
+import net.ttddyy.dsproxy.QueryType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Integration tests for registration against the database's unique constraints.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Registration Integration Tests")
+class AuthServiceRegistrationIntegrationTest {
+
+    @Autowired
+    private AuthService authService;
+
+    @Test
+    @DisplayName("Should register a user with a single insert")
+    void testRegister_SingleStatement() {
+        // When
+        try (StatementCount count = StatementCounter.start()) {
+            authService.register(request("single-insert", "single-insert@example.com"));
+
+            // Then
+            assertEquals(1, count.total(), count::describe);
+            assertEquals(1, count.count(QueryType.INSERT), count::describe);
+        }
+    }
+
+    @Test
+    @DisplayName("Should report a taken username or email from the unique constraints")
+    void testRegister_Duplicates() {
+        // Given
+        authService.register(request("duplicate", "duplicate@example.com"));
+
+        // When & Then
+        RuntimeException username = assertThrows(RuntimeException.class,
+                () -> authService.register(request("duplicate", "other@example.com")));
+        assertEquals("Username is already taken", username.getMessage());
+
+        RuntimeException email = assertThrows(RuntimeException.class,
+                () -> authService.register(request("other", "duplicate@example.com")));
+        assertEquals("Email is already in use", email.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should let exactly one of concurrent registrations for a username succeed")
+    void testRegister_Concurrent() throws InterruptedException {
+        // Given
+        int attempts = 4;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Callable<Void>> registrations = new ArrayList<>();
+        for (int i = 0; i < attempts; i++) {
+            RegisterRequest request = request("concurrent", "concurrent-" + i + "@example.com");
+            registrations.add(() -> {
+                start.await();
+                authService.register(request);
+                return null;
+            });
+        }
+
+        // When
+        List<Future<Void>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(attempts)) {
+            registrations.forEach(registration -> results.add(executor.submit(registration)));
+            start.countDown();
+        }
+
+        // Then
+        int succeeded = 0;
+        for (Future<Void> result : results) {
+            try {
+                result.get();
+                succeeded++;
+            } catch (ExecutionException e) {
+                assertEquals("Username is already taken", e.getCause().getMessage());
+            }
+        }
+        assertEquals(1, succeeded);
+    }
+
+    private static RegisterRequest request(String username, String email) {
+        return RegisterRequest.builder()
+                .username(username)
+                .email(email)
+                .password("password123")
+                .build();
+    }
+}
@@ -2,6 +2,7 @@ package dev.tomislavmiksik.phoenixbe.service;
 
 import dev.tomislavmiksik.phoenixbe.dto.measurements.MeasurementRequest;
 import dev.tomislavmiksik.phoenixbe.dto.measurements.MeasurementResponse;
+import dev.tomislavmiksik.phoenixbe.dto.measurements.MeasurementSummaryResponse;
 import dev.tomislavmiksik.phoenixbe.entity.Measurement;
 import dev.tomislavmiksik.phoenixbe.entity.User;
 import dev.tomislavmiksik.phoenixbe.repository.MeasurementRepository;
@@ -187,6 +188,47 @@ class MeasurementServiceTest {
         verify(measurementRepository).findTop10ByUserIdOrderByMeasurementDateDesc(testUser.getId());
     }
 
+    @Test
+    @DisplayName("Should get measurements within a date range")
+    void testGetMeasurementsInRange_Success() {
+        // Given
+        LocalDateTime from = LocalDateTime.now().minusDays(7);
+        LocalDateTime to = LocalDateTime.now().plusDays(1);
+        when(measurementRepository.findByUserIdAndMeasurementDateBetweenOrderByMeasurementDateDesc(
+                testUser.getId(), from, to))
+                .thenReturn(List.of(testMeasurement));
+
+        // When
+        List<MeasurementResponse> responses = measurementService.getMeasurementsInRange(from, to);
+
+        // Then
+        assertEquals(1, responses.size());
+        assertEquals(testMeasurement.getId(), responses.get(0).getId());
+        verify(measurementRepository)
+                .findByUserIdAndMeasurementDateBetweenOrderByMeasurementDateDesc(testUser.getId(), from, to);
+    }
+
+    @Test
+    @DisplayName("Should get measurement summary for current user")
+    void testGetMeasurementSummary_Success() {
+        // Given
+        MeasurementSummaryResponse summary = MeasurementSummaryResponse.builder()
+                .count(2L)
+                .minWeight(new BigDecimal("75.5"))
+                .maxWeight(new BigDecimal("76.0"))
+                .averageWeight(75.75)
+                .build();
+        when(measurementRepository.summarizeByUserId(testUser.getId())).thenReturn(summary);
+
+        // When
+        MeasurementSummaryResponse response = measurementService.getMeasurementSummary();
+
+        // Then
+        assertEquals(2L, response.getCount());
+        assertEquals(75.75, response.getAverageWeight());
+        verify(measurementRepository).summarizeByUserId(testUser.getId());
+    }
+
     @Test
     @DisplayName("Should get measurement by ID for current user")
     void testGetMeasurementById_Success() {